@@ -0,0 +1,18 @@
+package client;
+
+import lombok.Getter;
+
+/**
+ * 请求成功但返回结果中的code表示失败，例如令牌无效、额度用尽，此时data为null
+ */
+@Getter
+public class ApiException extends RuntimeException {
+    private final int code;
+    private final String serverMessage;
+
+    public ApiException(int code, String serverMessage) {
+        super(String.format("接口返回错误，code：%s，message：%s", code, serverMessage));
+        this.code = code;
+        this.serverMessage = serverMessage;
+    }
+}
@@ -0,0 +1,110 @@
+package client;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 非阻塞重试。与Retry不同，等待期间不占用线程，由ScheduledExecutorService在退避时间到达后发起下一次请求。
+ * 取消返回的CompletableFuture会同时取消正在进行的请求和尚未发起的重试。
+ * <p>
+ * 示例：AsyncRetry.getIntance().exec(() -> asyncStockApi.getDayKLine(...), RetryPolicy.custom().maxAttempts(5).deadline(60000))
+ */
+public class AsyncRetry {
+    private static final Logger log = LoggerFactory.getLogger(AsyncRetry.class);
+    private static final AsyncRetry intance = new AsyncRetry(newScheduler());
+
+    private final ScheduledExecutorService scheduler;
+
+    public AsyncRetry(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public static AsyncRetry getIntance() {
+        return intance;
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat("waizao-retry-%d").setDaemon(true).build());
+        //调用提前结束时及时移除超时任务
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    public <T> CompletableFuture<T> exec(Supplier<CompletableFuture<T>> execBody, RetryPolicy policy) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (policy.getDeadline() > 0) {
+            ScheduledFuture<?> timeout = scheduler.schedule(() -> result.completeExceptionally(new TimeoutException(String.format("重试超过最长耗时%sms", policy.getDeadline()))),
+                    policy.getDeadline(), TimeUnit.MILLISECONDS);
+            result.whenComplete((data, e) -> timeout.cancel(false));
+        }
+        //结果已完成（取消或超时）时，取消正在进行的请求
+        AtomicReference<CompletableFuture<T>> current = new AtomicReference<>();
+        result.whenComplete((data, e) -> {
+            CompletableFuture<T> future = current.get();
+            if (future != null) {
+                future.cancel(false);
+            }
+        });
+        attempt(execBody, policy, 1, result, current);
+        return result;
+    }
+
+    private <T> void attempt(Supplier<CompletableFuture<T>> execBody, RetryPolicy policy, int count, CompletableFuture<T> result,
+                             AtomicReference<CompletableFuture<T>> current) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<T> future;
+        try {
+            future = execBody.get();
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        current.set(future);
+        if (result.isDone()) {
+            future.cancel(false);
+            return;
+        }
+        future.whenComplete((data, e) -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (e == null && (data != null || !policy.isRetryOnNull())) {
+                result.complete(data);
+                return;
+            }
+            if (e != null && !policy.getRetryable().test(e)) {
+                log.error("第{}次获取数据失败，不可重试。", count, e);
+                result.completeExceptionally(RetryPolicy.unwrap(e));
+                return;
+            }
+            if (count >= policy.getMaxAttempts()) {
+                if (e != null) {
+                    result.completeExceptionally(RetryPolicy.unwrap(e));
+                } else {
+                    result.complete(null);
+                }
+                return;
+            }
+            long delay = policy.delay(count, ThreadLocalRandom.current().nextDouble());
+            if (e != null) {
+                log.error("第{}次获取数据失败，{}ms后重试。", count, delay, e);
+            } else {
+                log.info("第{}次获取数据为空，{}ms后重试。", count, delay);
+            }
+            scheduler.schedule(() -> attempt(execBody, policy, count + 1, result, current), delay, TimeUnit.MILLISECONDS);
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package client;
+
+import com.google.common.io.CountingInputStream;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.entity.DeflateInputStream;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 请求时声明支持gzip、deflate压缩，返回时按照Content-Encoding流式解压，并统计压缩前后的字节数
+ */
+public class ContentEncodingInterceptor implements HttpRequestInterceptor, HttpResponseInterceptor {
+    public static final ContentEncodingInterceptor INSTANCE = new ContentEncodingInterceptor();
+
+    @Override
+    public void process(HttpRequest request, HttpContext context) throws HttpException, IOException {
+        if (!request.containsHeader("Accept-Encoding")) {
+            request.addHeader("Accept-Encoding", "gzip, deflate");
+        }
+    }
+
+    @Override
+    public void process(HttpResponse response, HttpContext context) throws HttpException, IOException {
+        HttpRequest request = (HttpRequest) context.getAttribute(HttpCoreContext.HTTP_REQUEST);
+        HttpHost host = (HttpHost) context.getAttribute(HttpCoreContext.HTTP_TARGET_HOST);
+        String uri = request == null ? "" : request.getRequestLine().getUri();
+        decode(response, host == null || uri.contains("://") ? uri : host.toURI() + uri);
+    }
+
+    /**
+     * 按照Content-Encoding替换为解压后的entity。异步客户端在接收完数据后会替换entity，需在回调中直接调用本方法
+     */
+    public static void decode(HttpResponse response, String url) throws HttpException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null || entity instanceof DecompressingEntity) {
+            return;
+        }
+        Header header = entity.getContentEncoding();
+        String encoding = header == null ? "identity" : header.getValue().trim().toLowerCase(Locale.ROOT);
+        if (!"identity".equals(encoding) && !"gzip".equals(encoding) && !"x-gzip".equals(encoding) && !"deflate".equals(encoding)) {
+            throw new HttpException("不支持的Content-Encoding：" + encoding);
+        }
+        response.setEntity(new DecompressingEntity(entity, url, encoding));
+        response.removeHeaders("Content-Length");
+        response.removeHeaders("Content-Encoding");
+        response.removeHeaders("Content-MD5");
+    }
+
+    private static class DecompressingEntity extends HttpEntityWrapper {
+        private final String url;
+        private final String encoding;
+
+        DecompressingEntity(HttpEntity entity, String url, String encoding) {
+            super(entity);
+            this.url = url;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            CountingInputStream compressed = new CountingInputStream(wrappedEntity.getContent());
+            InputStream decoded;
+            switch (encoding) {
+                case "gzip":
+                case "x-gzip":
+                    decoded = new GZIPInputStream(compressed);
+                    break;
+                case "deflate":
+                    decoded = new DeflateInputStream(compressed);
+                    break;
+                default:
+                    decoded = compressed;
+            }
+            CountingInputStream decompressed = new CountingInputStream(decoded);
+            return new FilterInputStream(decompressed) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    if (!closed) {
+                        closed = true;
+                        TransferMetrics.record(new TransferMetric(url, encoding, compressed.getCount(), decompressed.getCount()));
+                    }
+                    super.close();
+                }
+            };
+        }
+
+        @Override
+        public Header getContentEncoding() {
+            return null;
+        }
+
+        @Override
+        public long getContentLength() {
+            return "identity".equals(encoding) ? super.getContentLength() : -1;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package client;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.http.Consts;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 基于HttpCore NIO的非阻塞Http客户端，少量IO线程即可支撑大量并发请求
+ */
+@Getter
+public class HttpAsyncClientRest {
+    private static final Logger log = LoggerFactory.getLogger(HttpAsyncClientRest.class);
+    //reInit之后旧的httpClient延迟关闭的秒数，留给在途的请求完成
+    public static final long CLOSE_DELAY_SECONDS = 60;
+    public final static HttpAsyncClientRest intance = new HttpAsyncClientRest();
+    private volatile CloseableHttpAsyncClient httpClient = custom().build();
+    //限流器，为null时不限流
+    @Setter
+    private volatile RateLimiter rateLimiter;
+    //解压、解码响应以及AsyncStockApi解析Json的线程池，默认为CPU核数个守护线程
+    @Setter
+    private volatile Executor executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder().setNameFormat("waizao-decode-%d").setDaemon(true).build());
+    @Getter(AccessLevel.NONE)
+    private final ScheduledExecutorService closer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("waizao-async-http-closer-%d").setDaemon(true).build());
+
+    private HttpAsyncClientRest() {
+    }
+
+    public static HttpAsyncClientRest getIntance() {
+        return HttpAsyncClientRest.intance;
+    }
+
+    public static Builder custom() {
+        return new Builder();
+    }
+
+    /**
+     * 按照连接池配置重建httpClient。新的请求立即使用新的httpClient，旧的httpClient在CLOSE_DELAY_SECONDS秒后关闭，
+     * 已经发出的请求可以在此期间正常完成，届时仍未完成的请求以异常结束
+     *
+     * @param builder 连接池配置，通过HttpAsyncClientRest.custom()创建
+     */
+    public void reInit(Builder builder) {
+        CloseableHttpAsyncClient old = httpClient;
+        httpClient = builder.build();
+        closer.schedule(() -> {
+            try {
+                old.close();
+            } catch (IOException e) {
+                log.warn("关闭旧的httpClient失败", e);
+            }
+        }, CLOSE_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public CompletableFuture<String> get(String url, Map<String, Object> para) {
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(12000).setConnectionRequestTimeout(12000).setSocketTimeout(12000).setExpectContinueEnabled(false).setCircularRedirectsAllowed(true).build();
+        return get(url, para, requestConfig);
+    }
+
+    public CompletableFuture<String> get(String url, Map<String, Object> para, RequestConfig requestConfig) {
+        HttpGet httpGet = new HttpGet(String.format("%s?%s", url, para.entrySet().stream().map(entry -> String.format("%s=%s", entry.getKey(), entry.getValue())).collect(Collectors.joining("&"))));
+        httpGet.setConfig(requestConfig);
+        return execute(url, para, httpGet);
+    }
+
+    public CompletableFuture<String> post(String url, Map<String, Object> para) {
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(12000).setConnectionRequestTimeout(12000).setSocketTimeout(12000).setExpectContinueEnabled(false).setCircularRedirectsAllowed(true).build();
+        return post(url, para, requestConfig);
+    }
+
+    public CompletableFuture<String> post(String url, Map<String, Object> para, RequestConfig requestConfig) {
+        HttpPost httpPost = new HttpPost(url);
+        httpPost.setConfig(requestConfig);
+        httpPost.setEntity(new UrlEncodedFormEntity(para.entrySet().stream().map(entry -> new BasicNameValuePair(entry.getKey(), String.valueOf(entry.getValue()))).collect(Collectors.toList()), Consts.ISO_8859_1));
+        return execute(url, para, httpPost);
+    }
+
+    private CompletableFuture<String> execute(String url, Map<String, Object> para, HttpUriRequest request) {
+        RateLimiter limiter = rateLimiter;
+        if (limiter == null) {
+            return execute(request);
+        }
+        Object token = para.get("token");
+        CompletableFuture<Void> permit = limiter.acquire(url, token == null ? null : String.valueOf(token));
+        AtomicReference<CompletableFuture<String>> exchange = new AtomicReference<>();
+        CompletableFuture<String> result = permit.thenCompose(v -> {
+            CompletableFuture<String> future = execute(request);
+            exchange.set(future);
+            return future;
+        });
+        //取消时同时放弃排队中的令牌和已发出的请求
+        result.whenComplete((data, e) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+                CompletableFuture<String> future = exchange.get();
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * IO线程只负责收取响应，解压与解码交给executor，避免大响应阻塞同一IO线程上的其他请求。
+     * 取消返回的CompletableFuture会中止对应的Http请求
+     */
+    private CompletableFuture<String> execute(HttpUriRequest request) {
+        CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+        Future<HttpResponse> exchange = httpClient.execute(request, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse result) {
+                response.complete(result);
+            }
+
+            @Override
+            public void failed(Exception e) {
+                response.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                response.completeExceptionally(new CancellationException(request.getURI().toString()));
+            }
+        });
+        CompletableFuture<String> future = response.thenApplyAsync(result -> decode(request, result), executor);
+        future.whenComplete((data, e) -> {
+            if (future.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    private static String decode(HttpUriRequest request, HttpResponse response) {
+        try {
+            ContentEncodingInterceptor.decode(response, request.getURI().toString());
+            int status = response.getStatusLine().getStatusCode();
+            if (status >= 400) {
+                EntityUtils.consume(response.getEntity());
+                throw new CompletionException(new HttpStatusException(status, request.getURI().toString()));
+            }
+            return EntityUtils.toString(response.getEntity());
+        } catch (IOException e) {
+            throw new CompletionException(new UncheckedIOException(e));
+        } catch (HttpException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 连接池配置
+     */
+    @Getter
+    public static class Builder {
+        //连接池最大连接数
+        private int maxTotal = 200;
+        //每个路由（域名）最大连接数
+        private int maxPerRoute = 50;
+        //IO线程数，默认为CPU核数
+        private int ioThreadCount = Runtime.getRuntime().availableProcessors();
+        //连接存活时间（秒），小于等于0表示不限制
+        private long timeToLive = 300;
+
+        private Builder() {
+        }
+
+        public Builder maxTotal(int maxTotal) {
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        public Builder maxPerRoute(int maxPerRoute) {
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        public Builder ioThreadCount(int ioThreadCount) {
+            this.ioThreadCount = ioThreadCount;
+            return this;
+        }
+
+        public Builder timeToLive(long timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public CloseableHttpAsyncClient build() {
+            try {
+                //IO线程设置为守护线程，避免阻止JVM退出
+                DefaultConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(IOReactorConfig.custom().setIoThreadCount(ioThreadCount).setSoKeepAlive(true).build(),
+                        new ThreadFactoryBuilder().setNameFormat("waizao-io-%d").setDaemon(true).build());
+                PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(ioReactor, null,
+                        RegistryBuilder.<SchemeIOSessionStrategy>create().register("http", NoopIOSessionStrategy.INSTANCE).register("https", SSLIOSessionStrategy.getDefaultStrategy()).build(),
+                        null, null, timeToLive, TimeUnit.SECONDS);
+                connectionManager.setMaxTotal(maxTotal);
+                connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+                CloseableHttpAsyncClient client = HttpAsyncClients.custom().setConnectionManager(connectionManager)
+                        .addInterceptorLast((HttpRequestInterceptor) ContentEncodingInterceptor.INSTANCE)
+                        .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("waizao-reactor-%d").setDaemon(true).build()).build();
+                client.start();
+                return client;
+            } catch (IOReactorException e) {
+                throw new IllegalStateException("初始化异步Http客户端失败", e);
+            }
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package client;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import constant.MethodType;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -24,14 +44,43 @@ import java.util.stream.Collectors;
 @Getter
 @Setter
 public class HttpClientRest {
+    private static final Logger log = LoggerFactory.getLogger(HttpClientRest.class);
+    //reInit之后旧的httpClient延迟关闭的秒数，留给在途的请求完成
+    public static final long CLOSE_DELAY_SECONDS = 60;
     public final static HttpClientRest intance = new HttpClientRest();
-    private CloseableHttpClient httpClient = HttpClientBuilder.create().build();
+    private volatile CloseableHttpClient httpClient = custom().build();
+    //限流器，为null时不限流
+    private volatile RateLimiter rateLimiter;
+    @Getter(AccessLevel.NONE)
+    private final ScheduledExecutorService closer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("waizao-http-closer-%d").setDaemon(true).build());
 
     private HttpClientRest() {
     }
 
     public void reInit() {
-        httpClient = HttpClientBuilder.create().build();
+        reInit(custom());
+    }
+
+    /**
+     * 按照连接池配置重建httpClient。新的请求立即使用新的httpClient，旧的httpClient在CLOSE_DELAY_SECONDS秒后关闭，
+     * 已经发出的请求可以在此期间正常完成；超过该时间仍未读完的响应（例如openReader返回的Reader）会因连接关闭而失败
+     *
+     * @param builder 连接池配置，通过HttpClientRest.custom()创建
+     */
+    public void reInit(Builder builder) {
+        CloseableHttpClient old = httpClient;
+        httpClient = builder.build();
+        closer.schedule(() -> {
+            try {
+                old.close();
+            } catch (IOException e) {
+                log.warn("关闭旧的httpClient失败", e);
+            }
+        }, CLOSE_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static Builder custom() {
+        return new Builder();
     }
 
     public static HttpClientRest getIntance() {
@@ -48,11 +97,25 @@ public class HttpClientRest {
         httpGet.setHeaders(headers);
         httpGet.setConfig(requestConfig);
         httpGet.setConfig(RequestConfig.custom().setConnectTimeout(12000).setConnectionRequestTimeout(12000).setSocketTimeout(12000).setExpectContinueEnabled(false).setCircularRedirectsAllowed(true).build());
+        acquire(url, null);
         try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
             return EntityUtils.toString(response.getEntity());
         }
     }
 
+    /**
+     * 以字节数组返回结果，不按字符集解码，用于自行解析的场景
+     */
+    public byte[] getBytes(String url, Header[] headers) throws IOException {
+        HttpGet httpGet = new HttpGet(url);
+        httpGet.setHeaders(headers);
+        httpGet.setConfig(RequestConfig.custom().setConnectTimeout(12000).setConnectionRequestTimeout(12000).setSocketTimeout(12000).setExpectContinueEnabled(false).setCircularRedirectsAllowed(true).build());
+        acquire(url, null);
+        try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
+            return EntityUtils.toByteArray(response.getEntity());
+        }
+    }
+
     public String get(String url, Map<String, Object> para) throws IOException {
         RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(12000).setConnectionRequestTimeout(12000).setSocketTimeout(12000).setExpectContinueEnabled(false).setCircularRedirectsAllowed(true).build();
         return get(url, para, requestConfig);
@@ -61,12 +124,57 @@ public class HttpClientRest {
     public String get(String url, Map<String, Object> para, RequestConfig requestConfig) throws IOException {
         HttpGet httpGet = new HttpGet(String.format("%s?%s", url, para.entrySet().stream().map(entry -> String.format("%s=%s", entry.getKey(), entry.getValue())).collect(Collectors.joining("&"))));
         httpGet.setConfig(requestConfig);
+        acquire(url, para);
         try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
             return EntityUtils.toString(response.getEntity());
         }
     }
 
 
+    /**
+     * 以流的方式读取返回结果，不在内存中缓存整个响应。调用方读取完毕后必须关闭Reader，以释放连接
+     */
+    public Reader openReader(String url, Map<String, Object> para, MethodType method) throws IOException {
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(12000).setConnectionRequestTimeout(12000).setSocketTimeout(12000).setExpectContinueEnabled(false).setCircularRedirectsAllowed(true).build();
+        HttpRequestBase request;
+        if (method.equals(MethodType.GET)) {
+            request = new HttpGet(String.format("%s?%s", url, para.entrySet().stream().map(entry -> String.format("%s=%s", entry.getKey(), entry.getValue())).collect(Collectors.joining("&"))));
+        } else {
+            HttpPost httpPost = new HttpPost(url);
+            httpPost.setEntity(new UrlEncodedFormEntity(para.entrySet().stream().map(entry -> new BasicNameValuePair(entry.getKey(), String.valueOf(entry.getValue()))).collect(Collectors.toList())));
+            request = httpPost;
+        }
+        request.setConfig(requestConfig);
+        acquire(url, para);
+        CloseableHttpResponse response = httpClient.execute(request);
+        try {
+            HttpEntity entity = response.getEntity();
+            Charset charset = ContentType.getOrDefault(entity).getCharset();
+            InputStream content = entity.getContent();
+            return new InputStreamReader(content, charset == null ? StandardCharsets.UTF_8 : charset) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        response.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    private void acquire(String url, Map<String, Object> para) throws IOException {
+        RateLimiter limiter = rateLimiter;
+        if (limiter != null) {
+            Object token = para == null ? null : para.get("token");
+            limiter.acquireBlocking(url, token == null ? null : String.valueOf(token));
+        }
+    }
+
     public String post(String url, Map<String, Object> para) throws IOException {
         RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(12000).setConnectionRequestTimeout(12000).setSocketTimeout(12000).setExpectContinueEnabled(false).setCircularRedirectsAllowed(true).build();
         return post(url, para, requestConfig);
@@ -76,8 +184,80 @@ public class HttpClientRest {
         HttpPost httpPost = new HttpPost(url);
         httpPost.setConfig(requestConfig);
         httpPost.setEntity(new UrlEncodedFormEntity(para.entrySet().stream().map(entry -> new BasicNameValuePair(entry.getKey(), String.valueOf(entry.getValue()))).collect(Collectors.toList())));
+        acquire(url, para);
         try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
             return EntityUtils.toString(response.getEntity());
         }
     }
+
+    /**
+     * 连接池配置，默认值适用于批量请求api.waizaowang.com的场景
+     */
+    @Getter
+    public static class Builder {
+        //连接池最大连接数
+        private int maxTotal = 200;
+        //每个路由（域名）最大连接数，HttpClient默认值为2
+        private int maxPerRoute = 50;
+        //连接存活时间（秒），小于等于0表示不限制
+        private long timeToLive = 300;
+        //空闲连接超过该时间（秒）后被回收
+        private long maxIdleTime = 60;
+        //连接空闲超过该时间（毫秒）后，复用前先校验连接是否可用
+        private int validateAfterInactivity = 2000;
+        //服务端未返回Keep-Alive时，连接保持的时间（毫秒）
+        private long keepAlive = 30000;
+
+        private Builder() {
+        }
+
+        public Builder maxTotal(int maxTotal) {
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        public Builder maxPerRoute(int maxPerRoute) {
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        public Builder timeToLive(long timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public Builder maxIdleTime(long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        public Builder validateAfterInactivity(int validateAfterInactivity) {
+            this.validateAfterInactivity = validateAfterInactivity;
+            return this;
+        }
+
+        public Builder keepAlive(long keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        public CloseableHttpClient build() {
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(timeToLive, TimeUnit.SECONDS);
+            connectionManager.setMaxTotal(maxTotal);
+            connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+            connectionManager.setValidateAfterInactivity(validateAfterInactivity);
+            return HttpClientBuilder.create()
+                    .setConnectionManager(connectionManager)
+                    .disableContentCompression()
+                    .addInterceptorLast((HttpRequestInterceptor) ContentEncodingInterceptor.INSTANCE)
+                    .addInterceptorFirst((HttpResponseInterceptor) ContentEncodingInterceptor.INSTANCE)
+                    .setKeepAliveStrategy((response, context) -> {
+                        long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                        return duration > 0 ? duration : keepAlive;
+                    })
+                    .evictExpiredConnections()
+                    .evictIdleConnections(maxIdleTime, TimeUnit.SECONDS)
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package client;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 服务端返回了非2xx、3xx的状态码
+ */
+@Getter
+public class HttpStatusException extends IOException {
+    private final int statusCode;
+    private final String url;
+
+    public HttpStatusException(int statusCode, String url) {
+        super(String.format("请求失败，状态码：%s，url：%s", statusCode, url));
+        this.statusCode = statusCode;
+        this.url = url;
+    }
+}
@@ -0,0 +1,233 @@
+package client;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import constant.PriorityType;
+
+import java.io.InterruptedIOException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 请求限流器。按照全局、接口、令牌（token）三个维度配置令牌桶，请求需同时获得所有匹配令牌桶的令牌才能发出。
+ * 等待中的请求按照优先级排队，交互请求（例如getStockPanKou）优先于批量请求（例如getDayKLine）获得令牌；
+ * 令牌补充后立即唤醒排队请求，使吞吐量稳定在配置的上限。
+ * <p>
+ * 接口可以配置为完整url，也可以配置为接口名，例如getDayKLine。
+ */
+public class RateLimiter {
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("waizao-rate-limiter-%d").setDaemon(true).build());
+    private final Map<String, TokenBucket> endpointBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+    private final Map<String, PriorityType> priorities = new ConcurrentHashMap<>();
+    private final TreeSet<Waiter> waiters = new TreeSet<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile TokenBucket globalBucket;
+    //未单独配置的令牌使用的令牌桶模板
+    private volatile TokenBucket defaultTokenBucket;
+    private ScheduledFuture<?> pendingDrain;
+
+    /**
+     * 所有请求共享的限流
+     */
+    public RateLimiter global(double permitsPerSecond, int burst) {
+        globalBucket = new TokenBucket(permitsPerSecond, burst);
+        return this;
+    }
+
+    /**
+     * 单个接口的限流，endpoint为完整url或接口名
+     */
+    public RateLimiter endpoint(String endpoint, double permitsPerSecond, int burst) {
+        endpointBuckets.put(endpoint, new TokenBucket(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * 单个令牌的限流
+     */
+    public RateLimiter token(String token, double permitsPerSecond, int burst) {
+        tokenBuckets.put(token, new TokenBucket(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * 未单独配置的令牌，每个令牌各自使用一个该配置的令牌桶
+     */
+    public synchronized RateLimiter defaultToken(double permitsPerSecond, int burst) {
+        defaultTokenBucket = new TokenBucket(permitsPerSecond, burst);
+        return this;
+    }
+
+    /**
+     * 接口的默认优先级，未配置的接口为PriorityType.Normal
+     */
+    public RateLimiter priority(String endpoint, PriorityType priority) {
+        priorities.put(endpoint, priority);
+        return this;
+    }
+
+    public PriorityType getPriority(String url) {
+        PriorityType priority = priorities.get(url);
+        if (priority == null) {
+            priority = priorities.get(endpointName(url));
+        }
+        return priority == null ? PriorityType.Normal : priority;
+    }
+
+    /**
+     * 以接口的默认优先级申请令牌
+     */
+    public CompletableFuture<Void> acquire(String url, String token) {
+        return acquire(url, token, getPriority(url));
+    }
+
+    /**
+     * 申请令牌，获得令牌后返回的CompletableFuture完成；取消该CompletableFuture即可放弃排队
+     */
+    public CompletableFuture<Void> acquire(String url, String token, PriorityType priority) {
+        Waiter waiter = new Waiter(buckets(url, token), priority.getType(), sequence.getAndIncrement());
+        synchronized (this) {
+            waiters.add(waiter);
+        }
+        drain();
+        return waiter.future;
+    }
+
+    /**
+     * 阻塞直到获得令牌
+     */
+    public void acquireBlocking(String url, String token) throws IOException {
+        CompletableFuture<Void> future = acquire(url, token);
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待限流令牌时被中断");
+        } catch (ExecutionException | CancellationException e) {
+            throw new IOException("等待限流令牌失败", e);
+        }
+    }
+
+    /**
+     * 按照优先级依次发放令牌。令牌补充后总是先发给排在最前面、需要该令牌桶的请求，因此高优先级请求不会被低优先级请求抢占；
+     * 被某个已耗尽的令牌桶阻塞的请求不影响其他请求使用仍有令牌的令牌桶（包括全局令牌桶）。
+     * 下一次发放安排在最早有请求可能就绪的时刻，即各阻塞请求所需的已耗尽令牌桶中最晚补充的时间的最小值。
+     * 获得令牌的请求在释放锁之后才完成，避免其回调在持有锁、遍历队列时执行
+     */
+    private void drain() {
+        for (Waiter waiter : take()) {
+            waiter.future.complete(null);
+        }
+    }
+
+    /**
+     * 从队列中取出本次可以发放令牌的请求并扣减令牌
+     */
+    private synchronized List<Waiter> take() {
+        List<Waiter> ready = new ArrayList<>();
+        long now = System.nanoTime();
+        long minWait = Long.MAX_VALUE;
+        TokenBucket global = globalBucket;
+        if (global != null) {
+            global.refill(now);
+        }
+        Iterator<Waiter> iterator = waiters.iterator();
+        while (iterator.hasNext()) {
+            Waiter waiter = iterator.next();
+            if (waiter.future.isDone()) {
+                iterator.remove();
+                continue;
+            }
+            //全局令牌桶耗尽时，后续请求都要等到全局令牌补充
+            if (global != null && !global.available()) {
+                minWait = Math.min(minWait, global.waitNanos());
+                break;
+            }
+            long wait = 0;
+            for (TokenBucket bucket : waiter.buckets) {
+                bucket.refill(now);
+                if (!bucket.available()) {
+                    wait = Math.max(wait, bucket.waitNanos());
+                }
+            }
+            if (wait == 0) {
+                waiter.buckets.forEach(TokenBucket::take);
+                iterator.remove();
+                ready.add(waiter);
+            } else {
+                minWait = Math.min(minWait, wait);
+            }
+        }
+        if (pendingDrain != null) {
+            pendingDrain.cancel(false);
+            pendingDrain = null;
+        }
+        if (!waiters.isEmpty() && minWait != Long.MAX_VALUE) {
+            pendingDrain = scheduler.schedule(this::drain, minWait, TimeUnit.NANOSECONDS);
+        }
+        return ready;
+    }
+
+    private List<TokenBucket> buckets(String url, String token) {
+        List<TokenBucket> buckets = new ArrayList<>(3);
+        if (globalBucket != null) {
+            buckets.add(globalBucket);
+        }
+        TokenBucket endpointBucket = endpointBuckets.get(url);
+        if (endpointBucket == null) {
+            endpointBucket = endpointBuckets.get(endpointName(url));
+        }
+        if (endpointBucket != null) {
+            buckets.add(endpointBucket);
+        }
+        if (token != null && !token.isEmpty()) {
+            TokenBucket tokenBucket = tokenBuckets.get(token);
+            TokenBucket template = defaultTokenBucket;
+            if (tokenBucket == null && template != null) {
+                tokenBucket = tokenBuckets.computeIfAbsent(token, key -> new TokenBucket(template.getPermitsPerSecond(), template.getBurst()));
+            }
+            if (tokenBucket != null) {
+                buckets.add(tokenBucket);
+            }
+        }
+        return buckets;
+    }
+
+    private static String endpointName(String url) {
+        int end = url.indexOf('?');
+        String path = end < 0 ? url : url.substring(0, end);
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static class Waiter implements Comparable<Waiter> {
+        private final List<TokenBucket> buckets;
+        private final int priority;
+        private final long sequence;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Waiter(List<TokenBucket> buckets, int priority, long sequence) {
+            this.buckets = buckets;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Waiter o) {
+            return priority != o.priority ? Integer.compare(priority, o.priority) : Long.compare(sequence, o.sequence);
+        }
+    }
+}
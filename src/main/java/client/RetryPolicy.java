@@ -0,0 +1,109 @@
+package client;
+
+import lombok.Getter;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * 重试策略：指数退避加随机抖动，区分可重试错误与不可重试错误，并限制单次调用的总耗时
+ */
+@Getter
+public class RetryPolicy {
+    //最多尝试次数，包括第一次请求
+    private int maxAttempts = 10;
+    //第一次重试前的等待时间（毫秒）
+    private long initialDelay = 500;
+    //重试等待时间的上限（毫秒）
+    private long maxDelay = 30000;
+    //每次重试等待时间的增长倍数
+    private double multiplier = 2;
+    //随机抖动比例，0~1，实际等待时间在[delay*(1-jitter), delay]之间
+    private double jitter = 0.5;
+    //单次调用（含所有重试）的最长耗时（毫秒），小于等于0表示不限制
+    private long deadline = 0;
+    //返回null时是否重试。接口错误以ApiException报告，null表示确实没有数据，默认不重试
+    private boolean retryOnNull = false;
+    //判断异常是否可重试
+    private Predicate<Throwable> retryable = RetryPolicy::isRetryable;
+
+    private RetryPolicy() {
+    }
+
+    public static RetryPolicy custom() {
+        return new RetryPolicy();
+    }
+
+    public RetryPolicy maxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    public RetryPolicy initialDelay(long initialDelay) {
+        this.initialDelay = initialDelay;
+        return this;
+    }
+
+    public RetryPolicy maxDelay(long maxDelay) {
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    public RetryPolicy multiplier(double multiplier) {
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    public RetryPolicy jitter(double jitter) {
+        this.jitter = Math.max(0, Math.min(1, jitter));
+        return this;
+    }
+
+    public RetryPolicy deadline(long deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    public RetryPolicy retryOnNull(boolean retryOnNull) {
+        this.retryOnNull = retryOnNull;
+        return this;
+    }
+
+    public RetryPolicy retryable(Predicate<Throwable> retryable) {
+        this.retryable = retryable;
+        return this;
+    }
+
+    /**
+     * 第attempt次重试前的等待时间（毫秒），attempt从1开始
+     */
+    public long delay(int attempt, double random) {
+        double delay = Math.min(maxDelay, initialDelay * Math.pow(multiplier, attempt - 1));
+        return (long) (delay * (1 - jitter * random));
+    }
+
+    /**
+     * 默认的可重试判断：4xx状态码（408请求超时、429请求过多除外）为不可重试错误，例如令牌无效、参数错误；
+     * 返回结果中的接口错误（ApiException）只有code为5xx时可重试，令牌无效、额度用尽等立即失败；其余异常均可重试
+     */
+    public static boolean isRetryable(Throwable e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof HttpStatusException) {
+            int status = ((HttpStatusException) cause).getStatusCode();
+            return status < 400 || status >= 500 || status == 408 || status == 429;
+        }
+        if (cause instanceof ApiException) {
+            return ((ApiException) cause).getCode() >= 500;
+        }
+        return !(cause instanceof CancellationException || cause instanceof IllegalArgumentException);
+    }
+
+    public static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
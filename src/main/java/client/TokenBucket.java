@@ -0,0 +1,46 @@
+package client;
+
+import lombok.Getter;
+
+/**
+ * 令牌桶，按照固定速率补充令牌，最多累积burst个令牌。非线程安全，由RateLimiter统一加锁访问
+ */
+@Getter
+public class TokenBucket {
+    //每秒补充的令牌数
+    private final double permitsPerSecond;
+    //令牌桶容量，允许的突发请求数
+    private final int burst;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond和burst必须大于0");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerSecond / 1e9);
+        lastRefill = now;
+    }
+
+    boolean available() {
+        return tokens >= 1;
+    }
+
+    void take() {
+        tokens -= 1;
+    }
+
+    /**
+     * 距离下一个令牌可用的纳秒数
+     */
+    long waitNanos() {
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * 1e9 / permitsPerSecond);
+    }
+}
@@ -0,0 +1,26 @@
+package client;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * 单次请求的传输统计，compressedBytes为网络上实际传输的字节数，decompressedBytes为解压后的字节数
+ */
+@Data
+@AllArgsConstructor
+public class TransferMetric implements Serializable {
+    //请求地址
+    private String url;
+    //返回内容的压缩方式，gzip、deflate，未压缩时为identity
+    private String encoding;
+    //压缩后字节数
+    private long compressedBytes;
+    //解压后字节数
+    private long decompressedBytes;
+
+    public double getRatio() {
+        return compressedBytes == 0 ? 0 : (double) decompressedBytes / compressedBytes;
+    }
+}
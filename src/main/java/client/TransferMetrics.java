@@ -0,0 +1,62 @@
+package client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 全局传输统计，可通过addListener获取每次请求的压缩前后字节数
+ */
+public class TransferMetrics {
+    private static final Logger log = LoggerFactory.getLogger(TransferMetrics.class);
+    private static final LongAdder requests = new LongAdder();
+    private static final LongAdder compressedBytes = new LongAdder();
+    private static final LongAdder decompressedBytes = new LongAdder();
+    private static final List<Consumer<TransferMetric>> listeners = new CopyOnWriteArrayList<>();
+
+    private TransferMetrics() {
+    }
+
+    public static void addListener(Consumer<TransferMetric> listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(Consumer<TransferMetric> listener) {
+        listeners.remove(listener);
+    }
+
+    public static long getRequests() {
+        return requests.sum();
+    }
+
+    public static long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    public static long getDecompressedBytes() {
+        return decompressedBytes.sum();
+    }
+
+    public static void reset() {
+        requests.reset();
+        compressedBytes.reset();
+        decompressedBytes.reset();
+    }
+
+    static void record(TransferMetric metric) {
+        requests.increment();
+        compressedBytes.add(metric.getCompressedBytes());
+        decompressedBytes.add(metric.getDecompressedBytes());
+        for (Consumer<TransferMetric> listener : listeners) {
+            try {
+                listener.accept(metric);
+            } catch (RuntimeException e) {
+                log.error("传输统计回调失败。", e);
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Setter;
 public enum KLineType {
     Minute_1("1分钟", 1),
     Minute_5("5分钟", 5),
+    Minute_15("15分钟", 15),
     Minute_30("30分钟", 30),
     Minute_60("60分钟", 60),
     Day("日线", 101),
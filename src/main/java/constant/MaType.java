@@ -0,0 +1,37 @@
+package constant;
+
+import lombok.Getter;
+
+/**
+ * 移动平均线类型，与getIndicatorTa*接口的移动平均线类型参数取值一致。
+ * 8|MAMA-自适应移动平均线的快速限制、慢速限制固定为0.5、0.05，周期参数不起作用
+ */
+public enum MaType {
+    SMA("简单移动平均线", 1),
+    EMA("指数移动平均线", 2),
+    WMA("加权移动平均线", 3),
+    DEMA("双指数移动平均线", 4),
+    TEMA("三重指数移动平均线", 5),
+    TRIMA("三重移动平均线", 6),
+    KAMA("考夫曼自适应移动平均线", 7),
+    MAMA("自适应移动平均线", 8),
+    T3("三重移动平均线", 9);
+    @Getter
+    private final String name;
+    @Getter
+    private final int type;
+
+    MaType(String name, int type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    public static MaType of(int type) {
+        for (MaType maType : values()) {
+            if (maType.type == type) {
+                return maType;
+            }
+        }
+        throw new IllegalArgumentException("不支持的移动平均线类型：" + type);
+    }
+}
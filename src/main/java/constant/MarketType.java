@@ -0,0 +1,22 @@
+package constant;
+
+import lombok.Getter;
+
+/**
+ * 交易日历的市场类型，对应getTradeDate接口的mtype参数
+ */
+public enum MarketType {
+    HS_A("沪深京A股", 1),
+    HK("港股", 2),
+    HSGT_North("沪深港通-北向", 3),
+    HSGT_South("沪深港通-南向", 4);
+    @Getter
+    private final String name;
+    @Getter
+    private final int type;
+
+    MarketType(String name, int type) {
+        this.name = name;
+        this.type = type;
+    }
+}
@@ -0,0 +1,20 @@
+package constant;
+
+import lombok.Getter;
+
+/**
+ * 订阅者处理不及时、缓冲区已满时的处理方式
+ */
+public enum OverflowType {
+    DropOldest("丢弃最旧的数据", 1),
+    Conflate("按股票代码合并，只保留最新值", 2);
+    @Getter
+    private final String name;
+    @Getter
+    private final int type;
+
+    OverflowType(String name, int type) {
+        this.name = name;
+        this.type = type;
+    }
+}
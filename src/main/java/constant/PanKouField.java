@@ -0,0 +1,57 @@
+package constant;
+
+import lombok.Getter;
+
+/**
+ * 盘口数据的字段，index为字段在新浪行情（hq.sinajs.cn）返回数据中的序号，交易时间占用日期、时间两个字段，以日期的序号表示。
+ * PanKouPoller以 1L &lt;&lt; index 为位标记变化的字段
+ */
+public enum PanKouField {
+    NAME("股票名称", 0),
+    OPEN("开盘价", 1),
+    YCLOSE("昨收价", 2),
+    PRICE("现价", 3),
+    HIGH("今日最高价", 4),
+    LOW("今日最低价", 5),
+    BID("竞买价", 6),
+    ASK("竞卖价", 7),
+    V("成交量", 8),
+    E("成交金额", 9),
+    B1V("委买一量", 10),
+    B1P("委买一价", 11),
+    B2V("委买二量", 12),
+    B2P("委买二价", 13),
+    B3V("委买三量", 14),
+    B3P("委买三价", 15),
+    B4V("委买四量", 16),
+    B4P("委买四价", 17),
+    B5V("委买五量", 18),
+    B5P("委买五价", 19),
+    S1V("委卖一量", 20),
+    S1P("委卖一价", 21),
+    S2V("委卖二量", 22),
+    S2P("委卖二价", 23),
+    S3V("委卖三量", 24),
+    S3P("委卖三价", 25),
+    S4V("委卖四量", 26),
+    S4P("委卖四价", 27),
+    S5V("委卖五量", 28),
+    S5P("委卖五价", 29),
+    TDATE("交易时间", 30);
+    @Getter
+    private final String name;
+    @Getter
+    private final int index;
+
+    PanKouField(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * 变化标记中是否包含该字段
+     */
+    public boolean in(long changed) {
+        return (changed & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,21 @@
+package constant;
+
+import lombok.Getter;
+
+/**
+ * 请求优先级，数值越小越优先
+ */
+public enum PriorityType {
+    Interactive("交互请求", 0),
+    Normal("普通请求", 1),
+    Bulk("批量请求", 2);
+    @Getter
+    private final String name;
+    @Getter
+    private final int type;
+
+    PriorityType(String name, int type) {
+        this.name = name;
+        this.type = type;
+    }
+}
@@ -0,0 +1,34 @@
+package stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 分批请求的合并结果，data按照分批顺序合并，failures记录失败的批次
+ */
+@Data
+@AllArgsConstructor
+public class BatchResult<T> implements Serializable {
+    //合并后的数据，顺序与请求的股票代码分批顺序一致
+    private List<T> data;
+    //失败的批次
+    private List<ChunkError> failures;
+
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ChunkError implements Serializable {
+        //批次序号，从0开始
+        private int index;
+        //该批次的股票代码，逗号分隔
+        private String code;
+        //失败原因
+        private Throwable error;
+    }
+}
@@ -0,0 +1,71 @@
+package stock;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * 数值字段的宽松解析：接口中以字符串返回的数值在反序列化时直接解析为double，
+ * null、空串、"-"等无法解析的取值记为NaN，末尾的百分号会被忽略。
+ * 用法：在double字段上标注@JsonAdapter(value = DoubleAdapter.class, nullSafe = false)，并将字段初始值设为Double.NaN。
+ */
+public class DoubleAdapter extends TypeAdapter<Double> {
+
+    @Override
+    public Double read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return Double.NaN;
+        }
+        if (token == JsonToken.NUMBER) {
+            return in.nextDouble();
+        }
+        if (token != JsonToken.STRING) {
+            in.skipValue();
+            return Double.NaN;
+        }
+        return parse(in.nextString());
+    }
+
+    @Override
+    public void write(JsonWriter out, Double value) throws IOException {
+        if (value == null || value.isNaN() || value.isInfinite()) {
+            out.nullValue();
+        } else {
+            out.value(value);
+        }
+    }
+
+    /**
+     * 解析字符串形式的数值，无法解析时返回NaN
+     */
+    public static double parse(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        int end = value.length();
+        while (end > 0 && (value.charAt(end - 1) == '%' || Character.isWhitespace(value.charAt(end - 1)))) {
+            end--;
+        }
+        int start = 0;
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        if (start == end) {
+            return Double.NaN;
+        }
+        char first = value.charAt(start);
+        if (first != '-' && first != '+' && first != '.' && (first < '0' || first > '9')) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.substring(start, end));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
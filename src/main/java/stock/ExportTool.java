@@ -1,21 +1,101 @@
 package stock;
 
+import client.ApiException;
 import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class ExportTool {
+    //Gson线程安全，全局共享
+    private static final Gson gson = new Gson();
+    private static final Map<Type, TypeAdapter<?>> adapters = new ConcurrentHashMap<>();
+    //返回结果中表示成功的code
+    private static final int SUCCESS = 200;
+
     public static <T> T toObj(String data, Type type) {
-        Gson gson = new Gson();
-        return gson.fromJson(gson.toJson(gson.fromJson(data, Result.class).getData()), type);
+        return toObj(new StringReader(data), type);
+    }
+
+    /**
+     * 流式解析返回结果，定位到data字段后直接绑定为目标对象，只解析一遍
+     *
+     * @param data 返回结果，Json格式
+     * @param type 目标类型，例如new TypeToken<List<DataStockKLine>>(){}.getType()
+     * @return data字段对应的对象，code表示成功但data为null时返回null
+     * @throws JsonSyntaxException 返回结果不是Json对象，例如代理或维护页面返回的Html
+     * @throws ApiException        data为null且code表示失败
+     */
+    public static <T> T toObj(Reader data, Type type) {
+        try (JsonReader reader = new JsonReader(data)) {
+            if (!seekData(reader)) {
+                return null;
+            }
+            return ExportTool.<T>getAdapter(type).read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 定位到返回结果中的data字段。没有非null的data字段时读完整个对象，根据code、message判断是否为接口错误
+     *
+     * @return 是否存在非null的data字段
+     * @throws JsonSyntaxException 返回结果不是Json对象
+     * @throws ApiException        data为null且code表示失败
+     */
+    public static boolean seekData(JsonReader reader) throws IOException {
+        reader.setLenient(true);
+        JsonToken token = reader.peek();
+        if (token != JsonToken.BEGIN_OBJECT) {
+            throw new JsonSyntaxException("返回结果不是Json对象，开头为" + token + "，" + reader.getPath());
+        }
+        int code = SUCCESS;
+        String message = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("data".equals(name) && reader.peek() != JsonToken.NULL) {
+                return true;
+            }
+            if ("code".equals(name) && reader.peek() == JsonToken.NUMBER) {
+                code = reader.nextInt();
+            } else if ("message".equals(name) && reader.peek() == JsonToken.STRING) {
+                message = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (code != SUCCESS && code != 0) {
+            throw new ApiException(code, message);
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<T> getAdapter(Type type) {
+        return (TypeAdapter<T>) adapters.computeIfAbsent(type, key -> gson.getAdapter(TypeToken.get(key)));
+    }
+
+    public static Gson getGson() {
+        return gson;
     }
 
     public static List<String> toTxt(String data) {
@@ -23,7 +103,7 @@ public class ExportTool {
     }
 
     public static List<Map<String, String>> toJson(String data) {
-        return (List<Map<String, String>>) new Gson().fromJson(data, Result.class).getData();
+        return (List<Map<String, String>>) gson.fromJson(data, Result.class).getData();
     }
 
     public static void toFile(String data, File file) throws IOException {
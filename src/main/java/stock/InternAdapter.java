@@ -0,0 +1,31 @@
+package stock;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * 低基数字符串字段的反序列化：解析出的字符串经StringPool.current()合并，
+ * 同一批数据中重复出现的股票代码、名称、交易时间共享同一个对象。
+ * 用法：在String字段上标注@JsonAdapter(InternAdapter.class)。
+ */
+public class InternAdapter extends TypeAdapter<String> {
+
+    @Override
+    public String read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return StringPool.current().intern(in.nextString());
+    }
+
+    @Override
+    public void write(JsonWriter out, String value) throws IOException {
+        out.value(value);
+    }
+}
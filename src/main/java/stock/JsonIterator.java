@@ -0,0 +1,80 @@
+package stock;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 逐条读取返回结果data数组中的对象，边读边解析，内存占用与返回数据量无关。
+ * 使用完毕后必须关闭，以释放Http连接，建议使用try-with-resources。
+ */
+public class JsonIterator<T> implements Iterator<T>, Closeable {
+    private final JsonReader reader;
+    private final TypeAdapter<T> adapter;
+    private boolean hasNext;
+
+    public JsonIterator(Reader data, Type elementType) throws IOException {
+        this.reader = new JsonReader(data);
+        this.adapter = ExportTool.getAdapter(elementType);
+        try {
+            if (ExportTool.seekData(reader) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                hasNext = reader.hasNext();
+            }
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T item = adapter.read(reader);
+            hasNext = reader.hasNext();
+            return item;
+        } catch (IOException e) {
+            hasNext = false;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 转换为Stream，关闭Stream时同时关闭本对象
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        hasNext = false;
+        reader.close();
+    }
+}
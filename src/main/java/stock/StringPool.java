@@ -0,0 +1,70 @@
+package stock;
+
+/**
+ * 有界字符串池，用于反序列化时合并代码、名称、交易时间等低基数字段的重复字符串。
+ * 按哈希值直接映射到固定槽位，冲突时新值覆盖旧值，内存占用不随数据量增长；
+ * 槽位读写不加锁，并发时最多产生重复字符串，不影响正确性。
+ */
+public class StringPool {
+    //全局共享的默认字符串池
+    private static final StringPool GLOBAL = new StringPool(1 << 16);
+    private static final ThreadLocal<StringPool> CURRENT = new ThreadLocal<>();
+
+    private final String[] slots;
+
+    /**
+     * @param capacity 槽位数量，向上取整为2的幂
+     */
+    public StringPool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+        this.slots = new String[size];
+    }
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (slots.length - 1);
+        String cached = slots[index];
+        if (value.equals(cached)) {
+            return cached;
+        }
+        slots[index] = value;
+        return value;
+    }
+
+    /**
+     * @return 当前线程使用的字符串池，未开启请求级字符串池时返回全局字符串池
+     */
+    public static StringPool current() {
+        StringPool pool = CURRENT.get();
+        return pool == null ? GLOBAL : pool;
+    }
+
+    /**
+     * 在当前线程开启请求级字符串池，关闭后恢复为之前的字符串池，请求结束后池中字符串随之释放。
+     * 用法：try (StringPool.Scope scope = StringPool.open(4096)) { ... }
+     */
+    public static Scope open(int capacity) {
+        return new Scope(new StringPool(capacity));
+    }
+
+    public static class Scope implements AutoCloseable {
+        private final StringPool previous;
+
+        private Scope(StringPool pool) {
+            this.previous = CURRENT.get();
+            CURRENT.set(pool);
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
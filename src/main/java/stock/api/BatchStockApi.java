@@ -0,0 +1,165 @@
+package stock.api;
+
+import client.AsyncRetry;
+import client.RetryPolicy;
+import com.google.common.collect.Iterables;
+import constant.MethodType;
+import lombok.Getter;
+import stock.BatchResult;
+import stock.bean.DataStockDailyMarketCopy;
+import stock.bean.DataStockHourKLine;
+import stock.bean.DataStockKLine;
+import stock.bean.DataStockMinuteKLine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 批量请求接口。code参数每次最多支持50个股票代码，本类将任意数量的股票代码拆分为每批50个，
+ * 在并发上限内通过AsyncStockApi并发请求，并按照分批顺序合并结果。单个批次按照retryPolicy重试，最终失败不影响其他批次，失败信息记录在BatchResult中。
+ */
+@Getter
+public class BatchStockApi {
+    //code参数每次最多支持的股票代码数量
+    public static final int MAX_CODES = 50;
+
+    private final AsyncStockApi asyncStockApi;
+    //同时在途的最大请求数
+    private final int parallelism;
+    //单批请求的重试策略，为null时不重试
+    private final RetryPolicy retryPolicy;
+
+    public BatchStockApi() {
+        this(new AsyncStockApi(), 8);
+    }
+
+    public BatchStockApi(AsyncStockApi asyncStockApi, int parallelism) {
+        this(asyncStockApi, parallelism, null);
+    }
+
+    public BatchStockApi(AsyncStockApi asyncStockApi, int parallelism, RetryPolicy retryPolicy) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism必须大于0");
+        }
+        this.asyncStockApi = asyncStockApi;
+        this.parallelism = parallelism;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * 每日行情，参数含义参考StockApi.getDailyMarket，codes不限数量
+     */
+    public BatchResult<DataStockDailyMarketCopy> getDailyMarket(int type, Collection<String> codes, String startDate, String endDate, String fields, String token, String filter, MethodType method) {
+        return exec(codes, code -> asyncStockApi.getDailyMarket(type, code, startDate, endDate, fields, token, filter, method));
+    }
+
+    /**
+     * 分线数据，参数含义参考StockApi.getMinuteKLine，codes不限数量
+     */
+    public BatchResult<DataStockMinuteKLine> getMinuteKLine(int type, Collection<String> codes, String startDate, String endDate, String fields, String token, String filter, MethodType method) {
+        return exec(codes, code -> asyncStockApi.getMinuteKLine(type, code, startDate, endDate, fields, token, filter, method));
+    }
+
+    /**
+     * 时线数据，参数含义参考StockApi.getHourKLine，codes不限数量
+     */
+    public BatchResult<DataStockHourKLine> getHourKLine(int type, Collection<String> codes, int ktype, String startDate, String endDate, String fields, String token, String filter, MethodType method) {
+        return exec(codes, code -> asyncStockApi.getHourKLine(type, code, ktype, startDate, endDate, fields, token, filter, method));
+    }
+
+    /**
+     * 日线数据，参数含义参考StockApi.getDayKLine，codes不限数量
+     */
+    public BatchResult<DataStockKLine> getDayKLine(int type, Collection<String> codes, int ktype, int fq, String startDate, String endDate, String fields, String token, String filter, MethodType method) {
+        return exec(codes, code -> asyncStockApi.getDayKLine(type, code, ktype, fq, startDate, endDate, fields, token, filter, method));
+    }
+
+    /**
+     * 通用分批请求，适用于getIndicatorTa*等其他支持批量code的接口，例如：
+     * exec(codes, code -> asyncStockApi.getIndicatorTaMacd(type, code, ...))
+     *
+     * @param codes   股票代码，不限数量
+     * @param request 单批请求，参数为逗号分隔的股票代码（最多50个）
+     */
+    public <T> BatchResult<T> exec(Collection<String> codes, Function<String, CompletableFuture<List<T>>> request) {
+        return execAsync(codes, request).join();
+    }
+
+    public <T> CompletableFuture<BatchResult<T>> execAsync(Collection<String> codes, Function<String, CompletableFuture<List<T>>> request) {
+        List<String> chunks = split(codes);
+        CompletableFuture<BatchResult<T>> result = new CompletableFuture<>();
+        if (chunks.isEmpty()) {
+            result.complete(new BatchResult<>(new ArrayList<>(), new ArrayList<>()));
+            return result;
+        }
+        AtomicReferenceArray<List<T>> datas = new AtomicReferenceArray<>(chunks.size());
+        AtomicReferenceArray<Throwable> errors = new AtomicReferenceArray<>(chunks.size());
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(chunks.size());
+        for (int i = 0; i < Math.min(parallelism, chunks.size()); i++) {
+            launch(chunks, request, next, remaining, datas, errors, result);
+        }
+        return result;
+    }
+
+    /**
+     * 按照每批50个拆分股票代码，保持原有顺序
+     */
+    public static List<String> split(Collection<String> codes) {
+        List<String> valid = codes.stream().filter(code -> code != null && !code.trim().isEmpty()).map(String::trim).collect(Collectors.toList());
+        List<String> chunks = new ArrayList<>();
+        for (List<String> chunk : Iterables.partition(valid, MAX_CODES)) {
+            chunks.add(String.join(",", chunk));
+        }
+        return chunks;
+    }
+
+    private <T> void launch(List<String> chunks, Function<String, CompletableFuture<List<T>>> request, AtomicInteger next, AtomicInteger remaining,
+                            AtomicReferenceArray<List<T>> datas, AtomicReferenceArray<Throwable> errors, CompletableFuture<BatchResult<T>> result) {
+        int index = next.getAndIncrement();
+        if (index >= chunks.size()) {
+            return;
+        }
+        CompletableFuture<List<T>> future;
+        try {
+            String code = chunks.get(index);
+            future = retryPolicy == null ? request.apply(code) : AsyncRetry.getIntance().exec(() -> request.apply(code), retryPolicy);
+        } catch (Exception e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        future.whenComplete((data, e) -> {
+            if (e != null) {
+                errors.set(index, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            } else {
+                datas.set(index, data == null ? Collections.emptyList() : data);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                result.complete(merge(chunks, datas, errors));
+            } else {
+                launch(chunks, request, next, remaining, datas, errors, result);
+            }
+        });
+    }
+
+    private static <T> BatchResult<T> merge(List<String> chunks, AtomicReferenceArray<List<T>> datas, AtomicReferenceArray<Throwable> errors) {
+        List<T> data = new ArrayList<>();
+        List<BatchResult.ChunkError> failures = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            if (errors.get(i) != null) {
+                failures.add(new BatchResult.ChunkError(i, chunks.get(i), errors.get(i)));
+            } else {
+                data.addAll(datas.get(i));
+            }
+        }
+        return new BatchResult<>(data, failures);
+    }
+}
@@ -6,11 +6,15 @@ import com.google.gson.reflect.TypeToken;
 import constant.ExportType;
 import constant.MethodType;
 import stock.ExportTool;
+import stock.JsonIterator;
 import stock.bean.*;
+import stock.store.KLineSeries;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class StockApi {
 
@@ -169,6 +173,33 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 逐条回调返回的DataStockDailyMarketCopy对象，边下载边解析，适用于返回数据量很大的场景
+     */
+    public void getDailyMarket(int type, String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method, Consumer<DataStockDailyMarketCopy> consumer) throws IOException {
+        try (JsonIterator<DataStockDailyMarketCopy> iterator = iterateDailyMarket(type, code, startDate, endDate, fields, token, filter, method)) {
+            iterator.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * 以迭代器的方式返回DataStockDailyMarketCopy对象，边下载边解析，使用完毕后必须关闭
+     */
+    public JsonIterator<DataStockDailyMarketCopy> iterateDailyMarket(int type, String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getDailyMarket";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        return new JsonIterator<>(HttpClientRest.getIntance().openReader(url, para, method), DataStockDailyMarketCopy.class);
+    }
+
     /**
      *  分线数据，数据以分钟为粒度。数据均为不复权数据。数据范围包括沪深京A股、沪深京B股、港股、美股、场内基金、沪深债券。温馨提示：code参数可以从【通用接口->股票列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -204,6 +235,55 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getMinuteKLine相同，结果按列存放为KLineSeries，边下载边解析，不缓存整个响应，也不创建DataStockMinuteKLine对象，适合大批量数据的计算场景
+     *
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public KLineSeries getMinuteKLineSeries(int type, String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method, boolean direct) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getMinuteKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        try (Reader data = HttpClientRest.getIntance().openReader(url, para, method)) {
+            return KLineSeries.read(data, 1, direct);
+        }
+    }
+
+    /**
+     * 逐条回调返回的DataStockMinuteKLine对象，边下载边解析，适用于返回数据量很大的场景
+     */
+    public void getMinuteKLine(int type, String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method, Consumer<DataStockMinuteKLine> consumer) throws IOException {
+        try (JsonIterator<DataStockMinuteKLine> iterator = iterateMinuteKLine(type, code, startDate, endDate, fields, token, filter, method)) {
+            iterator.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * 以迭代器的方式返回DataStockMinuteKLine对象，边下载边解析，使用完毕后必须关闭
+     */
+    public JsonIterator<DataStockMinuteKLine> iterateMinuteKLine(int type, String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getMinuteKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        return new JsonIterator<>(HttpClientRest.getIntance().openReader(url, para, method), DataStockMinuteKLine.class);
+    }
+
     /**
      *  时线数据，提供5分钟、15分钟、30分钟、60分钟数据。数据均为不复权数据。数据范围包括沪深京A股、沪深京B股、港股、美股、沪深指数、香港指数、全球指数、债券指数、场内基金、沪深债券。温馨提示：code参数可以从【通用接口->股票列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -241,6 +321,57 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getHourKLine相同，结果按列存放为KLineSeries，边下载边解析，不缓存整个响应，也不创建DataStockHourKLine对象，适合大批量数据的计算场景
+     *
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public KLineSeries getHourKLineSeries(int type, String code, int ktype, String startDate, String endDate, String fields, String token, String filter,  MethodType method, boolean direct) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getHourKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("ktype", ktype)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        try (Reader data = HttpClientRest.getIntance().openReader(url, para, method)) {
+            return KLineSeries.read(data, ktype, direct);
+        }
+    }
+
+    /**
+     * 逐条回调返回的DataStockHourKLine对象，边下载边解析，适用于返回数据量很大的场景
+     */
+    public void getHourKLine(int type, String code, int ktype, String startDate, String endDate, String fields, String token, String filter,  MethodType method, Consumer<DataStockHourKLine> consumer) throws IOException {
+        try (JsonIterator<DataStockHourKLine> iterator = iterateHourKLine(type, code, ktype, startDate, endDate, fields, token, filter, method)) {
+            iterator.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * 以迭代器的方式返回DataStockHourKLine对象，边下载边解析，使用完毕后必须关闭
+     */
+    public JsonIterator<DataStockHourKLine> iterateHourKLine(int type, String code, int ktype, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getHourKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("ktype", ktype)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        return new JsonIterator<>(HttpClientRest.getIntance().openReader(url, para, method), DataStockHourKLine.class);
+    }
+
     /**
      *  如果想收盘后立即获取当日的收盘数据，可通过【实时行情】或者【每日行情】接口获取收盘后的日K线数据。日线、周线、月线数据，数据范围包括沪深京A股、沪深京B股、港股、美股、黄金、汇率、Reits、加密货币、沪深指数、香港指数、全球指数、债券指数、场内基金、沪深债券、行业板块、概念板块、地域板块。温馨提示：code参数可以从【通用接口->股票列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -280,6 +411,59 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getDayKLine相同，结果按列存放为KLineSeries，边下载边解析，不缓存整个响应，也不创建DataStockKLine对象，适合大批量数据的计算场景
+     *
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public KLineSeries getDayKLineSeries(int type, String code, int ktype, int fq, String startDate, String endDate, String fields, String token, String filter,  MethodType method, boolean direct) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getDayKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("ktype", ktype)
+                .put("fq", fq)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        try (Reader data = HttpClientRest.getIntance().openReader(url, para, method)) {
+            return KLineSeries.read(data, ktype, direct);
+        }
+    }
+
+    /**
+     * 逐条回调返回的DataStockKLine对象，边下载边解析，适用于返回数据量很大的场景
+     */
+    public void getDayKLine(int type, String code, int ktype, int fq, String startDate, String endDate, String fields, String token, String filter,  MethodType method, Consumer<DataStockKLine> consumer) throws IOException {
+        try (JsonIterator<DataStockKLine> iterator = iterateDayKLine(type, code, ktype, fq, startDate, endDate, fields, token, filter, method)) {
+            iterator.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * 以迭代器的方式返回DataStockKLine对象，边下载边解析，使用完毕后必须关闭
+     */
+    public JsonIterator<DataStockKLine> iterateDayKLine(int type, String code, int ktype, int fq, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getDayKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("ktype", ktype)
+                .put("fq", fq)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        return new JsonIterator<>(HttpClientRest.getIntance().openReader(url, para, method), DataStockKLine.class);
+    }
+
     /**
      *  分时成交数据是指在一定时间内的成交和，如3秒内所有成交手数算在一起。数据均为不复权数据。数据范围包括沪深京A股、沪深京B股、场内基金、沪深债券。温馨提示：code参数可以从【通用接口->股票列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -315,6 +499,33 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 逐条回调返回的DataStockLevel2TimeDeal对象，边下载边解析，适用于返回数据量很大的场景
+     */
+    public void getLevel2TimeDeal(int type, String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method, Consumer<DataStockLevel2TimeDeal> consumer) throws IOException {
+        try (JsonIterator<DataStockLevel2TimeDeal> iterator = iterateLevel2TimeDeal(type, code, startDate, endDate, fields, token, filter, method)) {
+            iterator.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * 以迭代器的方式返回DataStockLevel2TimeDeal对象，边下载边解析，使用完毕后必须关闭
+     */
+    public JsonIterator<DataStockLevel2TimeDeal> iterateLevel2TimeDeal(int type, String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getLevel2TimeDeal";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("type", type)
+                .put("code", code)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        return new JsonIterator<>(HttpClientRest.getIntance().openReader(url, para, method), DataStockLevel2TimeDeal.class);
+    }
+
     /**
      *  指数或者行业板块成分股数据。温馨提示：code参数可以从【通用接口->股票列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -7096,6 +7307,27 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getStockHSAMinuteKLine相同，结果按列存放为KLineSeries，边下载边解析，不缓存整个响应，也不创建DataStockMinuteKLine对象，适合大批量数据的计算场景
+     *
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public KLineSeries getStockHSAMinuteKLineSeries(String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method, boolean direct) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getStockHSAMinuteKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("code", code)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        try (Reader data = HttpClientRest.getIntance().openReader(url, para, method)) {
+            return KLineSeries.read(data, 1, direct);
+        }
+    }
+
     /**
      *  沪深京A股时线数据，数据均为不复权数据。温馨提示：code参数可以从【沪深京->A股->A股列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -7131,6 +7363,28 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getStockHSAHourKLine相同，结果按列存放为KLineSeries，边下载边解析，不缓存整个响应，也不创建DataStockHourKLine对象，适合大批量数据的计算场景
+     *
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public KLineSeries getStockHSAHourKLineSeries(String code, int ktype, String startDate, String endDate, String fields, String token, String filter,  MethodType method, boolean direct) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getStockHSAHourKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("code", code)
+                .put("ktype", ktype)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        try (Reader data = HttpClientRest.getIntance().openReader(url, para, method)) {
+            return KLineSeries.read(data, ktype, direct);
+        }
+    }
+
     /**
      *  如果想收盘后立即获取当日的收盘数据，可通过【实时行情】或者【每日行情】接口获取收盘后的日K线数据。沪深京A股日线、周线、月线数据。温馨提示：code参数可以从【沪深京->A股->A股列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -7168,6 +7422,29 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getStockHSADayKLine相同，结果按列存放为KLineSeries，边下载边解析，不缓存整个响应，也不创建DataStockKLine对象，适合大批量数据的计算场景
+     *
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public KLineSeries getStockHSADayKLineSeries(String code, int ktype, int fq, String startDate, String endDate, String fields, String token, String filter,  MethodType method, boolean direct) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getStockHSADayKLine";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("code", code)
+                .put("ktype", ktype)
+                .put("fq", fq)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        try (Reader data = HttpClientRest.getIntance().openReader(url, para, method)) {
+            return KLineSeries.read(data, ktype, direct);
+        }
+    }
+
     /**
      *  沪深京B股基本信息。温馨提示：建议选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -7428,6 +7705,15 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getStockZhuLi相同，数值字段直接解析为double，空值为NaN，适合大批量数据的计算场景
+     */
+    public List<DataStockZhuLiNum> getStockZhuLiNum(String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String data = getStockZhuLi(code , startDate , endDate , fields , token , filter ,  method, ExportType.String_Json);
+        return ExportTool.toObj(data, new TypeToken<List<DataStockZhuLiNum>>() {
+        }.getType());
+    }
+
     /**
      *  盘口异动数据。温馨提示：建议选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -7643,6 +7929,15 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getFuQuanYinZi相同，数值字段直接解析为double，空值为NaN，适合大批量数据的计算场景
+     */
+    public List<DataFuQuanYinZiNum> getFuQuanYinZiNum(String code, int fq, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String data = getFuQuanYinZi(code , fq , startDate , endDate , fields , token , filter ,  method, ExportType.String_Json);
+        return ExportTool.toObj(data, new TypeToken<List<DataFuQuanYinZiNum>>() {
+        }.getType());
+    }
+
     /**
      *  机构调研统计。温馨提示：code参数可以从【通用接口->股票列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -9040,6 +9335,15 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getFundNav相同，数值字段直接解析为double，空值为NaN，适合大批量数据的计算场景
+     */
+    public List<DataFundNavNum> getFundNavNum(String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method) throws IOException {
+        String data = getFundNav(code , startDate , endDate , fields , token , filter ,  method, ExportType.String_Json);
+        return ExportTool.toObj(data, new TypeToken<List<DataFundNavNum>>() {
+        }.getType());
+    }
+
     /**
      *  获取基金历史最大回撤率。最大回撤率是指在选定周期内任一历史时点往后推，产品净值走到最低点时的收益率回撤幅度的最大值。最大回撤用来描述买入产品后可能出现的最糟糕的情况。历史最大回撤率=（最高点累计净值-最低点累计净值）/最高点累计净值。温馨提示：code参数可以从【基金->基金列表】接口中批量获取，也可以选择左上角菜单栏【浏览模式】查询数据。
      * 
@@ -10353,4 +10657,25 @@ public class StockApi {
         }.getType());
     }
 
+    /**
+     * 与getQihuoDailyMarket相同，结果按列存放为KLineSeries，边下载边解析，不缓存整个响应，也不创建DataQiHuoKLine对象，适合大批量数据的计算场景
+     *
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public KLineSeries getQihuoDailyMarketSeries(String code, String startDate, String endDate, String fields, String token, String filter,  MethodType method, boolean direct) throws IOException {
+        String url = "http://api.waizaowang.com/doc/getQihuoDailyMarket";
+        Map<String, Object> para = ImmutableMap.<String, Object>builder()
+                .put("code", code)
+                .put("startDate", startDate)
+                .put("endDate", endDate)
+                .put("fields", fields)
+                .put("token", token)
+                .put("filter", filter)
+                .put("export", ExportType.String_Json.getType())
+                .build();
+        try (Reader data = HttpClientRest.getIntance().openReader(url, para, method)) {
+            return KLineSeries.read(data, 101, direct);
+        }
+    }
+
 }
@@ -0,0 +1,82 @@
+package stock.bar;
+
+import java.io.Serializable;
+
+/**
+ * 最近若干根K线的环形缓冲区，各字段按列存放为基本类型数组
+ */
+public class BarRing implements Serializable {
+    //K线结束时间，取值与KLineStore的date列一致
+    private final int[] date;
+    private final float[] open;
+    private final float[] close;
+    private final float[] high;
+    private final float[] low;
+    private final double[] cjl;
+    private final double[] cje;
+    private int next;
+    private int size;
+
+    public BarRing(int capacity) {
+        this.date = new int[capacity];
+        this.open = new float[capacity];
+        this.close = new float[capacity];
+        this.high = new float[capacity];
+        this.low = new float[capacity];
+        this.cjl = new double[capacity];
+        this.cje = new double[capacity];
+    }
+
+    void push(int date, float open, float close, float high, float low, double cjl, double cje) {
+        this.date[next] = date;
+        this.open[next] = open;
+        this.close[next] = close;
+        this.high[next] = high;
+        this.low[next] = low;
+        this.cjl[next] = cjl;
+        this.cje[next] = cje;
+        next = (next + 1) % this.date.length;
+        size = Math.min(size + 1, this.date.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    //ago为0表示最近一根K线
+    private int index(int ago) {
+        if (ago < 0 || ago >= size) {
+            throw new IndexOutOfBoundsException("ago: " + ago + ", size: " + size);
+        }
+        int index = next - 1 - ago;
+        return index < 0 ? index + date.length : index;
+    }
+
+    public int getDate(int ago) {
+        return date[index(ago)];
+    }
+
+    public float getOpen(int ago) {
+        return open[index(ago)];
+    }
+
+    public float getClose(int ago) {
+        return close[index(ago)];
+    }
+
+    public float getHigh(int ago) {
+        return high[index(ago)];
+    }
+
+    public float getLow(int ago) {
+        return low[index(ago)];
+    }
+
+    public double getCjl(int ago) {
+        return cjl[index(ago)];
+    }
+
+    public double getCje(int ago) {
+        return cje[index(ago)];
+    }
+}
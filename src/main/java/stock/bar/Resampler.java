@@ -0,0 +1,157 @@
+package stock.bar;
+
+import stock.store.KLineColumns;
+import stock.store.KLineStore;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 多周期转换，将本地已有的细粒度K线合成为任意更粗的周期：1分钟线合成5/15/30/60分钟线，分钟线合成日线，日线合成周线、月线。
+ * 每只股票只遍历一遍源K线，多只股票之间并行计算。
+ * <p>
+ * 开盘价取周期内第一根，收盘价取最后一根，最高价、最低价取极值，成交量、成交额、换手率累加；
+ * 涨跌额、涨跌幅、振幅以上一周期的收盘价为基准，第一个周期的基准由第一根源K线的收盘价与涨跌额反推。
+ * 分钟线按交易时段切分（参考TickBarBuilder），周线、月线以周期内最后一个交易日标记。
+ */
+public class Resampler {
+    private final ForkJoinPool pool;
+    private Sessions sessions = new Sessions(TickBarBuilder.HS_A_SESSIONS);
+
+    public Resampler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public Resampler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 分钟线使用的交易时段，默认为沪深A股，参考TickBarBuilder.sessions
+     */
+    public Resampler sessions(int... sessions) {
+        this.sessions = new Sessions(sessions);
+        return this;
+    }
+
+    /**
+     * 读取本地存储中全部股票的K线并转换周期
+     *
+     * @param type   资产类型
+     * @param source 源K线类别
+     * @param target 目标K线类别，取值参考KLineType
+     */
+    public List<KLineColumns> resample(KLineStore store, int type, int source, int target, int fq) throws IOException {
+        List<KLineColumns> columns = new ArrayList<>();
+        store.scan(type, source, fq, columns::add);
+        return resample(columns, target);
+    }
+
+    public List<KLineColumns> resample(List<KLineColumns> sources, int target) {
+        KLineColumns[] result = new KLineColumns[sources.size()];
+        pool.submit(() -> IntStream.range(0, result.length).parallel().forEach(i -> result[i] = resample(sources.get(i), target))).join();
+        return Arrays.asList(result);
+    }
+
+    /**
+     * 单只股票的周期转换
+     */
+    public KLineColumns resample(KLineColumns source, int target) {
+        int ktype = source.getKtype();
+        if (target <= ktype || (ktype >= 101 && target < 102)) {
+            throw new IllegalArgumentException("只能由细粒度周期转换为粗粒度周期：" + ktype + " -> " + target);
+        }
+        int size = source.getSize();
+        IntBuffer date = source.getDate();
+        int[] dates = new int[size];
+        float[][] out = new float[KLineStore.FLOAT_COLUMNS.length][size];
+        int rows = 0;
+        long bucket = Long.MIN_VALUE;
+        //当前周期的基准价
+        float base = size == 0 ? Float.NaN : source.getClose().get(0) - source.getZde().get(0);
+        for (int i = 0; i < size; i++) {
+            int value = date.get(i);
+            long key = bucket(value, ktype, target);
+            float open = source.getOpen().get(i);
+            float close = source.getClose().get(i);
+            float high = source.getHigh().get(i);
+            float low = source.getLow().get(i);
+            if (key != bucket) {
+                if (rows > 0) {
+                    change(out, rows - 1, base);
+                    base = out[1][rows - 1];
+                }
+                bucket = key;
+                out[0][rows] = open;
+                out[2][rows] = high;
+                out[3][rows] = low;
+                rows++;
+            }
+            int row = rows - 1;
+            dates[row] = label(value, key, ktype, target);
+            out[1][row] = close;
+            out[2][row] = Math.max(out[2][row], high);
+            out[3][row] = Math.min(out[3][row], low);
+            out[4][row] += source.getCjl().get(i);
+            out[5][row] += source.getCje().get(i);
+            out[9][row] += source.getHsl().get(i);
+        }
+        if (rows > 0) {
+            change(out, rows - 1, base);
+        }
+        FloatBuffer[] columns = new FloatBuffer[out.length];
+        for (int c = 0; c < out.length; c++) {
+            columns[c] = FloatBuffer.wrap(out[c], 0, rows).slice();
+        }
+        return new KLineColumns(source.getType(), source.getCode(), target, source.getFq(), rows, IntBuffer.wrap(dates, 0, rows).slice(), columns);
+    }
+
+    //计算涨跌额、涨跌幅、振幅
+    private static void change(float[][] out, int row, float base) {
+        if (base > 0) {
+            out[8][row] = out[1][row] - base;
+            out[7][row] = out[8][row] / base * 100;
+            out[6][row] = (out[2][row] - out[3][row]) / base * 100;
+        }
+    }
+
+    /**
+     * 源K线所属的目标周期
+     */
+    private long bucket(int value, int ktype, int target) {
+        if (target < 101) {
+            //分钟线：同一天内按交易时段切分，源K线以结束时间标记，取其最后一分钟所在的目标K线
+            int day = Math.floorDiv(value, 1440);
+            int minute = value - day * 1440;
+            return (long) day * 1440 + sessions.barIndex((minute - 1) * 60, target);
+        }
+        int day = ktype < 101 ? Math.floorDiv(value - 1, 1440) : value;
+        if (target == 101) {
+            return day;
+        }
+        LocalDate date = LocalDate.ofEpochDay(day);
+        if (target == 102) {
+            return day - date.get(ChronoField.DAY_OF_WEEK) + 1;
+        }
+        return date.getYear() * 12L + date.getMonthValue();
+    }
+
+    /**
+     * 目标K线的标记：分钟线为周期结束时间，日线为当天，周线、月线为周期内最后一个交易日
+     */
+    private int label(int value, long bucket, int ktype, int target) {
+        if (target < 101) {
+            int day = (int) Math.floorDiv(bucket, 1440);
+            return day * 1440 + sessions.barEnd(target, (int) (bucket - day * 1440L));
+        }
+        return ktype < 101 ? Math.floorDiv(value - 1, 1440) : value;
+    }
+}
@@ -0,0 +1,48 @@
+package stock.bar;
+
+/**
+ * 交易时段内的分钟K线切分规则：每个时段单独切分，K线以结束时间标记，时段内最后一根K线在时段结束时截断
+ */
+final class Sessions {
+    //依次为每个时段的开始、结束时间（自0点起的分钟数）
+    private final int[] bounds;
+
+    Sessions(int[] bounds) {
+        if (bounds.length == 0 || bounds.length % 2 != 0) {
+            throw new IllegalArgumentException("交易时段需成对设置开始与结束时间");
+        }
+        this.bounds = bounds.clone();
+    }
+
+    /**
+     * 某一时刻所在K线在当天的序号，时段之外的时刻并入相邻时段的边界K线
+     *
+     * @param second 自0点起的秒数
+     */
+    int barIndex(int second, int interval) {
+        int bars = 0;
+        for (int s = 0; s < bounds.length; s += 2) {
+            int start = bounds[s] * 60;
+            int end = bounds[s + 1] * 60;
+            if (second < end || s + 2 == bounds.length || second < bounds[s + 2] * 60) {
+                return bars + Math.max(0, Math.min(end - start - 1, second - start)) / (interval * 60);
+            }
+            bars += (bounds[s + 1] - bounds[s] + interval - 1) / interval;
+        }
+        return bars;
+    }
+
+    /**
+     * 第index根K线的结束时间，为自0点起的分钟数
+     */
+    int barEnd(int interval, int index) {
+        for (int s = 0; s < bounds.length; s += 2) {
+            int count = (bounds[s + 1] - bounds[s] + interval - 1) / interval;
+            if (index < count) {
+                return Math.min(bounds[s] + (index + 1) * interval, bounds[s + 1]);
+            }
+            index -= count;
+        }
+        return bounds[bounds.length - 1];
+    }
+}
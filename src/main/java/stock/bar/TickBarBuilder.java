@@ -0,0 +1,209 @@
+package stock.bar;
+
+import stock.bean.DataStockKLine;
+import stock.bean.DataStockLevel2TimeDeal;
+import stock.cache.TradingCalendar;
+import stock.store.KLineStore;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 由getLevel2TimeDeal的逐笔成交流式合成分钟K线，可同时输出多个周期，周期可以是KLineType中的1、5、15、30、60分钟，也可以是任意分钟数。
+ * <p>
+ * K线按交易时段切分，以结束时间标记：例如沪深A股的1分钟K线09:31包含[09:30, 09:31)的成交，集合竞价并入第一根K线，
+ * 午间休市与收盘后的成交并入该时段的最后一根K线，K线不会跨越时段。某根K线在收到下一根K线的成交或调用flush时输出。
+ * 成交额按 成交价 × 成交量 × volumeUnit 估算。
+ */
+public class TickBarBuilder {
+    //沪深A股交易时段，按分钟表示的[开始, 结束)
+    public static final int[] HS_A_SESSIONS = {9 * 60 + 30, 11 * 60 + 30, 13 * 60, 15 * 60};
+    //港股交易时段
+    public static final int[] HK_SESSIONS = {9 * 60 + 30, 12 * 60, 13 * 60, 16 * 60};
+
+    private final int[] intervals;
+    private final int capacity;
+    private final Consumer<DataStockKLine> listener;
+    private final Map<String, Symbol> symbols = new HashMap<>();
+    private Sessions sessions = new Sessions(HS_A_SESSIONS);
+    //每手股数
+    private int volumeUnit = 100;
+    private TradingCalendar calendar;
+
+    /**
+     * @param intervals K线周期（分钟）
+     * @param capacity  每只股票每个周期在环形缓冲区中保留的K线数量
+     * @param listener  K线完成时回调，ktype为周期分钟数
+     */
+    public TickBarBuilder(int[] intervals, int capacity, Consumer<DataStockKLine> listener) {
+        for (int interval : intervals) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("K线周期必须大于0：" + interval);
+            }
+        }
+        this.intervals = intervals.clone();
+        this.capacity = capacity;
+        this.listener = listener;
+    }
+
+    /**
+     * 交易时段，依次为每个时段的开始、结束时间（自0点起的分钟数），默认为沪深A股
+     */
+    public TickBarBuilder sessions(int... sessions) {
+        this.sessions = new Sessions(sessions);
+        return this;
+    }
+
+    public TickBarBuilder volumeUnit(int volumeUnit) {
+        this.volumeUnit = volumeUnit;
+        return this;
+    }
+
+    /**
+     * 设置交易日历后，非交易日的成交被忽略
+     */
+    public TickBarBuilder calendar(TradingCalendar calendar) {
+        this.calendar = calendar;
+        return this;
+    }
+
+    /**
+     * 接收一笔成交，同一股票的成交需按时间顺序到达
+     */
+    public void accept(DataStockLevel2TimeDeal deal) {
+        String tdate = deal.getTdate();
+        Symbol symbol = symbols.computeIfAbsent(deal.getCode(), Symbol::new);
+        int day = symbol.day(tdate);
+        if (day == Integer.MIN_VALUE) {
+            return;
+        }
+        int second = digits(tdate, 11) * 3600 + digits(tdate, 14) * 60 + (tdate.length() >= 19 ? digits(tdate, 17) : 0);
+        for (int k = 0; k < intervals.length; k++) {
+            symbol.add(k, day, sessions.barIndex(second, intervals[k]), deal.getPrice(), deal.getCjl());
+        }
+    }
+
+    /**
+     * 输出所有未完成的K线，通常在收盘后调用
+     */
+    public void flush() {
+        for (Symbol symbol : symbols.values()) {
+            for (int k = 0; k < intervals.length; k++) {
+                symbol.emit(k);
+            }
+        }
+    }
+
+    /**
+     * 最近完成的K线
+     *
+     * @return 股票不存在时返回null
+     */
+    public BarRing ring(String code, int interval) {
+        Symbol symbol = symbols.get(code);
+        if (symbol == null) {
+            return null;
+        }
+        for (int k = 0; k < intervals.length; k++) {
+            if (intervals[k] == interval) {
+                return symbol.rings[k];
+            }
+        }
+        throw new IllegalArgumentException("未配置的K线周期：" + interval);
+    }
+
+    private static int digits(String value, int offset) {
+        return (value.charAt(offset) - '0') * 10 + (value.charAt(offset + 1) - '0');
+    }
+
+    /**
+     * 单只股票各周期的累加器，以基本类型数组保存当前K线
+     */
+    private class Symbol {
+        private final String code;
+        private final BarRing[] rings = new BarRing[intervals.length];
+        //当前K线在当天的序号，-1表示没有未完成的K线
+        private final int[] index = new int[intervals.length];
+        private final float[] open = new float[intervals.length];
+        private final float[] close = new float[intervals.length];
+        private final float[] high = new float[intervals.length];
+        private final float[] low = new float[intervals.length];
+        private final double[] cjl = new double[intervals.length];
+        private final double[] cje = new double[intervals.length];
+        //上一根K线的收盘价，用于计算涨跌幅
+        private final float[] previous = new float[intervals.length];
+        private final int[] days = new int[intervals.length];
+        private String lastDay;
+        private int lastEpochDay;
+
+        Symbol(String code) {
+            this.code = code;
+            for (int k = 0; k < intervals.length; k++) {
+                rings[k] = new BarRing(capacity);
+                index[k] = -1;
+                previous[k] = Float.NaN;
+            }
+        }
+
+        /**
+         * 成交日期的epoch day，非交易日返回Integer.MIN_VALUE
+         */
+        int day(String tdate) {
+            if (lastDay == null || !tdate.startsWith(lastDay)) {
+                lastDay = tdate.substring(0, 10);
+                LocalDate date = LocalDate.parse(lastDay);
+                lastEpochDay = calendar != null && calendar.covers(date) && !calendar.isTradingDay(date) ? Integer.MIN_VALUE : (int) date.toEpochDay();
+            }
+            return lastEpochDay;
+        }
+
+        void add(int k, int day, int bar, float price, float volume) {
+            if (index[k] >= 0 && (days[k] != day || bar > index[k])) {
+                emit(k);
+            }
+            if (index[k] < 0) {
+                index[k] = bar;
+                days[k] = day;
+                open[k] = price;
+                high[k] = price;
+                low[k] = price;
+                cjl[k] = 0;
+                cje[k] = 0;
+            }
+            close[k] = price;
+            high[k] = Math.max(high[k], price);
+            low[k] = Math.min(low[k], price);
+            cjl[k] += volume;
+            cje[k] += (double) price * volume * volumeUnit;
+        }
+
+        void emit(int k) {
+            if (index[k] < 0) {
+                return;
+            }
+            int date = days[k] * 1440 + sessions.barEnd(intervals[k], index[k]);
+            rings[k].push(date, open[k], close[k], high[k], low[k], cjl[k], cje[k]);
+            DataStockKLine bar = new DataStockKLine();
+            bar.setCode(code);
+            bar.setKtype(intervals[k]);
+            bar.setTdate(KLineStore.toTdate(date, intervals[k]));
+            bar.setOpen(open[k]);
+            bar.setClose(close[k]);
+            bar.setHigh(high[k]);
+            bar.setLow(low[k]);
+            bar.setCjl((float) cjl[k]);
+            bar.setCje((float) cje[k]);
+            float base = previous[k];
+            if (base > 0) {
+                bar.setZde(close[k] - base);
+                bar.setZdf((close[k] - base) / base * 100);
+                bar.setZf((high[k] - low[k]) / base * 100);
+            }
+            previous[k] = close[k];
+            index[k] = -1;
+            listener.accept(bar);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package stock.bean;
+
+import com.google.gson.annotations.JsonAdapter;
+import lombok.Data;
+import stock.DoubleAdapter;
+
+import java.io.Serializable;
+
+/**
+ * DataFuQuanYinZi的数值版本，数值字段在反序列化时直接解析为double，空值为NaN
+ */
+@Data
+public class DataFuQuanYinZiNum implements Serializable {
+
+   //股票代码
+    private String code ;
+
+   //股票名称
+    private String name ;
+
+   //资产类别，1|沪深A股
+    private int type ;
+
+   //复权信息
+    private int fq ;
+
+   //除权出息日期
+    private String tdate ;
+
+   //复权因子
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double fqfactor = Double.NaN;
+
+}
+
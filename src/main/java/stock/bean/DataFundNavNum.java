@@ -0,0 +1,47 @@
+package stock.bean;
+
+import com.google.gson.annotations.JsonAdapter;
+import lombok.Data;
+import stock.DoubleAdapter;
+
+import java.io.Serializable;
+
+/**
+ * DataFundNav的数值版本，数值字段在反序列化时直接解析为double，空值为NaN
+ */
+@Data
+public class DataFundNavNum implements Serializable {
+
+   //基金代码
+    private String code ;
+
+   //净值日期
+    private String tdate ;
+
+   //基金单位净值
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double nav = Double.NaN;
+
+   //基金累计净值
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ljjz = Double.NaN;
+
+   //日增长率（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double rzgl = Double.NaN;
+
+   //申购状态
+    private String sgzt ;
+
+   //赎回状态
+    private String shzt ;
+
+   //分红金额
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double fhje = Double.NaN;
+
+   //分红描述
+    private String fhms ;
+
+}
+
@@ -0,0 +1,59 @@
+package stock.bean;
+
+import com.google.gson.annotations.JsonAdapter;
+import lombok.Data;
+import stock.DoubleAdapter;
+
+import java.io.Serializable;
+
+/**
+ * getIndicatorTa*接口的通用数值版本，指标值在反序列化时直接解析为double，空值为NaN。
+ * 单输出指标使用output，多输出指标依次使用output1、output2、output3。
+ */
+@Data
+public class DataIndicatorTaNum implements Serializable {
+
+   //股票代码
+    private String code ;
+
+   //交易时间
+    private String tdate ;
+
+   //指标值
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double output = Double.NaN;
+
+   //指标值1
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double output1 = Double.NaN;
+
+   //指标值2
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double output2 = Double.NaN;
+
+   //指标值3
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double output3 = Double.NaN;
+
+   //开盘价
+    private float open ;
+
+   //收盘价
+    private float close ;
+
+   //最高价
+    private float high ;
+
+   //最低价
+    private float low ;
+
+   //成交量
+    private float cjl ;
+
+   //成交额
+    private float cje ;
+
+   //换手率，日线、周线、月线有换手率，其余无换手率参数值。
+    private float hsl ;
+
+}
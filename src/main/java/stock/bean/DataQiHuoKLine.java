@@ -1,6 +1,8 @@
 package stock.bean;
 
+import com.google.gson.annotations.JsonAdapter;
 import lombok.Data;
+import stock.InternAdapter;
 
 import java.io.Serializable;
 
@@ -11,18 +13,23 @@ public class DataQiHuoKLine implements Serializable {
     private int jyscode ;
 
    //交易所名称
+    @JsonAdapter(InternAdapter.class)
     private String jysname ;
 
    //品种代码
+    @JsonAdapter(InternAdapter.class)
     private String pzcode ;
 
    //合约代码
+    @JsonAdapter(InternAdapter.class)
     private String code ;
 
    //合约名称
+    @JsonAdapter(InternAdapter.class)
     private String name ;
 
    //交易时间
+    @JsonAdapter(InternAdapter.class)
     private String tdate ;
 
    //最新价
@@ -1,6 +1,8 @@
 package stock.bean;
 
+import com.google.gson.annotations.JsonAdapter;
 import lombok.Data;
+import stock.InternAdapter;
 
 import java.io.Serializable;
 
@@ -8,15 +10,18 @@ import java.io.Serializable;
 public class DataStockHourKLine implements Serializable {
 
    //股票代码
+    @JsonAdapter(InternAdapter.class)
     private String code ;
 
    //股票名称
+    @JsonAdapter(InternAdapter.class)
     private String name ;
 
    //K线类别
     private int ktype ;
 
    //交易时间
+    @JsonAdapter(InternAdapter.class)
     private String tdate ;
 
    //开盘价
@@ -1,6 +1,8 @@
 package stock.bean;
 
+import com.google.gson.annotations.JsonAdapter;
 import lombok.Data;
+import stock.InternAdapter;
 
 import java.io.Serializable;
 
@@ -8,9 +10,11 @@ import java.io.Serializable;
 public class DataStockKLine implements Serializable {
 
    //股票代码
+    @JsonAdapter(InternAdapter.class)
     private String code ;
 
    //股票名称
+    @JsonAdapter(InternAdapter.class)
     private String name ;
 
    //K线类别
@@ -20,6 +24,7 @@ public class DataStockKLine implements Serializable {
     private int fq ;
 
    //交易时间
+    @JsonAdapter(InternAdapter.class)
     private String tdate ;
 
    //开盘价
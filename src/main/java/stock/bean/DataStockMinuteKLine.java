@@ -1,6 +1,8 @@
 package stock.bean;
 
+import com.google.gson.annotations.JsonAdapter;
 import lombok.Data;
+import stock.InternAdapter;
 
 import java.io.Serializable;
 
@@ -8,9 +10,11 @@ import java.io.Serializable;
 public class DataStockMinuteKLine implements Serializable {
 
    //股票代码
+    @JsonAdapter(InternAdapter.class)
     private String code ;
 
    //分时时间
+    @JsonAdapter(InternAdapter.class)
     private String tdate ;
 
    //开盘价（成交均价）
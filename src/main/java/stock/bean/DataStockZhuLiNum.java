@@ -0,0 +1,187 @@
+package stock.bean;
+
+import com.google.gson.annotations.JsonAdapter;
+import lombok.Data;
+import stock.DoubleAdapter;
+
+import java.io.Serializable;
+
+/**
+ * DataStockZhuLi的数值版本，数值字段在反序列化时直接解析为double，空值为NaN
+ */
+@Data
+public class DataStockZhuLiNum implements Serializable {
+
+   //股票代码
+    private String code ;
+
+   //股票名称
+    private String name ;
+
+   //报告期
+    private String tdate ;
+
+   //基金-持有家数
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double aa = Double.NaN;
+
+   //基金-持股总数（股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ab = Double.NaN;
+
+   //基金-占总股本比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ac = Double.NaN;
+
+   //基金-持股市值（元）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ad = Double.NaN;
+
+   //基金-持股变化
+    private String ae ;
+
+   //基金-持股变动数值（股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double af = Double.NaN;
+
+   //基金-持股变动比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ag = Double.NaN;
+
+   //QFII-持有家数
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ba = Double.NaN;
+
+   //QFII-持股总数（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double bb = Double.NaN;
+
+   //QFII-占总股本比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double bc = Double.NaN;
+
+   //QFII-持股市值（亿元）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double bd = Double.NaN;
+
+   //QFII-持股变化
+    private String be ;
+
+   //QFII-持股变动数值（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double bf = Double.NaN;
+
+   //QFII-持股变动比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double bg = Double.NaN;
+
+   //社保-持有家数
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ca = Double.NaN;
+
+   //社保-持股总数（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double cb = Double.NaN;
+
+   //社保-占总股本比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double cc = Double.NaN;
+
+   //社保-持股市值（亿元）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double cd = Double.NaN;
+
+   //社保-持股变化
+    private String ce ;
+
+   //社保-持股变动数值（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double cf = Double.NaN;
+
+   //社保-持股变动比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double cg = Double.NaN;
+
+   //券商-持有家数
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double da = Double.NaN;
+
+   //券商-持股总数（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double db = Double.NaN;
+
+   //券商-占总股本比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double dc = Double.NaN;
+
+   //券商-持股市值（亿元）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double dd = Double.NaN;
+
+   //券商-持股变化
+    private String de ;
+
+   //券商-持股变动数值（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double df = Double.NaN;
+
+   //券商-持股变动比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double dg = Double.NaN;
+
+   //保险-持有家数
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ea = Double.NaN;
+
+   //保险-持股总数（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double eb = Double.NaN;
+
+   //保险-占总股本比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ec = Double.NaN;
+
+   //保险-持股市值（亿元）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ed = Double.NaN;
+
+   //保险-持股变化
+    private String ee ;
+
+   //保险-持股变动数值（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ef = Double.NaN;
+
+   //保险-持股变动比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double eg = Double.NaN;
+
+   //信托-持有家数
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double fa = Double.NaN;
+
+   //信托-持股总数（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double fb = Double.NaN;
+
+   //信托-占总股本比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double fc = Double.NaN;
+
+   //信托-持股市值（亿元）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double fd = Double.NaN;
+
+   //信托-持股变化
+    private String fe ;
+
+   //信托-持股变动数值（万股）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double ff = Double.NaN;
+
+   //信托-持股变动比例（%）
+    @JsonAdapter(value = DoubleAdapter.class, nullSafe = false)
+    private double fg = Double.NaN;
+
+}
+
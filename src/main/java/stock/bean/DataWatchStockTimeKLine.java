@@ -1,6 +1,8 @@
 package stock.bean;
 
+import com.google.gson.annotations.JsonAdapter;
 import lombok.Data;
+import stock.InternAdapter;
 
 import java.io.Serializable;
 
@@ -8,9 +10,11 @@ import java.io.Serializable;
 public class DataWatchStockTimeKLine implements Serializable {
 
    //股票代码
+    @JsonAdapter(InternAdapter.class)
     private String code ;
 
    //交易时间
+    @JsonAdapter(InternAdapter.class)
     private String tdate ;
 
    //最新价（元）
@@ -41,6 +45,7 @@ public class DataWatchStockTimeKLine implements Serializable {
     private float lbi ;
 
    //股票名称
+    @JsonAdapter(InternAdapter.class)
     private String name ;
 
    //最高价（元）
@@ -71,6 +76,7 @@ public class DataWatchStockTimeKLine implements Serializable {
     private float zfy ;
 
    //上市日期
+    @JsonAdapter(InternAdapter.class)
     private String ssdate ;
 
    //委比（%）
@@ -164,12 +170,15 @@ public class DataWatchStockTimeKLine implements Serializable {
     private float z39 ;
 
    //归属行业板块名称
+    @JsonAdapter(InternAdapter.class)
     private String z50 ;
 
    //归属地域板块名称
+    @JsonAdapter(InternAdapter.class)
     private String z52 ;
 
    //归属概念板块名称
+    @JsonAdapter(InternAdapter.class)
     private String z53 ;
 
    //5日涨跌幅（%）
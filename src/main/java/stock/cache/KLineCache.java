@@ -0,0 +1,327 @@
+package stock.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import constant.MethodType;
+import lombok.Getter;
+import stock.ExportTool;
+import stock.api.StockApi;
+import stock.bean.DataStockHourKLine;
+import stock.bean.DataStockKLine;
+import stock.bean.DataStockMinuteKLine;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * K线本地缓存，按照（数据类型、资产类型、股票代码、K线类别、复权类型）保存已经获取的K线数据。
+ * 请求一段日期范围时，只请求缓存中缺失的子区间，再与缓存数据合并返回；命中的数据直接从内存或本地文件读取。
+ * 昨天及以前的历史数据不会再变化，只有这部分数据会被缓存，今天的数据每次都重新请求。
+ * 周线、月线只缓存已经结束的周、月，尚未结束的一根K线每次都重新请求；前复权数据在每次除权除息后整体变化，不缓存。
+ * <p>
+ * 本地文件为多个gzip成员首尾相接，每次补全只在文件末尾追加一个成员，内容为新增的覆盖区间和K线，
+ * 成员数量超过COMPACT_MEMBERS或末尾成员损坏时才整体重写。
+ */
+@Getter
+public class KLineCache {
+    //文件中的gzip成员超过该数量时整体重写
+    private static final int COMPACT_MEMBERS = 64;
+    private final File root;
+    private final StockApi stockApi;
+    //内存中保留的序列数量
+    private final Cache<String, Series<?>> memory;
+    //交易日历，设置后不再请求不含交易日的子区间
+    private volatile TradingCalendar calendar;
+
+    public KLineCache(File root) {
+        this(root, new StockApi(), 2000);
+    }
+
+    public KLineCache(File root, StockApi stockApi, int maxMemorySeries) {
+        this.root = root;
+        this.stockApi = stockApi;
+        this.memory = CacheBuilder.newBuilder().maximumSize(maxMemorySeries).build();
+    }
+
+    /**
+     * 日线、周线、月线，参数含义参考StockApi.getDayKLine，code只支持单个股票代码。
+     * 前复权（fq=1）的历史价格在每次除权除息后都会改变，直接请求接口，不经过缓存
+     */
+    public List<DataStockKLine> getDayKLine(int type, String code, int ktype, int fq, String startDate, String endDate, String token) throws IOException {
+        if (fq == 1) {
+            return stockApi.getDayKLine(type, code, ktype, fq, startDate.substring(0, 10), endDate.substring(0, 10), "all", token, "", MethodType.GET);
+        }
+        String key = String.format("day/%s/%s_%s/%s", type, ktype, fq, code);
+        return get(key, DataStockKLine.class, DataStockKLine::getTdate, startDate, endDate, stableDate(ktype),
+                (start, end) -> stockApi.getDayKLine(type, code, ktype, fq, start.toString(), end.toString(), "all", token, "", MethodType.GET));
+    }
+
+    /**
+     * 时线数据，参数含义参考StockApi.getHourKLine，code只支持单个股票代码
+     */
+    public List<DataStockHourKLine> getHourKLine(int type, String code, int ktype, String startDate, String endDate, String token) throws IOException {
+        String key = String.format("hour/%s/%s/%s", type, ktype, code);
+        return get(key, DataStockHourKLine.class, DataStockHourKLine::getTdate, startDate, endDate, stableDate(),
+                (start, end) -> stockApi.getHourKLine(type, code, ktype, start + " 00:00:00", end + " 23:59:59", "all", token, "", MethodType.GET));
+    }
+
+    /**
+     * 分线数据，参数含义参考StockApi.getMinuteKLine，code只支持单个股票代码
+     */
+    public List<DataStockMinuteKLine> getMinuteKLine(int type, String code, String startDate, String endDate, String token) throws IOException {
+        String key = String.format("minute/%s/%s", type, code);
+        return get(key, DataStockMinuteKLine.class, DataStockMinuteKLine::getTdate, startDate, endDate, stableDate(),
+                (start, end) -> stockApi.getMinuteKLine(type, code, start + " 00:00:00", end + " 23:59:59", "all", token, "", MethodType.GET));
+    }
+
+    /**
+     * 设置交易日历，缺失子区间会收缩到首尾交易日，不含交易日的子区间不再请求
+     */
+    public KLineCache calendar(TradingCalendar calendar) {
+        this.calendar = calendar;
+        return this;
+    }
+
+    /**
+     * 清除某个序列的缓存
+     */
+    public void invalidate(String key) {
+        memory.invalidate(key);
+        new File(root, key + ".json.gz").delete();
+    }
+
+    /**
+     * 已缓存数据的截止日期（含），默认为昨天
+     */
+    protected LocalDate stableDate() {
+        return LocalDate.now().minusDays(1);
+    }
+
+    /**
+     * 日线、周线、月线已缓存数据的截止日期（含）：周线为上一个完整周的周日，月线为上一个完整月的最后一天，
+     * 当前周、月的K线在结束前每天都在变化，不缓存
+     */
+    protected LocalDate stableDate(int ktype) {
+        LocalDate today = stableDate().plusDays(1);
+        if (ktype == 102) {
+            return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusDays(1);
+        }
+        if (ktype == 103) {
+            return today.withDayOfMonth(1).minusDays(1);
+        }
+        return stableDate();
+    }
+
+    /**
+     * 计算需要请求的缺失子区间，设置交易日历后剔除首尾的非交易日
+     */
+    protected List<Range<LocalDate>> missing(RangeSet<LocalDate> coverage, LocalDate start, LocalDate end) {
+        List<Range<LocalDate>> ranges = new ArrayList<>(coverage.complement().subRangeSet(Range.closedOpen(start, end.plusDays(1))).asRanges());
+        TradingCalendar calendar = this.calendar;
+        if (calendar == null) {
+            return ranges;
+        }
+        List<Range<LocalDate>> result = new ArrayList<>();
+        for (Range<LocalDate> range : ranges) {
+            LocalDate from = range.lowerEndpoint();
+            LocalDate to = range.upperEndpoint().minusDays(1);
+            //日历范围之外的日期无法判断，保持原样请求
+            if (!calendar.covers(from) || !calendar.covers(to)) {
+                result.add(range);
+                continue;
+            }
+            LocalDate first = calendar.offset(from, 0);
+            LocalDate last = calendar.isTradingDay(to) ? to : calendar.prev(to);
+            if (first != null && last != null && !first.isAfter(last)) {
+                result.add(Range.closedOpen(first, last.plusDays(1)));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(String key, Class<T> clazz, Function<T, String> tdate, String startDate, String endDate, LocalDate stable, Fetcher<T> fetcher) throws IOException {
+        LocalDate start = LocalDate.parse(startDate.substring(0, 10));
+        LocalDate end = LocalDate.parse(endDate.substring(0, 10));
+        Series<T> series;
+        try {
+            series = (Series<T>) memory.get(key, () -> Series.load(new File(root, key + ".json.gz"), clazz));
+        } catch (ExecutionException e) {
+            throw new IOException("读取K线缓存失败：" + key, e.getCause());
+        }
+        synchronized (series) {
+            TreeMap<String, T> fresh = new TreeMap<>();
+            TreeMap<String, T> added = new TreeMap<>();
+            List<Range<LocalDate>> covered = new ArrayList<>();
+            for (Range<LocalDate> range : missing(series.coverage, start, end)) {
+                LocalDate from = range.lowerEndpoint();
+                LocalDate to = range.upperEndpoint().minusDays(1);
+                List<T> bars = fetcher.fetch(from, to);
+                //接口返回data为null表示该区间没有数据
+                for (T bar : bars == null ? Collections.<T>emptyList() : bars) {
+                    String date = tdate.apply(bar);
+                    if (date.substring(0, 10).compareTo(stable.toString()) <= 0) {
+                        added.put(date, bar);
+                    } else {
+                        fresh.put(date, bar);
+                    }
+                }
+                if (!from.isAfter(stable)) {
+                    covered.add(Range.closedOpen(from, (to.isBefore(stable) ? to : stable).plusDays(1)));
+                }
+            }
+            if (!covered.isEmpty()) {
+                series.append(new File(root, key + ".json.gz"), covered, added);
+            }
+            TreeMap<String, T> result = new TreeMap<>(series.bars.subMap(startDate, true, endDate + "\uffff", true));
+            result.putAll(fresh.subMap(startDate, true, endDate + "\uffff", true));
+            return new ArrayList<>(result.values());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Fetcher<T> {
+        List<T> fetch(LocalDate start, LocalDate end) throws IOException;
+    }
+
+    /**
+     * 单个序列的缓存数据：已覆盖的日期区间以及区间内的K线，以tdate排序
+     */
+    private static class Series<T> {
+        private final Class<T> clazz;
+        private final RangeSet<LocalDate> coverage = TreeRangeSet.create();
+        private final TreeMap<String, T> bars = new TreeMap<>();
+        //文件中的gzip成员数量
+        private int members;
+        //文件末尾有损坏的成员，下次写入时整体重写
+        private boolean corrupted;
+
+        private Series(Class<T> clazz) {
+            this.clazz = clazz;
+        }
+
+        static <T> Series<T> load(File file, Class<T> clazz) throws IOException {
+            Series<T> series = new Series<>(clazz);
+            if (!file.exists()) {
+                return series;
+            }
+            try (JsonReader reader = new JsonReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+                reader.setLenient(true);
+                while (reader.peek() != JsonToken.END_DOCUMENT) {
+                    JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+                    //一个成员中的覆盖区间和K线同时写入，整体读取成功后才生效
+                    List<Range<LocalDate>> ranges = new ArrayList<>();
+                    for (JsonElement range : json.getAsJsonArray("coverage")) {
+                        JsonArray pair = range.getAsJsonArray();
+                        ranges.add(Range.closedOpen(LocalDate.parse(pair.get(0).getAsString()), LocalDate.parse(pair.get(1).getAsString())));
+                    }
+                    JsonArray bars = json.getAsJsonArray("bars");
+                    JsonArray dates = json.getAsJsonArray("dates");
+                    TreeMap<String, T> parsed = new TreeMap<>();
+                    for (int i = 0; i < bars.size(); i++) {
+                        parsed.put(dates.get(i).getAsString(), ExportTool.getGson().fromJson(bars.get(i), clazz));
+                    }
+                    series.coverage.addAll(ranges);
+                    series.bars.putAll(parsed);
+                    series.members++;
+                }
+            } catch (IOException | RuntimeException e) {
+                //追加写入中断时只会损坏末尾的成员，保留之前已经读取的内容
+                if (series.members == 0) {
+                    throw new IOException("K线缓存文件损坏：" + file, e);
+                }
+                series.corrupted = true;
+            }
+            return series;
+        }
+
+        /**
+         * 合并新增的覆盖区间和K线，并在文件末尾追加一个gzip成员；成员过多或文件损坏时整体重写
+         */
+        void append(File file, List<Range<LocalDate>> ranges, TreeMap<String, T> added) throws IOException {
+            coverage.addAll(ranges);
+            bars.putAll(added);
+            if (corrupted || members >= COMPACT_MEMBERS) {
+                save(file);
+                return;
+            }
+            Files.createDirectories(file.getParentFile().toPath());
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(file, true)), StandardCharsets.UTF_8)) {
+                ExportTool.getGson().toJson(toJson(ranges, added), writer);
+            } catch (IOException | UncheckedIOException e) {
+                corrupted = true;
+                throw e;
+            }
+            members++;
+        }
+
+        /**
+         * 将全部内容写入一个gzip成员，替换原文件
+         */
+        void save(File file) throws IOException {
+            JsonObject json = toJson(coverage.asRanges(), bars);
+            File parent = file.getParentFile();
+            Files.createDirectories(parent.toPath());
+            File temp = File.createTempFile(file.getName(), ".tmp", parent);
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(temp)), StandardCharsets.UTF_8)) {
+                ExportTool.getGson().toJson(json, writer);
+            } catch (IOException | UncheckedIOException e) {
+                temp.delete();
+                throw e;
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            members = 1;
+            corrupted = false;
+        }
+
+        private JsonObject toJson(Iterable<Range<LocalDate>> ranges, TreeMap<String, T> values) {
+            JsonObject json = new JsonObject();
+            JsonArray coverageJson = new JsonArray();
+            for (Range<LocalDate> range : ranges) {
+                JsonArray pair = new JsonArray();
+                pair.add(range.lowerEndpoint().toString());
+                pair.add(range.upperEndpoint().toString());
+                coverageJson.add(pair);
+            }
+            JsonArray dates = new JsonArray();
+            JsonArray barsJson = new JsonArray();
+            values.forEach((date, bar) -> {
+                dates.add(date);
+                barsJson.add(ExportTool.getGson().toJsonTree(bar, clazz));
+            });
+            json.add("coverage", coverageJson);
+            json.add("dates", dates);
+            json.add("bars", barsJson);
+            return json;
+        }
+    }
+}
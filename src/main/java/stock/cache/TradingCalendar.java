@@ -0,0 +1,218 @@
+package stock.cache;
+
+import constant.MarketType;
+import constant.MethodType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import stock.api.StockApi;
+import stock.bean.DataTradeDate;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 单个市场的交易日历，交易日以位图保存（第i位表示start之后第i天是否交易），
+ * 并预先计算每天之前的交易日数量，前后交易日、第N个交易日、区间交易日数量均为常数时间。
+ * 半天休市的日期视为交易日。日历只覆盖[start, end]，超出范围的查询按无交易日处理。
+ * <p>
+ * 用法：TradingCalendar.load(new File("calendar"), MarketType.HS_A, stockApi, token)，首次加载时请求getTradeDate并保存到本地。
+ */
+@Getter
+public class TradingCalendar {
+    //首次加载时请求的日期范围
+    private static final String FIRST_DATE = "1990-01-01";
+    //本地日历距离结束日期不足该天数时重新请求
+    private static final int REFRESH_DAYS = 30;
+
+    //市场类型
+    private final int mtype;
+    //日历的第一天
+    private final LocalDate start;
+    //日历的最后一天
+    private final LocalDate end;
+    //交易日位图
+    private final BitSet open;
+    //ranks[i]为第0~i-1天中的交易日数量
+    @Getter(AccessLevel.NONE)
+    private final int[] ranks;
+    //按顺序排列的交易日，取值为相对start的天数
+    @Getter(AccessLevel.NONE)
+    private final int[] days;
+
+    public TradingCalendar(int mtype, LocalDate start, LocalDate end, BitSet open) {
+        this.mtype = mtype;
+        this.start = start;
+        this.end = end;
+        this.open = open;
+        int length = (int) (end.toEpochDay() - start.toEpochDay() + 1);
+        this.ranks = new int[length + 1];
+        this.days = new int[open.cardinality()];
+        for (int i = 0, count = 0; i < length; i++) {
+            if (open.get(i)) {
+                days[count++] = i;
+            }
+            ranks[i + 1] = count;
+        }
+    }
+
+    /**
+     * 按getTradeDate的返回结果构建日历，返回结果中没有出现的日期视为休市
+     */
+    public static TradingCalendar of(int mtype, List<DataTradeDate> dates) {
+        LocalDate start = null;
+        LocalDate end = null;
+        List<LocalDate> open = new ArrayList<>();
+        for (DataTradeDate date : dates) {
+            LocalDate day = LocalDate.parse(date.getTdate().substring(0, 10));
+            start = start == null || day.isBefore(start) ? day : start;
+            end = end == null || day.isAfter(end) ? day : end;
+            if (date.getIsopen() != 2) {
+                open.add(day);
+            }
+        }
+        if (start == null) {
+            throw new IllegalArgumentException("交易日历为空：" + mtype);
+        }
+        BitSet bits = new BitSet();
+        for (LocalDate day : open) {
+            bits.set((int) (day.toEpochDay() - start.toEpochDay()));
+        }
+        return new TradingCalendar(mtype, start, end, bits);
+    }
+
+    /**
+     * 读取本地保存的日历，本地不存在或即将过期时请求getTradeDate并保存
+     *
+     * @param root 日历保存目录，每个市场一个文件
+     */
+    public static TradingCalendar load(File root, MarketType market, StockApi stockApi, String token) throws IOException {
+        File file = new File(root, "calendar_" + market.getType() + ".bin");
+        if (file.exists()) {
+            TradingCalendar calendar = read(file);
+            if (!calendar.end.isBefore(LocalDate.now().plusDays(REFRESH_DAYS))) {
+                return calendar;
+            }
+        }
+        String endDate = LocalDate.now().plusYears(1).withMonth(12).withDayOfMonth(31).toString();
+        TradingCalendar calendar = of(market.getType(), stockApi.getTradeDate(market.getType(), FIRST_DATE, endDate, "all", token, "", MethodType.GET));
+        calendar.write(file);
+        return calendar;
+    }
+
+    public static TradingCalendar read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+            int mtype = in.readInt();
+            LocalDate start = LocalDate.ofEpochDay(in.readLong());
+            LocalDate end = LocalDate.ofEpochDay(in.readLong());
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            return new TradingCalendar(mtype, start, end, BitSet.valueOf(words));
+        }
+    }
+
+    public void write(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        Files.createDirectories(parent.toPath());
+        File temp = File.createTempFile(file.getName(), ".tmp", parent);
+        try (OutputStream stream = Files.newOutputStream(temp.toPath()); DataOutputStream out = new DataOutputStream(stream)) {
+            long[] words = open.toLongArray();
+            out.writeInt(mtype);
+            out.writeLong(start.toEpochDay());
+            out.writeLong(end.toEpochDay());
+            out.writeInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        return covers(date) && open.get(index(date));
+    }
+
+    /**
+     * @return date之后（不含）的第一个交易日，超出日历范围时返回null
+     */
+    public LocalDate next(LocalDate date) {
+        return day(countThrough(date));
+    }
+
+    /**
+     * @return date之前（不含）的最后一个交易日，超出日历范围时返回null
+     */
+    public LocalDate prev(LocalDate date) {
+        return day(countBefore(date) - 1);
+    }
+
+    /**
+     * 第n个交易日：n大于0时为date之后的第n个交易日，n小于0时为date之前的第-n个交易日，
+     * n等于0时为date当天（交易日）或之后的第一个交易日；超出日历范围时返回null
+     */
+    public LocalDate offset(LocalDate date, int n) {
+        if (n > 0) {
+            return day(countThrough(date) + n - 1);
+        }
+        if (n < 0) {
+            return day(countBefore(date) + n);
+        }
+        return day(countBefore(date));
+    }
+
+    /**
+     * [from, to]之间的交易日数量
+     */
+    public int count(LocalDate from, LocalDate to) {
+        return Math.max(0, countThrough(to) - countBefore(from));
+    }
+
+    /**
+     * [from, to]之间的交易日，按日期升序
+     */
+    public List<LocalDate> tradingDays(LocalDate from, LocalDate to) {
+        List<LocalDate> result = new ArrayList<>();
+        for (int k = countBefore(from), last = countThrough(to); k < last; k++) {
+            result.add(day(k));
+        }
+        return result;
+    }
+
+    private int index(LocalDate date) {
+        return (int) (date.toEpochDay() - start.toEpochDay());
+    }
+
+    //date之前（不含）的交易日数量
+    private int countBefore(LocalDate date) {
+        long index = date.toEpochDay() - start.toEpochDay();
+        return ranks[(int) Math.max(0, Math.min(ranks.length - 1, index))];
+    }
+
+    //date及之前的交易日数量
+    private int countThrough(LocalDate date) {
+        long index = date.toEpochDay() - start.toEpochDay() + 1;
+        return ranks[(int) Math.max(0, Math.min(ranks.length - 1, index))];
+    }
+
+    //第k个交易日，k从0开始
+    private LocalDate day(int k) {
+        return k < 0 || k >= days.length ? null : start.plusDays(days[k]);
+    }
+}
@@ -0,0 +1,618 @@
+package stock.indicator;
+
+/**
+ * K线形态识别的公共特征：实体、影线、颜色，以及各蜡烛图参数在每根K线之前的均值。
+ * 特征在构造时一次算好，形态识别只做数组读取与比较；evaluate需按下标递增的顺序调用，陷阱类形态依赖之前的状态。
+ */
+final class Candles {
+
+    /**
+     * TA-Lib默认的蜡烛图参数：比较范围、均值周期、系数
+     */
+    private enum Setting {
+        BodyLong(Range.RealBody, 10, 1.0),
+        BodyVeryLong(Range.RealBody, 10, 3.0),
+        BodyShort(Range.RealBody, 10, 1.0),
+        BodyDoji(Range.HighLow, 10, 0.1),
+        ShadowLong(Range.RealBody, 0, 1.0),
+        ShadowVeryLong(Range.RealBody, 0, 2.0),
+        ShadowShort(Range.Shadows, 10, 1.0),
+        ShadowVeryShort(Range.HighLow, 10, 0.1),
+        Near(Range.HighLow, 5, 0.2),
+        Far(Range.HighLow, 5, 0.6),
+        Equal(Range.HighLow, 5, 0.05);
+
+        private final Range range;
+        private final int period;
+        private final double factor;
+
+        Setting(Range range, int period, double factor) {
+            this.range = range;
+            this.period = period;
+            this.factor = factor;
+        }
+    }
+
+    private enum Range {
+        RealBody, HighLow, Shadows
+    }
+
+    private final int size;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] body;
+    private final double[] upper;
+    private final double[] lower;
+    private final int[] color;
+    //各参数在每根K线处的比较阈值，下标为Setting.ordinal()
+    private final double[][] average = new double[Setting.values().length][];
+
+    private int hikkakeIndex;
+    private int hikkakeResult;
+    private int hikkakeModIndex;
+    private int hikkakeModResult;
+
+    Candles(double[] open, double[] high, double[] low, double[] close) {
+        this.size = close.length;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.body = new double[size];
+        this.upper = new double[size];
+        this.lower = new double[size];
+        this.color = new int[size];
+        for (int i = 0; i < size; i++) {
+            body[i] = Math.abs(close[i] - open[i]);
+            upper[i] = high[i] - Math.max(open[i], close[i]);
+            lower[i] = Math.min(open[i], close[i]) - low[i];
+            color[i] = close[i] >= open[i] ? 1 : -1;
+        }
+        for (Setting setting : Setting.values()) {
+            average[setting.ordinal()] = average(setting);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 识别第i根K线处的形态
+     *
+     * @return 识别结果，看涨为正、看跌为负，100为形态成立，200为陷阱形态得到确认，0为未识别
+     */
+    int evaluate(CdlPattern pattern, int i, double penetration) {
+        switch (pattern) {
+            case CdlHikkake:
+                return hikkake(i);
+            case CdlHikkakeMod:
+                return hikkakeMod(i);
+            default:
+                return i < pattern.getLookback() ? 0 : rule(pattern, i, penetration);
+        }
+    }
+
+    private int rule(CdlPattern pattern, int i, double penetration) {
+        switch (pattern) {
+            case Cdl2Crows:
+                return twoCrows(i);
+            case Cdl3BlackCrows:
+                return threeBlackCrows(i);
+            case Cdl3Inside:
+                return threeInside(i);
+            case Cdl3LineStrike:
+                return threeLineStrike(i);
+            case Cdl3Outside:
+                return threeOutside(i);
+            case Cdl3StarsInSouth:
+                return threeStarsInSouth(i);
+            case Cdl3WhiteSoldiers:
+                return threeWhiteSoldiers(i);
+            case CdlAbandonedBaby:
+                return abandonedBaby(i, penetration);
+            case CdlAdvanceBlock:
+                return advanceBlock(i);
+            case CdlBeltHold:
+                return beltHold(i);
+            case CdlBreakaway:
+                return breakaway(i);
+            case CdlClosingMarubozu:
+                return closingMarubozu(i);
+            case CdlConcealBabysWall:
+                return concealBabysWall(i);
+            case CdlCounterAttack:
+                return counterAttack(i);
+            case CdlDarkCloudCover:
+                return darkCloudCover(i, penetration);
+            case CdlDoji:
+                return body[i] <= avg(Setting.BodyDoji, i) ? 100 : 0;
+            case CdlDojiStar:
+                return dojiStar(i);
+            case CdlDragonflyDoji:
+                return body[i] <= avg(Setting.BodyDoji, i) && upper[i] < avg(Setting.ShadowVeryShort, i)
+                        && lower[i] > avg(Setting.ShadowVeryShort, i) ? 100 : 0;
+            case CdlEngulfing:
+                return engulfing(i);
+            case CdlEveningDojiStar:
+                return star(i, penetration, Setting.BodyDoji, -1);
+            case CdlEveningStar:
+                return star(i, penetration, Setting.BodyShort, -1);
+            case CdlGapSideSideWhite:
+                return gapSideSideWhite(i);
+            case CdlGravestoneDoji:
+                return body[i] <= avg(Setting.BodyDoji, i) && lower[i] < avg(Setting.ShadowVeryShort, i)
+                        && upper[i] > avg(Setting.ShadowVeryShort, i) ? 100 : 0;
+            case CdlHammer:
+                return hammer(i) && Math.min(close[i], open[i]) <= low[i - 1] + avg(Setting.Near, i - 1) ? 100 : 0;
+            case CdlHangingMan:
+                return hammer(i) && Math.min(close[i], open[i]) >= high[i - 1] - avg(Setting.Near, i - 1) ? -100 : 0;
+            case CdlHarami:
+                return harami(i, Setting.BodyShort);
+            case CdlHaramiCross:
+                return harami(i, Setting.BodyDoji);
+            case CdlHignWave:
+                return body[i] < avg(Setting.BodyShort, i) && upper[i] > avg(Setting.ShadowVeryLong, i)
+                        && lower[i] > avg(Setting.ShadowVeryLong, i) ? color[i] * 100 : 0;
+            case CdlHomingPigeon:
+                return color[i - 1] == -1 && color[i] == -1 && body[i - 1] > avg(Setting.BodyLong, i - 1)
+                        && body[i] <= avg(Setting.BodyShort, i) && open[i] < open[i - 1] && close[i] > close[i - 1] ? 100 : 0;
+            case CdlIdentical3Crows:
+                return identical3Crows(i);
+            case CdlInNeck:
+                return neck(i) && close[i] <= close[i - 1] + avg(Setting.Equal, i - 1) && close[i] >= close[i - 1] ? -100 : 0;
+            case CdlInvertedHammer:
+                return body[i] < avg(Setting.BodyShort, i) && upper[i] > avg(Setting.ShadowLong, i)
+                        && lower[i] < avg(Setting.ShadowVeryShort, i) && realBodyGapDown(i, i - 1) ? 100 : 0;
+            case CdlKicking:
+                return kicking(i) ? color[i] * 100 : 0;
+            case CdlKickingByLength:
+                return kicking(i) ? color[body[i] > body[i - 1] ? i : i - 1] * 100 : 0;
+            case CdlLadderBottom:
+                return ladderBottom(i);
+            case CdlLongLeggedDoji:
+                return body[i] <= avg(Setting.BodyDoji, i)
+                        && (lower[i] > avg(Setting.ShadowLong, i) || upper[i] > avg(Setting.ShadowLong, i)) ? 100 : 0;
+            case CdlLongLine:
+                return body[i] > avg(Setting.BodyLong, i) && upper[i] < avg(Setting.ShadowShort, i)
+                        && lower[i] < avg(Setting.ShadowShort, i) ? color[i] * 100 : 0;
+            case CdlMarubozu:
+                return body[i] > avg(Setting.BodyLong, i) && upper[i] < avg(Setting.ShadowVeryShort, i)
+                        && lower[i] < avg(Setting.ShadowVeryShort, i) ? color[i] * 100 : 0;
+            case CdlMatchingLow:
+                return color[i - 1] == -1 && color[i] == -1 && close[i] <= close[i - 1] + avg(Setting.Equal, i - 1)
+                        && close[i] >= close[i - 1] - avg(Setting.Equal, i - 1) ? 100 : 0;
+            case CdlMatHold:
+                return matHold(i, penetration);
+            case CdlMorningDojiStar:
+                return star(i, penetration, Setting.BodyDoji, 1);
+            case CdlMorningStar:
+                return star(i, penetration, Setting.BodyShort, 1);
+            case CdlOnNeck:
+                return neck(i) && close[i] <= low[i - 1] + avg(Setting.Equal, i - 1)
+                        && close[i] >= low[i - 1] - avg(Setting.Equal, i - 1) ? -100 : 0;
+            case CdlPiercing:
+                return color[i - 1] == -1 && body[i - 1] > avg(Setting.BodyLong, i - 1) && color[i] == 1
+                        && body[i] > avg(Setting.BodyLong, i) && open[i] < low[i - 1] && close[i] < open[i - 1]
+                        && close[i] > close[i - 1] + body[i - 1] * 0.5 ? 100 : 0;
+            case CdlRickshawMan:
+                return rickshawMan(i);
+            case CdlRiseFall3Methods:
+                return riseFall3Methods(i);
+            case CdlShootingStar:
+                return body[i] < avg(Setting.BodyShort, i) && upper[i] > avg(Setting.ShadowLong, i)
+                        && lower[i] < avg(Setting.ShadowVeryShort, i) && realBodyGapUp(i, i - 1) ? -100 : 0;
+            case CdlShortLine:
+                return body[i] < avg(Setting.BodyShort, i) && upper[i] < avg(Setting.ShadowShort, i)
+                        && lower[i] < avg(Setting.ShadowShort, i) ? color[i] * 100 : 0;
+            case CdlSpinningTop:
+                return body[i] < avg(Setting.BodyShort, i) && upper[i] > body[i] && lower[i] > body[i] ? color[i] * 100 : 0;
+            case CdlStalledPattern:
+                return stalledPattern(i);
+            case CdlTakuri:
+                return body[i] <= avg(Setting.BodyDoji, i) && upper[i] < avg(Setting.ShadowVeryShort, i)
+                        && lower[i] > avg(Setting.ShadowVeryLong, i) ? 100 : 0;
+            case CdlTasukiGap:
+                return tasukiGap(i);
+            case CdlThrusting:
+                return neck(i) && close[i] > close[i - 1] + avg(Setting.Equal, i - 1)
+                        && close[i] <= close[i - 1] + body[i - 1] * 0.5 ? -100 : 0;
+            case CdlTristar:
+                return tristar(i);
+            case CdlUnique3River:
+                return body[i - 2] > avg(Setting.BodyLong, i - 2) && color[i - 2] == -1 && color[i - 1] == -1
+                        && close[i - 1] > close[i - 2] && open[i - 1] <= open[i - 2] && low[i - 1] < low[i - 2]
+                        && body[i] < avg(Setting.BodyShort, i) && color[i] == 1 && open[i] > low[i - 1] ? 100 : 0;
+            case CdlUpsideGap2Crows:
+                return color[i - 2] == 1 && body[i - 2] > avg(Setting.BodyLong, i - 2) && color[i - 1] == -1
+                        && body[i - 1] <= avg(Setting.BodyShort, i - 1) && realBodyGapUp(i - 1, i - 2) && color[i] == -1
+                        && open[i] > open[i - 1] && close[i] < close[i - 1] && close[i] > close[i - 2] ? -100 : 0;
+            case CdlXSideGap3Methods:
+                return xSideGap3Methods(i);
+            default:
+                throw new IllegalArgumentException("不支持的形态：" + pattern);
+        }
+    }
+
+    /* ---------------------------------------- 形态规则 ---------------------------------------- */
+
+    private int twoCrows(int i) {
+        return color[i - 2] == 1 && body[i - 2] > avg(Setting.BodyLong, i - 2)
+                && color[i - 1] == -1 && realBodyGapUp(i - 1, i - 2)
+                && color[i] == -1 && open[i] < open[i - 1] && open[i] > close[i - 1]
+                && close[i] > open[i - 2] && close[i] < close[i - 2] ? -100 : 0;
+    }
+
+    private int threeBlackCrows(int i) {
+        return color[i - 3] == 1
+                && color[i - 2] == -1 && lower[i - 2] < avg(Setting.ShadowVeryShort, i - 2)
+                && color[i - 1] == -1 && lower[i - 1] < avg(Setting.ShadowVeryShort, i - 1)
+                && color[i] == -1 && lower[i] < avg(Setting.ShadowVeryShort, i)
+                && open[i - 1] < open[i - 2] && open[i - 1] > close[i - 2]
+                && open[i] < open[i - 1] && open[i] > close[i - 1]
+                && high[i - 3] > close[i - 2] && close[i - 2] > close[i - 1] && close[i - 1] > close[i] ? -100 : 0;
+    }
+
+    private int threeInside(int i) {
+        return body[i - 2] > avg(Setting.BodyLong, i - 2) && body[i - 1] <= avg(Setting.BodyShort, i - 1)
+                && bodyTop(i - 1) < bodyTop(i - 2) && bodyBottom(i - 1) > bodyBottom(i - 2)
+                && (color[i - 2] == 1 && color[i] == -1 && close[i] < open[i - 2]
+                || color[i - 2] == -1 && color[i] == 1 && close[i] > open[i - 2]) ? -color[i - 2] * 100 : 0;
+    }
+
+    private int threeLineStrike(int i) {
+        return color[i - 3] == color[i - 2] && color[i - 2] == color[i - 1] && color[i] == -color[i - 1]
+                && open[i - 2] >= bodyBottom(i - 3) - avg(Setting.Near, i - 3)
+                && open[i - 2] <= bodyTop(i - 3) + avg(Setting.Near, i - 3)
+                && open[i - 1] >= bodyBottom(i - 2) - avg(Setting.Near, i - 2)
+                && open[i - 1] <= bodyTop(i - 2) + avg(Setting.Near, i - 2)
+                && (color[i - 1] == 1 && close[i - 1] > close[i - 2] && close[i - 2] > close[i - 3]
+                && open[i] > close[i - 1] && close[i] < open[i - 3]
+                || color[i - 1] == -1 && close[i - 1] < close[i - 2] && close[i - 2] < close[i - 3]
+                && open[i] < close[i - 1] && close[i] > open[i - 3]) ? color[i - 1] * 100 : 0;
+    }
+
+    private int threeOutside(int i) {
+        return color[i - 1] == 1 && color[i - 2] == -1 && close[i - 1] > open[i - 2] && open[i - 1] < close[i - 2] && close[i] > close[i - 1]
+                || color[i - 1] == -1 && color[i - 2] == 1 && open[i - 1] > close[i - 2] && close[i - 1] < open[i - 2] && close[i] < close[i - 1]
+                ? color[i - 1] * 100 : 0;
+    }
+
+    private int threeStarsInSouth(int i) {
+        return color[i - 2] == -1 && color[i - 1] == -1 && color[i] == -1
+                && body[i - 2] > avg(Setting.BodyLong, i - 2) && lower[i - 2] > avg(Setting.ShadowLong, i - 2)
+                && body[i - 1] < body[i - 2] && open[i - 1] > close[i - 2] && open[i - 1] <= high[i - 2]
+                && low[i - 1] < close[i - 2] && low[i - 1] >= low[i - 2] && lower[i - 1] > avg(Setting.ShadowVeryShort, i - 1)
+                && body[i] < avg(Setting.BodyShort, i) && lower[i] < avg(Setting.ShadowVeryShort, i)
+                && upper[i] < avg(Setting.ShadowVeryShort, i) && low[i] > low[i - 1] && high[i] < high[i - 1] ? 100 : 0;
+    }
+
+    private int threeWhiteSoldiers(int i) {
+        return color[i - 2] == 1 && upper[i - 2] < avg(Setting.ShadowVeryShort, i - 2)
+                && color[i - 1] == 1 && upper[i - 1] < avg(Setting.ShadowVeryShort, i - 1)
+                && color[i] == 1 && upper[i] < avg(Setting.ShadowVeryShort, i)
+                && close[i] > close[i - 1] && close[i - 1] > close[i - 2]
+                && open[i - 1] > open[i - 2] && open[i - 1] <= close[i - 2] + avg(Setting.Near, i - 2)
+                && open[i] > open[i - 1] && open[i] <= close[i - 1] + avg(Setting.Near, i - 1)
+                && body[i - 1] > body[i - 2] - avg(Setting.Far, i - 2)
+                && body[i] > body[i - 1] - avg(Setting.Far, i - 1)
+                && body[i] > avg(Setting.BodyShort, i) ? 100 : 0;
+    }
+
+    private int abandonedBaby(int i, double penetration) {
+        return body[i - 2] > avg(Setting.BodyLong, i - 2) && body[i - 1] <= avg(Setting.BodyDoji, i - 1)
+                && body[i] > avg(Setting.BodyShort, i)
+                && (color[i - 2] == 1 && color[i] == -1 && close[i] < close[i - 2] - body[i - 2] * penetration
+                && candleGapUp(i - 1, i - 2) && candleGapDown(i, i - 1)
+                || color[i - 2] == -1 && color[i] == 1 && close[i] > close[i - 2] + body[i - 2] * penetration
+                && candleGapDown(i - 1, i - 2) && candleGapUp(i, i - 1)) ? color[i] * 100 : 0;
+    }
+
+    private int advanceBlock(int i) {
+        return color[i - 2] == 1 && color[i - 1] == 1 && color[i] == 1
+                && close[i] > close[i - 1] && close[i - 1] > close[i - 2]
+                && open[i - 1] > open[i - 2] && open[i - 1] <= close[i - 2] + avg(Setting.Near, i - 2)
+                && open[i] > open[i - 1] && open[i] <= close[i - 1] + avg(Setting.Near, i - 1)
+                && body[i - 2] > avg(Setting.BodyLong, i - 2) && upper[i - 2] < avg(Setting.ShadowShort, i - 2)
+                && (body[i - 1] < body[i - 2] - avg(Setting.Far, i - 2) && body[i] < body[i - 1] + avg(Setting.Near, i - 1)
+                || body[i] < body[i - 1] - avg(Setting.Far, i - 1)
+                || body[i] < body[i - 1] && body[i - 1] < body[i - 2]
+                && (upper[i] > avg(Setting.ShadowShort, i) || upper[i - 1] > avg(Setting.ShadowShort, i - 1))
+                || body[i] < body[i - 1] && upper[i] > avg(Setting.ShadowLong, i)) ? -100 : 0;
+    }
+
+    private int beltHold(int i) {
+        return body[i] > avg(Setting.BodyLong, i)
+                && (color[i] == 1 && lower[i] < avg(Setting.ShadowVeryShort, i)
+                || color[i] == -1 && upper[i] < avg(Setting.ShadowVeryShort, i)) ? color[i] * 100 : 0;
+    }
+
+    private int breakaway(int i) {
+        return body[i - 4] > avg(Setting.BodyLong, i - 4)
+                && color[i - 4] == color[i - 3] && color[i - 3] == color[i - 1] && color[i - 1] == -color[i]
+                && (color[i - 4] == -1 && realBodyGapDown(i - 3, i - 4)
+                && high[i - 2] < high[i - 3] && low[i - 2] < low[i - 3] && high[i - 1] < high[i - 2] && low[i - 1] < low[i - 2]
+                && close[i] > open[i - 3] && close[i] < close[i - 4]
+                || color[i - 4] == 1 && realBodyGapUp(i - 3, i - 4)
+                && high[i - 2] > high[i - 3] && low[i - 2] > low[i - 3] && high[i - 1] > high[i - 2] && low[i - 1] > low[i - 2]
+                && close[i] < open[i - 3] && close[i] > close[i - 4]) ? color[i] * 100 : 0;
+    }
+
+    private int closingMarubozu(int i) {
+        return body[i] > avg(Setting.BodyLong, i)
+                && (color[i] == 1 && upper[i] < avg(Setting.ShadowVeryShort, i)
+                || color[i] == -1 && lower[i] < avg(Setting.ShadowVeryShort, i)) ? color[i] * 100 : 0;
+    }
+
+    private int concealBabysWall(int i) {
+        return color[i - 3] == -1 && color[i - 2] == -1 && color[i - 1] == -1 && color[i] == -1
+                && lower[i - 3] < avg(Setting.ShadowVeryShort, i - 3) && upper[i - 3] < avg(Setting.ShadowVeryShort, i - 3)
+                && lower[i - 2] < avg(Setting.ShadowVeryShort, i - 2) && upper[i - 2] < avg(Setting.ShadowVeryShort, i - 2)
+                && realBodyGapDown(i - 1, i - 2) && upper[i - 1] > avg(Setting.ShadowVeryShort, i - 1)
+                && high[i - 1] > close[i - 2] && high[i] > high[i - 1] && low[i] < low[i - 1] ? 100 : 0;
+    }
+
+    private int counterAttack(int i) {
+        return color[i - 1] == -color[i] && body[i - 1] > avg(Setting.BodyLong, i - 1) && body[i] > avg(Setting.BodyLong, i)
+                && close[i] <= close[i - 1] + avg(Setting.Equal, i - 1)
+                && close[i] >= close[i - 1] - avg(Setting.Equal, i - 1) ? color[i] * 100 : 0;
+    }
+
+    private int darkCloudCover(int i, double penetration) {
+        return color[i - 1] == 1 && body[i - 1] > avg(Setting.BodyLong, i - 1) && color[i] == -1
+                && open[i] > high[i - 1] && close[i] > open[i - 1]
+                && close[i] < close[i - 1] - body[i - 1] * penetration ? -100 : 0;
+    }
+
+    private int dojiStar(int i) {
+        return body[i - 1] > avg(Setting.BodyLong, i - 1) && body[i] <= avg(Setting.BodyDoji, i)
+                && (color[i - 1] == 1 && realBodyGapUp(i, i - 1)
+                || color[i - 1] == -1 && realBodyGapDown(i, i - 1)) ? -color[i - 1] * 100 : 0;
+    }
+
+    private int engulfing(int i) {
+        return color[i] == 1 && color[i - 1] == -1 && close[i] > open[i - 1] && open[i] < close[i - 1]
+                || color[i] == -1 && color[i - 1] == 1 && open[i] > close[i - 1] && close[i] < open[i - 1]
+                ? color[i] * 100 : 0;
+    }
+
+    /**
+     * 晨星、暮星及其十字星形态，direction为1时识别晨星，为-1时识别暮星
+     */
+    private int star(int i, double penetration, Setting middle, int direction) {
+        return body[i - 2] > avg(Setting.BodyLong, i - 2) && color[i - 2] == -direction
+                && body[i - 1] <= avg(middle, i - 1)
+                && (direction == 1 ? realBodyGapDown(i - 1, i - 2) : realBodyGapUp(i - 1, i - 2))
+                && body[i] > avg(Setting.BodyShort, i) && color[i] == direction
+                && (direction == 1 ? close[i] > close[i - 2] + body[i - 2] * penetration
+                : close[i] < close[i - 2] - body[i - 2] * penetration) ? direction * 100 : 0;
+    }
+
+    private int gapSideSideWhite(int i) {
+        boolean up = realBodyGapUp(i - 1, i - 2) && realBodyGapUp(i, i - 2);
+        boolean down = realBodyGapDown(i - 1, i - 2) && realBodyGapDown(i, i - 2);
+        return (up || down) && color[i - 1] == 1 && color[i] == 1
+                && body[i] >= body[i - 1] - avg(Setting.Near, i - 1) && body[i] <= body[i - 1] + avg(Setting.Near, i - 1)
+                && open[i] >= open[i - 1] - avg(Setting.Equal, i - 1)
+                && open[i] <= open[i - 1] + avg(Setting.Equal, i - 1) ? (realBodyGapUp(i - 1, i - 2) ? 100 : -100) : 0;
+    }
+
+    private boolean hammer(int i) {
+        return body[i] < avg(Setting.BodyShort, i) && lower[i] > avg(Setting.ShadowLong, i)
+                && upper[i] < avg(Setting.ShadowVeryShort, i);
+    }
+
+    private int harami(int i, Setting second) {
+        return body[i - 1] > avg(Setting.BodyLong, i - 1) && body[i] <= avg(second, i)
+                && bodyTop(i) < bodyTop(i - 1) && bodyBottom(i) > bodyBottom(i - 1) ? -color[i - 1] * 100 : 0;
+    }
+
+    private int hikkake(int i) {
+        int result = 0;
+        if (i < 2) {
+            return result;
+        }
+        if (high[i - 1] < high[i - 2] && low[i - 1] > low[i - 2]
+                && (high[i] < high[i - 1] && low[i] < low[i - 1] || high[i] > high[i - 1] && low[i] > low[i - 1])) {
+            hikkakeResult = 100 * (high[i] < high[i - 1] ? 1 : -1);
+            hikkakeIndex = i;
+            result = hikkakeResult;
+        } else if (i <= hikkakeIndex + 3 && hikkakeIndex > 0
+                && (hikkakeResult > 0 && close[i] > high[hikkakeIndex - 1] || hikkakeResult < 0 && close[i] < low[hikkakeIndex - 1])) {
+            result = hikkakeResult + 100 * (hikkakeResult > 0 ? 1 : -1);
+            hikkakeIndex = 0;
+        }
+        return i < CdlPattern.CdlHikkake.getLookback() ? 0 : result;
+    }
+
+    private int hikkakeMod(int i) {
+        int result = 0;
+        if (i < CdlPattern.CdlHikkakeMod.getLookback() - 3) {
+            return result;
+        }
+        if (high[i - 2] < high[i - 3] && low[i - 2] > low[i - 3] && high[i - 1] < high[i - 2] && low[i - 1] > low[i - 2]
+                && (high[i] < high[i - 1] && low[i] < low[i - 1] && close[i - 2] <= low[i - 2] + avg(Setting.Near, i - 2)
+                || high[i] > high[i - 1] && low[i] > low[i - 1] && close[i - 2] >= high[i - 2] - avg(Setting.Near, i - 2))) {
+            hikkakeModResult = 100 * (high[i] < high[i - 1] ? 1 : -1);
+            hikkakeModIndex = i;
+            result = hikkakeModResult;
+        } else if (i <= hikkakeModIndex + 3 && hikkakeModIndex > 0
+                && (hikkakeModResult > 0 && close[i] > high[hikkakeModIndex - 1] || hikkakeModResult < 0 && close[i] < low[hikkakeModIndex - 1])) {
+            result = hikkakeModResult + 100 * (hikkakeModResult > 0 ? 1 : -1);
+            hikkakeModIndex = 0;
+        }
+        return i < CdlPattern.CdlHikkakeMod.getLookback() ? 0 : result;
+    }
+
+    private int identical3Crows(int i) {
+        return color[i - 2] == -1 && lower[i - 2] < avg(Setting.ShadowVeryShort, i - 2)
+                && color[i - 1] == -1 && lower[i - 1] < avg(Setting.ShadowVeryShort, i - 1)
+                && color[i] == -1 && lower[i] < avg(Setting.ShadowVeryShort, i)
+                && close[i - 2] > close[i - 1] && close[i - 1] > close[i]
+                && open[i - 1] <= close[i - 2] + avg(Setting.Equal, i - 2) && open[i - 1] >= close[i - 2] - avg(Setting.Equal, i - 2)
+                && open[i] <= close[i - 1] + avg(Setting.Equal, i - 1) && open[i] >= close[i - 1] - avg(Setting.Equal, i - 1) ? -100 : 0;
+    }
+
+    /**
+     * 颈内线、颈上线、插入线的共同前提：长阴线后低开的阳线
+     */
+    private boolean neck(int i) {
+        return color[i - 1] == -1 && body[i - 1] > avg(Setting.BodyLong, i - 1) && color[i] == 1 && open[i] < low[i - 1];
+    }
+
+    private boolean kicking(int i) {
+        return color[i - 1] == -color[i]
+                && body[i - 1] > avg(Setting.BodyLong, i - 1)
+                && upper[i - 1] < avg(Setting.ShadowVeryShort, i - 1) && lower[i - 1] < avg(Setting.ShadowVeryShort, i - 1)
+                && body[i] > avg(Setting.BodyLong, i)
+                && upper[i] < avg(Setting.ShadowVeryShort, i) && lower[i] < avg(Setting.ShadowVeryShort, i)
+                && (color[i - 1] == -1 && candleGapUp(i, i - 1) || color[i - 1] == 1 && candleGapDown(i, i - 1));
+    }
+
+    private int ladderBottom(int i) {
+        return color[i - 4] == -1 && color[i - 3] == -1 && color[i - 2] == -1
+                && open[i - 4] > open[i - 3] && open[i - 3] > open[i - 2]
+                && close[i - 4] > close[i - 3] && close[i - 3] > close[i - 2]
+                && color[i - 1] == -1 && upper[i - 1] > avg(Setting.ShadowVeryShort, i - 1)
+                && color[i] == 1 && open[i] > open[i - 1] && close[i] > high[i - 1] ? 100 : 0;
+    }
+
+    private int matHold(int i, double penetration) {
+        return body[i - 4] > avg(Setting.BodyLong, i - 4)
+                && body[i - 3] < avg(Setting.BodyShort, i - 3) && body[i - 2] < avg(Setting.BodyShort, i - 2)
+                && body[i - 1] < avg(Setting.BodyShort, i - 1)
+                && color[i - 4] == 1 && color[i - 3] == -1 && color[i] == 1
+                && realBodyGapUp(i - 3, i - 4)
+                && bodyBottom(i - 2) < close[i - 4] && bodyBottom(i - 1) < close[i - 4]
+                && bodyBottom(i - 2) > close[i - 4] - body[i - 4] * penetration
+                && bodyBottom(i - 1) > close[i - 4] - body[i - 4] * penetration
+                && bodyTop(i - 2) < open[i - 3] && bodyTop(i - 1) < bodyTop(i - 2)
+                && open[i] > close[i - 1] && close[i] > Math.max(high[i - 3], Math.max(high[i - 2], high[i - 1])) ? 100 : 0;
+    }
+
+    private int rickshawMan(int i) {
+        double middle = low[i] + (high[i] - low[i]) / 2;
+        return body[i] <= avg(Setting.BodyDoji, i)
+                && lower[i] > avg(Setting.ShadowLong, i) && upper[i] > avg(Setting.ShadowLong, i)
+                && bodyBottom(i) <= middle + avg(Setting.Near, i) && bodyTop(i) >= middle - avg(Setting.Near, i) ? 100 : 0;
+    }
+
+    private int riseFall3Methods(int i) {
+        int c = color[i - 4];
+        return body[i - 4] > avg(Setting.BodyLong, i - 4)
+                && body[i - 3] < avg(Setting.BodyShort, i - 3) && body[i - 2] < avg(Setting.BodyShort, i - 2)
+                && body[i - 1] < avg(Setting.BodyShort, i - 1) && body[i] > avg(Setting.BodyLong, i)
+                && c == -color[i - 3] && color[i - 3] == color[i - 2] && color[i - 2] == color[i - 1] && color[i - 1] == -color[i]
+                && bodyBottom(i - 3) < high[i - 4] && bodyTop(i - 3) > low[i - 4]
+                && bodyBottom(i - 2) < high[i - 4] && bodyTop(i - 2) > low[i - 4]
+                && bodyBottom(i - 1) < high[i - 4] && bodyTop(i - 1) > low[i - 4]
+                && close[i - 2] * c < close[i - 3] * c && close[i - 1] * c < close[i - 2] * c
+                && open[i] * c > close[i - 1] * c && close[i] * c > close[i - 4] * c ? 100 * c : 0;
+    }
+
+    private int stalledPattern(int i) {
+        return color[i - 2] == 1 && color[i - 1] == 1 && color[i] == 1
+                && close[i] > close[i - 1] && close[i - 1] > close[i - 2]
+                && body[i - 2] > avg(Setting.BodyLong, i - 2) && body[i - 1] > avg(Setting.BodyLong, i - 1)
+                && upper[i - 1] < avg(Setting.ShadowVeryShort, i - 1)
+                && open[i - 1] > open[i - 2] && open[i - 1] <= close[i - 2] + avg(Setting.Near, i - 2)
+                && body[i] < avg(Setting.BodyShort, i)
+                && open[i] >= close[i - 1] - body[i] - avg(Setting.Near, i - 1) ? -100 : 0;
+    }
+
+    private int tasukiGap(int i) {
+        boolean near = Math.abs(body[i - 1] - body[i]) < avg(Setting.Near, i - 1);
+        return realBodyGapUp(i - 1, i - 2) && color[i - 1] == 1 && color[i] == -1
+                && open[i] < close[i - 1] && open[i] > open[i - 1] && close[i] < open[i - 1]
+                && close[i] > bodyTop(i - 2) && near
+                || realBodyGapDown(i - 1, i - 2) && color[i - 1] == -1 && color[i] == 1
+                && open[i] < open[i - 1] && open[i] > close[i - 1] && close[i] > open[i - 1]
+                && close[i] < bodyBottom(i - 2) && near ? color[i - 1] * 100 : 0;
+    }
+
+    private int tristar(int i) {
+        double doji = avg(Setting.BodyDoji, i - 2);
+        if (body[i - 2] > doji || body[i - 1] > doji || body[i] > doji) {
+            return 0;
+        }
+        if (realBodyGapUp(i - 1, i - 2) && bodyTop(i) < bodyTop(i - 1)) {
+            return -100;
+        }
+        if (realBodyGapDown(i - 1, i - 2) && bodyBottom(i) > bodyBottom(i - 1)) {
+            return 100;
+        }
+        return 0;
+    }
+
+    private int xSideGap3Methods(int i) {
+        return color[i - 2] == color[i - 1] && color[i] == -color[i - 1]
+                && open[i] < bodyTop(i - 1) && open[i] > bodyBottom(i - 1)
+                && close[i] < bodyTop(i - 2) && close[i] > bodyBottom(i - 2)
+                && (color[i - 2] == 1 && realBodyGapUp(i - 1, i - 2)
+                || color[i - 2] == -1 && realBodyGapDown(i - 1, i - 2)) ? color[i - 2] * 100 : 0;
+    }
+
+    /* ---------------------------------------- 公共特征 ---------------------------------------- */
+
+    private double avg(Setting setting, int i) {
+        return average[setting.ordinal()][i];
+    }
+
+    private double bodyTop(int i) {
+        return Math.max(open[i], close[i]);
+    }
+
+    private double bodyBottom(int i) {
+        return Math.min(open[i], close[i]);
+    }
+
+    private boolean realBodyGapUp(int i, int prev) {
+        return bodyBottom(i) > bodyTop(prev);
+    }
+
+    private boolean realBodyGapDown(int i, int prev) {
+        return bodyTop(i) < bodyBottom(prev);
+    }
+
+    private boolean candleGapUp(int i, int prev) {
+        return low[i] > high[prev];
+    }
+
+    private boolean candleGapDown(int i, int prev) {
+        return high[i] < low[prev];
+    }
+
+    private double range(Range range, int i) {
+        switch (range) {
+            case RealBody:
+                return body[i];
+            case HighLow:
+                return high[i] - low[i];
+            default:
+                return upper[i] + lower[i];
+        }
+    }
+
+    /**
+     * 参数阈值：前period根K线的均值乘以系数，period为0时取当前K线自身，影线类取上下影线的平均
+     */
+    private double[] average(Setting setting) {
+        double[] out = new double[size];
+        double divisor = setting.range == Range.Shadows ? 2.0 : 1.0;
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            if (setting.period == 0) {
+                out[i] = setting.factor * range(setting.range, i) / divisor;
+                continue;
+            }
+            out[i] = i >= setting.period ? setting.factor * (total / setting.period) / divisor : Double.NaN;
+            total += range(setting.range, i);
+            if (i >= setting.period) {
+                total -= range(setting.range, i - setting.period);
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,74 @@
+package stock.indicator;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 全市场K线形态识别结果，按（股票 × 日期 × 形态）存放。
+ * 每个识别结果占一个字节，取值为识别结果除以100：1|看涨；-1|看跌；2、-2|陷阱形态得到确认；0|未识别。
+ */
+@Getter
+public class CdlMatrix {
+    private static final int PATTERNS = CdlPattern.values().length;
+
+    //K线类别
+    private final int ktype;
+    //股票代码
+    private final String[] codes;
+    //每只股票参与输出的日期，取值与KLineStore的date列一致
+    private final int[][] dates;
+    //每只股票的识别结果，下标为 行 * 形态数量 + 形态序号
+    private final byte[][] values;
+
+    CdlMatrix(int ktype, String[] codes, int[][] dates, byte[][] values) {
+        this.ktype = ktype;
+        this.codes = codes;
+        this.dates = dates;
+        this.values = values;
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * @return 第symbol只股票第row行的识别结果，与getIndicatorTaCdl*接口的output取值一致
+     */
+    public int get(int symbol, int row, CdlPattern pattern) {
+        return values[symbol][row * PATTERNS + pattern.ordinal()] * 100;
+    }
+
+    /**
+     * @return 第symbol只股票识别出形态的行
+     */
+    public BitSet hits(int symbol, CdlPattern pattern) {
+        byte[] data = values[symbol];
+        BitSet bits = new BitSet(dates[symbol].length);
+        for (int row = 0, index = pattern.ordinal(); index < data.length; row++, index += PATTERNS) {
+            if (data[index] != 0) {
+                bits.set(row);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 查找指定日期识别出形态的股票
+     *
+     * @param date 日期，取值与KLineStore的date列一致，可用KLineStore.toDate转换
+     */
+    public List<String> find(CdlPattern pattern, int date) {
+        List<String> result = new ArrayList<>();
+        for (int symbol = 0; symbol < codes.length; symbol++) {
+            int row = Arrays.binarySearch(dates[symbol], date);
+            if (row >= 0 && values[symbol][row * PATTERNS + pattern.ordinal()] != 0) {
+                result.add(codes[symbol]);
+            }
+        }
+        return result;
+    }
+}
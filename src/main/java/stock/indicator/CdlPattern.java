@@ -0,0 +1,81 @@
+package stock.indicator;
+
+import lombok.Getter;
+
+/**
+ * K线形态，与getIndicatorTaCdl*接口一一对应，识别规则与TA-Lib默认的蜡烛图参数一致
+ */
+@Getter
+public enum CdlPattern {
+    Cdl2Crows("两只乌鸦", 12, 0),
+    Cdl3BlackCrows("三只乌鸦", 13, 0),
+    Cdl3Inside("三内部上涨和下跌", 12, 0),
+    Cdl3LineStrike("三线打击", 8, 0),
+    Cdl3Outside("三外部上涨和下跌", 3, 0),
+    Cdl3StarsInSouth("南方三星", 12, 0),
+    Cdl3WhiteSoldiers("三个白兵", 12, 0),
+    CdlAbandonedBaby("弃婴", 12, 0.3),
+    CdlAdvanceBlock("大敌当前", 12, 0),
+    CdlBeltHold("捉腰带线", 10, 0),
+    CdlBreakaway("脱离", 14, 0),
+    CdlClosingMarubozu("收盘缺影线", 10, 0),
+    CdlConcealBabysWall("藏婴吞没", 13, 0),
+    CdlCounterAttack("反击线", 11, 0),
+    CdlDarkCloudCover("乌云压顶", 11, 0.5),
+    CdlDoji("十字", 10, 0),
+    CdlDojiStar("十字星", 11, 0),
+    CdlDragonflyDoji("蜻蜓十字/T形十字", 10, 0),
+    CdlEngulfing("吞噬模式", 2, 0),
+    CdlEveningDojiStar("十字暮星", 12, 0.3),
+    CdlEveningStar("暮星", 12, 0.3),
+    CdlGapSideSideWhite("向上/下跳空并列阳线", 7, 0),
+    CdlGravestoneDoji("墓碑十字/倒T十字", 10, 0),
+    CdlHammer("锤头", 11, 0),
+    CdlHangingMan("上吊线", 11, 0),
+    CdlHarami("母子线", 11, 0),
+    CdlHaramiCross("十字孕线", 11, 0),
+    CdlHignWave("风高浪大线", 10, 0),
+    CdlHikkake("陷阱", 5, 0),
+    CdlHikkakeMod("修正陷阱", 10, 0),
+    CdlHomingPigeon("家鸽", 11, 0),
+    CdlIdentical3Crows("三胞胎乌鸦", 12, 0),
+    CdlInNeck("颈内线", 11, 0),
+    CdlInvertedHammer("倒锤头", 11, 0),
+    CdlKicking("反冲形态", 11, 0),
+    CdlKickingByLength("由较长缺影线决定的反冲形态", 11, 0),
+    CdlLadderBottom("梯底", 14, 0),
+    CdlLongLeggedDoji("长脚十字", 10, 0),
+    CdlLongLine("长蜡烛", 10, 0),
+    CdlMarubozu("光头光脚/缺影线", 10, 0),
+    CdlMatchingLow("相同低价", 6, 0),
+    CdlMatHold("铺垫", 14, 0.5),
+    CdlMorningDojiStar("十字晨星", 12, 0.3),
+    CdlMorningStar("晨星", 12, 0.3),
+    CdlOnNeck("颈上线", 11, 0),
+    CdlPiercing("刺透形态", 11, 0),
+    CdlRickshawMan("黄包车夫", 10, 0),
+    CdlRiseFall3Methods("上升/下降三法", 14, 0),
+    CdlShootingStar("射击之星", 11, 0),
+    CdlShortLine("短蜡烛", 10, 0),
+    CdlSpinningTop("纺锤", 10, 0),
+    CdlStalledPattern("停顿形态", 12, 0),
+    CdlTakuri("探水竿", 10, 0),
+    CdlTasukiGap("跳空并列阴阳线", 7, 0),
+    CdlThrusting("插入", 11, 0),
+    CdlTristar("三星", 12, 0),
+    CdlUnique3River("奇特三河床", 12, 0),
+    CdlUpsideGap2Crows("向上跳空的两只乌鸦", 12, 0),
+    CdlXSideGap3Methods("上升/下降跳空三法", 2, 0);
+    //形态名称
+    private final String name;
+    //回看期，此前的K线不输出识别结果
+    private final int lookback;
+    //默认穿透率，不需要穿透率参数的形态为0
+    private final double penetration;
+
+    CdlPattern(String name, int lookback, double penetration) {
+        this.name = name;
+        this.lookback = lookback;
+        this.penetration = penetration;
+    }
+}
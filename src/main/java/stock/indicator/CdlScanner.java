@@ -0,0 +1,176 @@
+package stock.indicator;
+
+import stock.bean.DataStockKLine;
+import stock.store.KLineColumns;
+import stock.store.KLineStore;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * 全市场K线形态扫描，替代逐个调用getIndicatorTaCdl*接口。
+ * 每只股票的K线特征只计算一次，所有形态在同一次遍历中识别；股票之间通过fork/join并行。
+ */
+public class CdlScanner {
+    private static final CdlPattern[] PATTERNS = CdlPattern.values();
+    //每个任务至少处理的股票数量
+    private static final int THRESHOLD = 16;
+
+    private final ForkJoinPool pool;
+    private final double[] penetration = new double[PATTERNS.length];
+
+    public CdlScanner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CdlScanner(ForkJoinPool pool) {
+        this.pool = pool;
+        for (CdlPattern pattern : PATTERNS) {
+            penetration[pattern.ordinal()] = pattern.getPenetration();
+        }
+    }
+
+    /**
+     * 设置形态的穿透率，仅对有穿透率参数的形态生效
+     */
+    public CdlScanner penetration(CdlPattern pattern, double value) {
+        penetration[pattern.ordinal()] = value;
+        return this;
+    }
+
+    /**
+     * 扫描本地列式存储中某个资产类型的全部股票
+     *
+     * @param type 资产类型
+     * @param days 每只股票输出最近多少根K线的识别结果，日常选股取1即可
+     */
+    public CdlMatrix scan(KLineStore store, int type, int ktype, int fq, int days) throws IOException {
+        List<KLineColumns> columns = new ArrayList<>();
+        store.scan(type, ktype, fq, columns::add);
+        return scan(columns, ktype, days);
+    }
+
+    public CdlMatrix scan(List<KLineColumns> columns, int ktype, int days) {
+        Symbol[] symbols = new Symbol[columns.size()];
+        for (int s = 0; s < symbols.length; s++) {
+            KLineColumns column = columns.get(s);
+            int size = column.getSize();
+            int[] dates = new int[Math.min(days, size)];
+            for (int i = 0; i < dates.length; i++) {
+                dates[i] = column.getDate().get(size - dates.length + i);
+            }
+            symbols[s] = new Symbol(column.getCode(), dates, () -> new Candles(toDouble(column.getOpen(), size),
+                    toDouble(column.getHigh(), size), toDouble(column.getLow(), size), toDouble(column.getClose(), size)));
+        }
+        return scan(symbols, ktype, days);
+    }
+
+    /**
+     * 扫描getDayKLine等接口返回的K线
+     */
+    public CdlMatrix scanSeries(List<PriceSeries> series, int ktype, int days) {
+        Symbol[] symbols = new Symbol[series.size()];
+        for (int s = 0; s < symbols.length; s++) {
+            PriceSeries item = series.get(s);
+            int[] dates = new int[Math.min(days, item.size())];
+            for (int i = 0; i < dates.length; i++) {
+                DataStockKLine bar = item.getBars().get(item.size() - dates.length + i);
+                dates[i] = KLineStore.toDate(bar.getTdate(), ktype);
+            }
+            symbols[s] = new Symbol(item.getCode(), dates, () -> new Candles(item.getOpen(), item.getHigh(), item.getLow(), item.getClose()));
+        }
+        return scan(symbols, ktype, days);
+    }
+
+    private CdlMatrix scan(Symbol[] symbols, int ktype, int days) {
+        String[] codes = new String[symbols.length];
+        int[][] dates = new int[symbols.length][];
+        byte[][] values = new byte[symbols.length][];
+        pool.invoke(new Task(symbols, days, dates, values, 0, symbols.length));
+        for (int s = 0; s < symbols.length; s++) {
+            codes[s] = symbols[s].code;
+        }
+        return new CdlMatrix(ktype, codes, dates, values);
+    }
+
+    /**
+     * 单只股票的融合扫描：按日期遍历，每个日期依次识别所有形态
+     */
+    private void scan(Symbol symbol, int days, int[][] dates, byte[][] values, int s) {
+        Candles candles = symbol.candles.get();
+        int size = candles.size();
+        int rows = Math.min(days, size);
+        int start = size - rows;
+        byte[] data = new byte[rows * PATTERNS.length];
+        //陷阱形态的确认依赖此前三根K线内的状态
+        for (int i = Math.max(0, start - 3); i < size; i++) {
+            int offset = (i - start) * PATTERNS.length;
+            for (CdlPattern pattern : PATTERNS) {
+                int value = candles.evaluate(pattern, i, penetration[pattern.ordinal()]);
+                if (i >= start) {
+                    data[offset + pattern.ordinal()] = (byte) (value / 100);
+                }
+            }
+        }
+        dates[s] = symbol.dates;
+        values[s] = data;
+    }
+
+    private class Task extends RecursiveAction {
+        private final Symbol[] symbols;
+        private final int days;
+        private final int[][] dates;
+        private final byte[][] values;
+        private final int from;
+        private final int to;
+
+        Task(Symbol[] symbols, int days, int[][] dates, byte[][] values, int from, int to) {
+            this.symbols = symbols;
+            this.days = days;
+            this.dates = dates;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int s = from; s < to; s++) {
+                    scan(symbols[s], days, dates, values, s);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Task(symbols, days, dates, values, from, middle),
+                    new Task(symbols, days, dates, values, middle, to));
+        }
+    }
+
+    private static double[] toDouble(FloatBuffer buffer, int size) {
+        double[] out = new double[size];
+        for (int i = 0; i < size; i++) {
+            out[i] = buffer.get(i);
+        }
+        return out;
+    }
+
+    private static class Symbol {
+        private final String code;
+        //参与输出的日期
+        private final int[] dates;
+        //K线特征在扫描任务中才计算，避免提前占用内存
+        private final Supplier<Candles> candles;
+
+        Symbol(String code, int[] dates, Supplier<Candles> candles) {
+            this.code = code;
+            this.dates = dates;
+            this.candles = candles;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package stock.indicator;
+
+import stock.bean.DataStockKLine;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 将本地计算结果填充为DataIndicatorTa*对象，字段按名称匹配，字段缓存按类型保存
+ */
+final class IndicatorBeans {
+
+    private static final String[] PRICE_FIELDS = {"open", "close", "high", "low", "cjl", "cje", "hsl"};
+
+    private static final Map<Class<?>, Fields> FIELDS = new ConcurrentHashMap<>();
+
+    private IndicatorBeans() {
+    }
+
+    static <T> List<T> fill(Class<T> type, PriceSeries series, double[]... outputs) {
+        Fields fields = FIELDS.computeIfAbsent(type, Fields::new);
+        List<DataStockKLine> bars = series.getBars();
+        List<T> result = new ArrayList<>(bars.size());
+        try {
+            for (int i = 0; i < bars.size(); i++) {
+                DataStockKLine bar = bars.get(i);
+                T bean = type.newInstance();
+                set(fields.code, bean, bar.getCode());
+                set(fields.tdate, bean, bar.getTdate());
+                float[] prices = {bar.getOpen(), bar.getClose(), bar.getHigh(), bar.getLow(), bar.getCjl(), bar.getCje(), bar.getHsl()};
+                for (int p = 0; p < prices.length; p++) {
+                    if (fields.prices[p] != null) {
+                        fields.prices[p].setFloat(bean, prices[p]);
+                    }
+                }
+                for (int o = 0; o < outputs.length && o < fields.outputs.length; o++) {
+                    set(fields.outputs[o], bean, format(outputs[o][i]));
+                }
+                result.add(bean);
+            }
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("无法创建指标对象：" + type.getName(), e);
+        }
+        return result;
+    }
+
+    /**
+     * 指标值格式化为字符串，回看期内的NaN输出为null，整数值不带小数部分
+     */
+    static String format(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static void set(Field field, Object bean, Object value) throws IllegalAccessException {
+        if (field != null) {
+            field.set(bean, value);
+        }
+    }
+
+    private static class Fields {
+        private final Field code;
+        private final Field tdate;
+        private final Field[] prices = new Field[PRICE_FIELDS.length];
+        private final Field[] outputs;
+
+        Fields(Class<?> type) {
+            code = field(type, "code");
+            tdate = field(type, "tdate");
+            for (int i = 0; i < PRICE_FIELDS.length; i++) {
+                prices[i] = field(type, PRICE_FIELDS[i]);
+            }
+            Field output = field(type, "output");
+            if (output != null) {
+                outputs = new Field[]{output};
+            } else {
+                List<Field> list = new ArrayList<>();
+                for (int i = 1; field(type, "output" + i) != null; i++) {
+                    list.add(field(type, "output" + i));
+                }
+                outputs = list.toArray(new Field[0]);
+            }
+        }
+
+        private static Field field(Class<?> type, String name) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                return null;
+            }
+        }
+    }
+}
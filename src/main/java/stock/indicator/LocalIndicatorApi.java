@@ -0,0 +1,1781 @@
+package stock.indicator;
+
+import constant.MaType;
+import stock.bean.DataIndicatorTaAcos;
+import stock.bean.DataIndicatorTaAd;
+import stock.bean.DataIndicatorTaAdOsc;
+import stock.bean.DataIndicatorTaAdd;
+import stock.bean.DataIndicatorTaAdx;
+import stock.bean.DataIndicatorTaAdxr;
+import stock.bean.DataIndicatorTaApo;
+import stock.bean.DataIndicatorTaAroon;
+import stock.bean.DataIndicatorTaAroonOsc;
+import stock.bean.DataIndicatorTaAsin;
+import stock.bean.DataIndicatorTaAtan;
+import stock.bean.DataIndicatorTaAtr;
+import stock.bean.DataIndicatorTaAvgPrice;
+import stock.bean.DataIndicatorTaBbands;
+import stock.bean.DataIndicatorTaBeta;
+import stock.bean.DataIndicatorTaBop;
+import stock.bean.DataIndicatorTaCci;
+import stock.bean.DataIndicatorTaCdl2Crows;
+import stock.bean.DataIndicatorTaCdl3BlackCrows;
+import stock.bean.DataIndicatorTaCdl3Inside;
+import stock.bean.DataIndicatorTaCdl3LineStrike;
+import stock.bean.DataIndicatorTaCdl3Outside;
+import stock.bean.DataIndicatorTaCdl3StarsInSouth;
+import stock.bean.DataIndicatorTaCdl3WhiteSoldiers;
+import stock.bean.DataIndicatorTaCdlAbandonedBaby;
+import stock.bean.DataIndicatorTaCdlAdvanceBlock;
+import stock.bean.DataIndicatorTaCdlBeltHold;
+import stock.bean.DataIndicatorTaCdlBreakaway;
+import stock.bean.DataIndicatorTaCdlClosingMarubozu;
+import stock.bean.DataIndicatorTaCdlConcealBabysWall;
+import stock.bean.DataIndicatorTaCdlCounterAttack;
+import stock.bean.DataIndicatorTaCdlDarkCloudCover;
+import stock.bean.DataIndicatorTaCdlDoji;
+import stock.bean.DataIndicatorTaCdlDojiStar;
+import stock.bean.DataIndicatorTaCdlDragonflyDoji;
+import stock.bean.DataIndicatorTaCdlEngulfing;
+import stock.bean.DataIndicatorTaCdlEveningDojiStar;
+import stock.bean.DataIndicatorTaCdlEveningStar;
+import stock.bean.DataIndicatorTaCdlGapSideSideWhite;
+import stock.bean.DataIndicatorTaCdlGravestoneDoji;
+import stock.bean.DataIndicatorTaCdlHammer;
+import stock.bean.DataIndicatorTaCdlHangingMan;
+import stock.bean.DataIndicatorTaCdlHarami;
+import stock.bean.DataIndicatorTaCdlHaramiCross;
+import stock.bean.DataIndicatorTaCdlHignWave;
+import stock.bean.DataIndicatorTaCdlHikkake;
+import stock.bean.DataIndicatorTaCdlHikkakeMod;
+import stock.bean.DataIndicatorTaCdlHomingPigeon;
+import stock.bean.DataIndicatorTaCdlIdentical3Crows;
+import stock.bean.DataIndicatorTaCdlInNeck;
+import stock.bean.DataIndicatorTaCdlInvertedHammer;
+import stock.bean.DataIndicatorTaCdlKicking;
+import stock.bean.DataIndicatorTaCdlKickingByLength;
+import stock.bean.DataIndicatorTaCdlLadderBottom;
+import stock.bean.DataIndicatorTaCdlLongLeggedDoji;
+import stock.bean.DataIndicatorTaCdlLongLine;
+import stock.bean.DataIndicatorTaCdlMarubozu;
+import stock.bean.DataIndicatorTaCdlMatHold;
+import stock.bean.DataIndicatorTaCdlMatchingLow;
+import stock.bean.DataIndicatorTaCdlMorningDojiStar;
+import stock.bean.DataIndicatorTaCdlMorningStar;
+import stock.bean.DataIndicatorTaCdlOnNeck;
+import stock.bean.DataIndicatorTaCdlPiercing;
+import stock.bean.DataIndicatorTaCdlRickshawMan;
+import stock.bean.DataIndicatorTaCdlRiseFall3Methods;
+import stock.bean.DataIndicatorTaCdlShootingStar;
+import stock.bean.DataIndicatorTaCdlShortLine;
+import stock.bean.DataIndicatorTaCdlSpinningTop;
+import stock.bean.DataIndicatorTaCdlStalledPattern;
+import stock.bean.DataIndicatorTaCdlTakuri;
+import stock.bean.DataIndicatorTaCdlTasukiGap;
+import stock.bean.DataIndicatorTaCdlThrusting;
+import stock.bean.DataIndicatorTaCdlTristar;
+import stock.bean.DataIndicatorTaCdlUnique3River;
+import stock.bean.DataIndicatorTaCdlUpsideGap2Crows;
+import stock.bean.DataIndicatorTaCdlXSideGap3Methods;
+import stock.bean.DataIndicatorTaCeil;
+import stock.bean.DataIndicatorTaCmo;
+import stock.bean.DataIndicatorTaCorrel;
+import stock.bean.DataIndicatorTaCos;
+import stock.bean.DataIndicatorTaCosh;
+import stock.bean.DataIndicatorTaDema;
+import stock.bean.DataIndicatorTaDiv;
+import stock.bean.DataIndicatorTaDx;
+import stock.bean.DataIndicatorTaEma;
+import stock.bean.DataIndicatorTaExp;
+import stock.bean.DataIndicatorTaFloor;
+import stock.bean.DataIndicatorTaHtDcPeriod;
+import stock.bean.DataIndicatorTaHtDcPhase;
+import stock.bean.DataIndicatorTaHtPhasor;
+import stock.bean.DataIndicatorTaHtSine;
+import stock.bean.DataIndicatorTaHtTrendMode;
+import stock.bean.DataIndicatorTaHtTrendline;
+import stock.bean.DataIndicatorTaKama;
+import stock.bean.DataIndicatorTaLinearReg;
+import stock.bean.DataIndicatorTaLinearRegAngle;
+import stock.bean.DataIndicatorTaLinearRegIntercept;
+import stock.bean.DataIndicatorTaLinearRegSlope;
+import stock.bean.DataIndicatorTaLn;
+import stock.bean.DataIndicatorTaLog10;
+import stock.bean.DataIndicatorTaMacd;
+import stock.bean.DataIndicatorTaMacdExt;
+import stock.bean.DataIndicatorTaMacdFix;
+import stock.bean.DataIndicatorTaMama;
+import stock.bean.DataIndicatorTaMax;
+import stock.bean.DataIndicatorTaMaxIndex;
+import stock.bean.DataIndicatorTaMedPrice;
+import stock.bean.DataIndicatorTaMfi;
+import stock.bean.DataIndicatorTaMidPoint;
+import stock.bean.DataIndicatorTaMidPrice;
+import stock.bean.DataIndicatorTaMin;
+import stock.bean.DataIndicatorTaMinIndex;
+import stock.bean.DataIndicatorTaMinMax;
+import stock.bean.DataIndicatorTaMinMaxIndex;
+import stock.bean.DataIndicatorTaMinusDI;
+import stock.bean.DataIndicatorTaMinusDM;
+import stock.bean.DataIndicatorTaMom;
+import stock.bean.DataIndicatorTaMovingAverage;
+import stock.bean.DataIndicatorTaMult;
+import stock.bean.DataIndicatorTaNatr;
+import stock.bean.DataIndicatorTaObv;
+import stock.bean.DataIndicatorTaPlusDI;
+import stock.bean.DataIndicatorTaPlusDM;
+import stock.bean.DataIndicatorTaPpo;
+import stock.bean.DataIndicatorTaRoc;
+import stock.bean.DataIndicatorTaRocP;
+import stock.bean.DataIndicatorTaRocR;
+import stock.bean.DataIndicatorTaRocR100;
+import stock.bean.DataIndicatorTaRsi;
+import stock.bean.DataIndicatorTaSar;
+import stock.bean.DataIndicatorTaSarExt;
+import stock.bean.DataIndicatorTaSin;
+import stock.bean.DataIndicatorTaSinh;
+import stock.bean.DataIndicatorTaSma;
+import stock.bean.DataIndicatorTaSqrt;
+import stock.bean.DataIndicatorTaStdDev;
+import stock.bean.DataIndicatorTaStoch;
+import stock.bean.DataIndicatorTaStochF;
+import stock.bean.DataIndicatorTaStochRsi;
+import stock.bean.DataIndicatorTaSub;
+import stock.bean.DataIndicatorTaSum;
+import stock.bean.DataIndicatorTaT3;
+import stock.bean.DataIndicatorTaTan;
+import stock.bean.DataIndicatorTaTanh;
+import stock.bean.DataIndicatorTaTema;
+import stock.bean.DataIndicatorTaTrima;
+import stock.bean.DataIndicatorTaTrix;
+import stock.bean.DataIndicatorTaTrueRange;
+import stock.bean.DataIndicatorTaTsf;
+import stock.bean.DataIndicatorTaTypPrice;
+import stock.bean.DataIndicatorTaUltOsc;
+import stock.bean.DataIndicatorTaVariance;
+import stock.bean.DataIndicatorTaWclPrice;
+import stock.bean.DataIndicatorTaWillR;
+import stock.bean.DataIndicatorTaWma;
+import stock.bean.DataStockKLine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 本地技术指标接口，方法名称与参数取值和StockApi的getIndicatorTa*接口一致，
+ * 输入为已获取的K线数据，计算在本地完成，不再发起网络请求。
+ * 希尔伯特变换（HtDcPeriod、HtDcPhase、HtPhasor、HtSine、HtTrendMode、HtTrendline）与Mama按股票的完整K线序列计算，
+ * 与远程接口一样需要足够长的预热数据（回看期分别为32或63根K线），K线越多，开头的结果越接近远程接口。
+ */
+public class LocalIndicatorApi {
+
+    /**
+     * 反余弦函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaAcos> getIndicatorTaAcos(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaAcos.class, s -> TaLib.map(s.get(num(input)), Math::acos));
+    }
+
+    /**
+     * AD指标（Accumulation/Distribution）是一种用于量化分析股票、期货或其他金融资产的技术指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaAd> getIndicatorTaAd(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaAd.class, s -> TaLib.ad(s.getHigh(), s.getLow(), s.getClose(), s.getCjl()));
+    }
+
+    /**
+     * 向量加法运算。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaAdd> getIndicatorTaAdd(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaAdd.class, s -> TaLib.map(s.get(num(input1)), s.get(num(input2)), (a, b) -> a + b));
+    }
+
+    /**
+     * ADOSC指标是一种技术分析指标，全称为累积/派发指标（Accumulation/Distribution Oscillator）。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      快速移动平均线周期
+     * @param input2      慢速移动平均线周期
+     */
+    public List<DataIndicatorTaAdOsc> getIndicatorTaAdOsc(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaAdOsc.class, s -> TaLib.adOsc(s.getHigh(), s.getLow(), s.getClose(), s.getCjl(), num(input1), num(input2)));
+    }
+
+    /**
+     * ADX指标（Average Directional Movement Index）是一种技术分析指标，用于衡量市场趋势的强弱程度。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaAdx> getIndicatorTaAdx(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaAdx.class, s -> TaLib.adx(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * ADXR指标（Average Directional Movement Index Rating）是根据ADX指标（Average Directional Index）计算得出的一个指标，用于衡量市场趋势的强度。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaAdxr> getIndicatorTaAdxr(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaAdxr.class, s -> TaLib.adxr(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * APO（Absolute Price Oscillator）指标是一种技术分析指标，用于衡量股票价格的变动幅度。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      快速移动平均线周期
+     * @param input3      慢速移动平均线周期
+     * @param input4      移动平均线类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaApo> getIndicatorTaApo(List<DataStockKLine> bars, String input1, String input2, String input3, String input4) {
+        return single(bars, DataIndicatorTaApo.class, s -> TaLib.apo(s.get(num(input1)), num(input2), num(input3), MaType.of(num(input4))));
+    }
+
+    /**
+     * AROON指标的中文名称是“阿隆指标”，该指标是一种技术分析指标，用于衡量价格趋势的强度和趋势的方向。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaAroon> getIndicatorTaAroon(List<DataStockKLine> bars, String input) {
+        return multi(bars, DataIndicatorTaAroon.class, s -> TaLib.aroon(s.getHigh(), s.getLow(), num(input)));
+    }
+
+    /**
+     * AroonOsc指标的名称是Aroon Oscillator（阿隆振荡器），它是Aroon指标的衍生指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaAroonOsc> getIndicatorTaAroonOsc(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaAroonOsc.class, s -> TaLib.aroonOsc(s.getHigh(), s.getLow(), num(input)));
+    }
+
+    /**
+     * 反正弦函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaAsin> getIndicatorTaAsin(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaAsin.class, s -> TaLib.map(s.get(num(input)), Math::asin));
+    }
+
+    /**
+     * 反正切函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaAtan> getIndicatorTaAtan(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaAtan.class, s -> TaLib.map(s.get(num(input)), Math::atan));
+    }
+
+    /**
+     * ATR称为真实波动幅度指标，英文名称为Average True Range。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaAtr> getIndicatorTaAtr(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaAtr.class, s -> TaLib.atr(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * 称为平均价格，Average Price (AVGPRICE) 。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaAvgPrice> getIndicatorTaAvgPrice(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaAvgPrice.class, s -> TaLib.avgPrice(s.getOpen(), s.getHigh(), s.getLow(), s.getClose()));
+    }
+
+    /**
+     * BBANDS称为布林带，英文名称为Bollinger Bands。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     * @param input3      上轨道线的标准偏差倍数
+     * @param input4      下轨道线的标准偏差倍数
+     * @param input5      移动平均线类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaBbands> getIndicatorTaBbands(List<DataStockKLine> bars, String input1, String input2, String input3, String input4, String input5) {
+        return multi(bars, DataIndicatorTaBbands.class, s -> TaLib.bbands(s.get(num(input1)), num(input2), dbl(input3), dbl(input4), MaType.of(num(input5))));
+    }
+
+    /**
+     * Beta指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input3      移动平均线周期
+     */
+    public List<DataIndicatorTaBeta> getIndicatorTaBeta(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return single(bars, DataIndicatorTaBeta.class, s -> TaLib.beta(s.get(num(input1)), s.get(num(input2)), num(input3)));
+    }
+
+    /**
+     * BOP指标的名称是Balance of Power，也称为能量平衡指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaBop> getIndicatorTaBop(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaBop.class, s -> TaLib.bop(s.getOpen(), s.getHigh(), s.getLow(), s.getClose()));
+    }
+
+    /**
+     * CCI指标的全称是“商品通道指数”（Commodity Channel Index），它是一种技术分析指标，用于评估商品（或其他金融资产）的价格波动情况和超买超卖状态。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaCci> getIndicatorTaCci(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCci.class, s -> TaLib.cci(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * 形态识别-Cdl2Crows指标。Two Crows 两只乌鸦，三日K线模式，第一天长阳，第二天高开收阴，第三天再次高开继续收阴，收盘比前一日收盘价低，预示股价下跌。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdl2Crows> getIndicatorTaCdl2Crows(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdl2Crows.class, s -> cdl(s, CdlPattern.Cdl2Crows, CdlPattern.Cdl2Crows.getPenetration()));
+    }
+
+    /**
+     * 形态识别-Cdl3BlackCrows指标。Three Black Crows 三只乌鸦，三日K线模式，连续三根阴线，每日收盘价都下跌且接近最低价，每日开盘价都在上根K线实体内，预示股价下跌。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdl3BlackCrows> getIndicatorTaCdl3BlackCrows(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdl3BlackCrows.class, s -> cdl(s, CdlPattern.Cdl3BlackCrows, CdlPattern.Cdl3BlackCrows.getPenetration()));
+    }
+
+    /**
+     * 形态识别-Cdl3Inside指标。Three Inside Up/Down 三内部上涨和下跌，三日K线模式，母子信号+长K线，以三内部上涨为例，K线为阴阳阳，第三天收盘价高于第一天开盘价，第二天K线在第一天K线内部，预示着股价上涨。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdl3Inside> getIndicatorTaCdl3Inside(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdl3Inside.class, s -> cdl(s, CdlPattern.Cdl3Inside, CdlPattern.Cdl3Inside.getPenetration()));
+    }
+
+    /**
+     * 形态识别-Cdl3LineStrike指标。Three-Line Strike 三线打击，四日K线模式，前三根阳线，每日收盘价都比前一日高，开盘价在前一日实体内，第四日市场高开，收盘价低于第一日开盘价，预示股价下跌。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdl3LineStrike> getIndicatorTaCdl3LineStrike(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdl3LineStrike.class, s -> cdl(s, CdlPattern.Cdl3LineStrike, CdlPattern.Cdl3LineStrike.getPenetration()));
+    }
+
+    /**
+     * 形态识别-Cdl3Outside指标。Three Outside Up/Down 三外部上涨和下跌,三日K线模式，与三内部上涨和下跌类似，K线为阴阳阳，但第一日与第二日的K线形态相反，以三外部上涨为例，第一日K线在第二日K线内部，预示着股价上涨。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdl3Outside> getIndicatorTaCdl3Outside(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdl3Outside.class, s -> cdl(s, CdlPattern.Cdl3Outside, CdlPattern.Cdl3Outside.getPenetration()));
+    }
+
+    /**
+     * 形态识别-Cdl3StarsInSouth指标。Three Stars In The South 南方三星，三日K线模式，与大敌当前相反，三日K线皆阴，第一日有长下影线，第二日与第一日类似，K线整体小于第一日，第三日无下影线实体信号，成交价格都在第一日振幅之内，预示下跌趋势反转，股价上升。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdl3StarsInSouth> getIndicatorTaCdl3StarsInSouth(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdl3StarsInSouth.class, s -> cdl(s, CdlPattern.Cdl3StarsInSouth, CdlPattern.Cdl3StarsInSouth.getPenetration()));
+    }
+
+    /**
+     * 形态识别-Cdl3WhiteSoldiers指标。Three Advancing White Soldiers 三个白兵，三日K线模式，三日K线皆阳，每日收盘价变高且接近最高价，开盘价在前一日实体上半部，预示股价上升。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdl3WhiteSoldiers> getIndicatorTaCdl3WhiteSoldiers(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdl3WhiteSoldiers.class, s -> cdl(s, CdlPattern.Cdl3WhiteSoldiers, CdlPattern.Cdl3WhiteSoldiers.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlAbandonedBaby指标。Abandoned Baby 弃婴，三日K线模式，第二日价格跳空且收十字星（开盘价与收盘价接近，最高价最低价相差不大），预示趋势反转，发生在顶部下跌，底部上涨。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       穿透率
+     */
+    public List<DataIndicatorTaCdlAbandonedBaby> getIndicatorTaCdlAbandonedBaby(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCdlAbandonedBaby.class, s -> cdl(s, CdlPattern.CdlAbandonedBaby, dbl(input)));
+    }
+
+    /**
+     * 形态识别-CdlAdvanceBlock指标。Advance Block 大敌当前，三日K线模式，三日都收阳，每日收盘价都比前一日高，开盘价都在前一日实体以内，实体变短，上影线变长。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlAdvanceBlock> getIndicatorTaCdlAdvanceBlock(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlAdvanceBlock.class, s -> cdl(s, CdlPattern.CdlAdvanceBlock, CdlPattern.CdlAdvanceBlock.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlBeltHold指标。Belt-hold CDLBELTHOLD 捉腰带线，两日K线模式，下跌趋势中，第一日阴线，第二日开盘价为最低价，阳线，收盘价接近最高价，预示价格上涨。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlBeltHold> getIndicatorTaCdlBeltHold(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlBeltHold.class, s -> cdl(s, CdlPattern.CdlBeltHold, CdlPattern.CdlBeltHold.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlBreakaway。指标Breakaway 脱离，五日K线模式，以看涨脱离为例，下跌趋势中，第一日长阴线，第二日跳空阴线，延续趋势开始震荡，第五日长阳线，收盘价在第一天收盘价与第二天开盘价之间，预示价格上涨。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlBreakaway> getIndicatorTaCdlBreakaway(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlBreakaway.class, s -> cdl(s, CdlPattern.CdlBreakaway, CdlPattern.CdlBreakaway.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlClosingMarubozu指标。Closing Marubozu 收盘缺影线，一日K线模式，以阳线为例，最低价低于开盘价，收盘价等于最高价，预示着趋势持续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlClosingMarubozu> getIndicatorTaCdlClosingMarubozu(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlClosingMarubozu.class, s -> cdl(s, CdlPattern.CdlClosingMarubozu, CdlPattern.CdlClosingMarubozu.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlConcealBabysWall指标。Concealing Baby Swallow 藏婴吞没，四日K线模式，下跌趋势中，前两日阴线无影线，第二日开盘、收盘价皆低于第二日，第三日倒锤头，第四日开盘价高于前一日最高价，收盘价低于前一日最低价，预示着底部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlConcealBabysWall> getIndicatorTaCdlConcealBabysWall(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlConcealBabysWall.class, s -> cdl(s, CdlPattern.CdlConcealBabysWall, CdlPattern.CdlConcealBabysWall.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlCounterAttack指标。Counterattack 反击线，二日K线模式，与分离线类似。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlCounterAttack> getIndicatorTaCdlCounterAttack(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlCounterAttack.class, s -> cdl(s, CdlPattern.CdlCounterAttack, CdlPattern.CdlCounterAttack.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlDarkCloudCover指标。Dark Cloud Cover 乌云盖顶，二日K线模式，第一日长阳，第二日开盘价高于前一日最高价，收盘价处于前一日实体中部以下，预示着股价下跌。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       穿透率
+     */
+    public List<DataIndicatorTaCdlDarkCloudCover> getIndicatorTaCdlDarkCloudCover(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCdlDarkCloudCover.class, s -> cdl(s, CdlPattern.CdlDarkCloudCover, dbl(input)));
+    }
+
+    /**
+     * 形态识别-CdlDoji指标。Doji 十字，一日K线模式，开盘价与收盘价基本相同。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlDoji> getIndicatorTaCdlDoji(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlDoji.class, s -> cdl(s, CdlPattern.CdlDoji, CdlPattern.CdlDoji.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlDojiStar指标。Doji Star 十字星，一日K线模式，开盘价与收盘价基本相同，上下影线不会很长，预示着当前趋势反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlDojiStar> getIndicatorTaCdlDojiStar(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlDojiStar.class, s -> cdl(s, CdlPattern.CdlDojiStar, CdlPattern.CdlDojiStar.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlDragonflyDoji指标。Dragonfly Doji 蜻蜓十字/T形十字，一日K线模式，开盘后价格一路走低，之后收复，收盘价与开盘价相同，预示趋势反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlDragonflyDoji> getIndicatorTaCdlDragonflyDoji(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlDragonflyDoji.class, s -> cdl(s, CdlPattern.CdlDragonflyDoji, CdlPattern.CdlDragonflyDoji.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlEngulfing指标。Dragonfly 蜻蜓十字/T形十字指标，一日K线模式，开盘后价格一路走低，之后收复，收盘价与开盘价相同，预示趋势反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlEngulfing> getIndicatorTaCdlEngulfing(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlEngulfing.class, s -> cdl(s, CdlPattern.CdlEngulfing, CdlPattern.CdlEngulfing.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlEveningDojiStar指标。Evening Doji Star 十字暮星指标，三日K线模式，基本模式为暮星，第二日收盘价和开盘价相同，预示顶部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       穿透率
+     */
+    public List<DataIndicatorTaCdlEveningDojiStar> getIndicatorTaCdlEveningDojiStar(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCdlEveningDojiStar.class, s -> cdl(s, CdlPattern.CdlEveningDojiStar, dbl(input)));
+    }
+
+    /**
+     * 形态识别-CdlEveningStar指标。Evening Star 暮星指标，三日K线模式，与晨星相反，上升趋势中,第一日阳线，第二日价格振幅较小，第三日阴线，预示顶部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       穿透率
+     */
+    public List<DataIndicatorTaCdlEveningStar> getIndicatorTaCdlEveningStar(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCdlEveningStar.class, s -> cdl(s, CdlPattern.CdlEveningStar, dbl(input)));
+    }
+
+    /**
+     * 形态识别-CdlGapSideSideWhite指标。Up/Down-gap side-by-side white lines 向上/下跳空并列阳线指标，二日K线模式，上升趋势向上跳空，下跌趋势向下跳空,第一日与第二日有相同开盘价，实体长度差不多，则趋势持续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlGapSideSideWhite> getIndicatorTaCdlGapSideSideWhite(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlGapSideSideWhite.class, s -> cdl(s, CdlPattern.CdlGapSideSideWhite, CdlPattern.CdlGapSideSideWhite.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlGravestoneDoji指标。Gravestone Doji 墓碑十字/倒T十字指标。一日K线模式，开盘价与收盘价相同，上影线长，无下影线，预示底部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlGravestoneDoji> getIndicatorTaCdlGravestoneDoji(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlGravestoneDoji.class, s -> cdl(s, CdlPattern.CdlGravestoneDoji, CdlPattern.CdlGravestoneDoji.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHammer指标。Hammer 锤头指标。一日K线模式，实体较短，无上影线，下影线大于实体长度两倍，处于下跌趋势底部，预示反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHammer> getIndicatorTaCdlHammer(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHammer.class, s -> cdl(s, CdlPattern.CdlHammer, CdlPattern.CdlHammer.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHangingMan指标。Hanging Man 上吊线指标。一日K线模式，形状与锤子类似，处于上升趋势的顶部，预示着趋势反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHangingMan> getIndicatorTaCdlHangingMan(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHangingMan.class, s -> cdl(s, CdlPattern.CdlHangingMan, CdlPattern.CdlHangingMan.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHarami指标。Harami Pattern 母子线指标。二日K线模式，分多头母子与空头母子，两者相反，以多头母子为例，在下跌趋势中，第一日K线长阴，第二日开盘价收盘价在第一日价格振幅之内，为阳线，预示趋势反转，股价上升。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHarami> getIndicatorTaCdlHarami(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHarami.class, s -> cdl(s, CdlPattern.CdlHarami, CdlPattern.CdlHarami.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHaramiCross指标。Harami Cross Pattern 十字孕线指标。二日K线模式，与母子县类似，若第二日K线是十字线，便称为十字孕线，预示着趋势反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHaramiCross> getIndicatorTaCdlHaramiCross(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHaramiCross.class, s -> cdl(s, CdlPattern.CdlHaramiCross, CdlPattern.CdlHaramiCross.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHignWave指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHignWave> getIndicatorTaCdlHignWave(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHignWave.class, s -> cdl(s, CdlPattern.CdlHignWave, CdlPattern.CdlHignWave.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHikkake指标。Hikkake Pattern 陷阱，三日K线模式，与母子类似，第二日价格在前一日实体范围内,第三日收盘价高于前两日，反转失败，趋势继续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHikkake> getIndicatorTaCdlHikkake(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHikkake.class, s -> cdl(s, CdlPattern.CdlHikkake, CdlPattern.CdlHikkake.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHikkakeMod指标。Modified Hikkake Pattern 修正陷阱，三日K线模式，与陷阱类似，上升趋势中，第三日跳空高开；下跌趋势中，第三日跳空低开，反转失败，趋势继续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHikkakeMod> getIndicatorTaCdlHikkakeMod(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHikkakeMod.class, s -> cdl(s, CdlPattern.CdlHikkakeMod, CdlPattern.CdlHikkakeMod.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlHomingPigeon指标。Homing Pigeon 家鸽，二日K线模式，与母子线类似，不同的的是二日K线颜色相同，第二日最高价、最低价都在第一日实体之内，预示着趋势反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlHomingPigeon> getIndicatorTaCdlHomingPigeon(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlHomingPigeon.class, s -> cdl(s, CdlPattern.CdlHomingPigeon, CdlPattern.CdlHomingPigeon.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlIdentical3Crows指标。Identical Three Crows 三胞胎乌鸦，三日K线模式，上涨趋势中，三日都为阴线，长度大致相等，每日开盘价等于前一日收盘价，收盘价接近当日最低价，预示价格下跌。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlIdentical3Crows> getIndicatorTaCdlIdentical3Crows(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlIdentical3Crows.class, s -> cdl(s, CdlPattern.CdlIdentical3Crows, CdlPattern.CdlIdentical3Crows.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlInNeck指标。In-Neck Pattern 颈内线，二日K线模式，下跌趋势中，第一日长阴线，第二日开盘价较低，收盘价略高于第一日收盘价，阳线，实体较短，预示着下跌继续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlInNeck> getIndicatorTaCdlInNeck(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlInNeck.class, s -> cdl(s, CdlPattern.CdlInNeck, CdlPattern.CdlInNeck.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlInvertedHammer指标。Inverted Hammer 倒锤头，一日K线模式，上影线较长，长度为实体2倍以上，无下影线，在下跌趋势底部，预示着趋势反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlInvertedHammer> getIndicatorTaCdlInvertedHammer(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlInvertedHammer.class, s -> cdl(s, CdlPattern.CdlInvertedHammer, CdlPattern.CdlInvertedHammer.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlKicking指标。Kicking 反冲形态，二日K线模式，与分离线类似，两日K线为秃线，颜色相反，存在跳空缺口。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlKicking> getIndicatorTaCdlKicking(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlKicking.class, s -> cdl(s, CdlPattern.CdlKicking, CdlPattern.CdlKicking.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlKickingByLength指标。Kicking - bull/bear determined by the longer marubozu 由较长缺影线决定的反冲形态，二日K线模式，与反冲形态类似，较长缺影线决定价格的涨跌。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlKickingByLength> getIndicatorTaCdlKickingByLength(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlKickingByLength.class, s -> cdl(s, CdlPattern.CdlKickingByLength, CdlPattern.CdlKickingByLength.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlLadderBottom指标。Ladder Bottom 梯底，五日K线模式，下跌趋势中，前三日阴线，开盘价与收盘价皆低于前一日开盘、收盘价，第四日倒锤头，第五日开盘价高于前一日开盘价，阳线，收盘价高于前几日价格振幅，预示着底部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlLadderBottom> getIndicatorTaCdlLadderBottom(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlLadderBottom.class, s -> cdl(s, CdlPattern.CdlLadderBottom, CdlPattern.CdlLadderBottom.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlLongLeggedDoji指标。Long Legged Doji 长脚十字，一日K线模式，开盘价与收盘价相同居当日价格中部，上下影线长，表达市场不确定性。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlLongLeggedDoji> getIndicatorTaCdlLongLeggedDoji(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlLongLeggedDoji.class, s -> cdl(s, CdlPattern.CdlLongLeggedDoji, CdlPattern.CdlLongLeggedDoji.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlLongLine指标。Long Line Candle 长蜡烛，一日K线模式，K线实体长，无上下影线。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlLongLine> getIndicatorTaCdlLongLine(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlLongLine.class, s -> cdl(s, CdlPattern.CdlLongLine, CdlPattern.CdlLongLine.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlMarubozu指标。Marubozu 光头光脚/缺影线，一日K线模式，上下两头都没有影线的实体，阴线预示着熊市持续或者牛市反转，阳线相反。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlMarubozu> getIndicatorTaCdlMarubozu(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlMarubozu.class, s -> cdl(s, CdlPattern.CdlMarubozu, CdlPattern.CdlMarubozu.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlMatchingLow指标。Matching Low 相同低价，二日K线模式，下跌趋势中，第一日长阴线，第二日阴线，收盘价与前一日相同，预示底部确认，该价格为支撑位。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlMatchingLow> getIndicatorTaCdlMatchingLow(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlMatchingLow.class, s -> cdl(s, CdlPattern.CdlMatchingLow, CdlPattern.CdlMatchingLow.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlMatHold指标。Mat Hold 铺垫，五日K线模式，上涨趋势中，第一日阳线，第二日跳空高开影线，第三、四日短实体影线，第五日阳线，收盘价高于前四日，预示趋势持续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       穿透率
+     */
+    public List<DataIndicatorTaCdlMatHold> getIndicatorTaCdlMatHold(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCdlMatHold.class, s -> cdl(s, CdlPattern.CdlMatHold, dbl(input)));
+    }
+
+    /**
+     * 形态识别-CdlMorningDojiStar指标。Morning Doji Star 十字晨星,三日K线模式，基本模式为晨星，第二日K线为十字星，预示底部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       穿透率
+     */
+    public List<DataIndicatorTaCdlMorningDojiStar> getIndicatorTaCdlMorningDojiStar(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCdlMorningDojiStar.class, s -> cdl(s, CdlPattern.CdlMorningDojiStar, dbl(input)));
+    }
+
+    /**
+     * 形态识别-CdlMorningStar指标。Morning Star 晨星，三日K线模式，下跌趋势，第一日阴线，第二日价格振幅较小，第三天阳线，预示底部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       穿透率
+     */
+    public List<DataIndicatorTaCdlMorningStar> getIndicatorTaCdlMorningStar(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCdlMorningStar.class, s -> cdl(s, CdlPattern.CdlMorningStar, dbl(input)));
+    }
+
+    /**
+     * 形态识别-CdlOnNeck指标。On-Neck Pattern 颈上线,二日K线模式，下跌趋势中，第一日长阴线，第二日开盘价较低，收盘价与前一日最低价相同，阳线，实体较短，预示着延续下跌趋势。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlOnNeck> getIndicatorTaCdlOnNeck(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlOnNeck.class, s -> cdl(s, CdlPattern.CdlOnNeck, CdlPattern.CdlOnNeck.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlPiercing指标。Piercing Pattern 刺透形态，两日K线模式，下跌趋势中，第一日阴线，第二日收盘价低于前一日最低价，收盘价处在第一日实体上部，预示着底部反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlPiercing> getIndicatorTaCdlPiercing(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlPiercing.class, s -> cdl(s, CdlPattern.CdlPiercing, CdlPattern.CdlPiercing.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlRickshawMan指标。Rickshaw Man 黄包车夫,一日K线模式，与长腿十字线类似，若实体正好处于价格振幅中点，称为黄包车夫。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlRickshawMan> getIndicatorTaCdlRickshawMan(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlRickshawMan.class, s -> cdl(s, CdlPattern.CdlRickshawMan, CdlPattern.CdlRickshawMan.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlRiseFall3Methods指标。Rising/Falling Three Methods 上升/下降三法，五日K线模式，以上升三法为例，上涨趋势中，第一日长阳线，中间三日价格在第一日范围内小幅震荡，第五日长阳线，收盘价高于第一日收盘价，预示股价上升。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlRiseFall3Methods> getIndicatorTaCdlRiseFall3Methods(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlRiseFall3Methods.class, s -> cdl(s, CdlPattern.CdlRiseFall3Methods, CdlPattern.CdlRiseFall3Methods.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlShootingStar指标。Shooting Star 射击之星，一日K线模式，上影线至少为实体长度两倍，没有下影线，预示着股价下跌。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlShootingStar> getIndicatorTaCdlShootingStar(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlShootingStar.class, s -> cdl(s, CdlPattern.CdlShootingStar, CdlPattern.CdlShootingStar.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlShortLine指标。Short Line Candle 短蜡烛，一日K线模式，实体短，无上下影线。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlShortLine> getIndicatorTaCdlShortLine(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlShortLine.class, s -> cdl(s, CdlPattern.CdlShortLine, CdlPattern.CdlShortLine.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlSpinningTop指标。Spinning Top 纺锤，一日K线，实体小。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlSpinningTop> getIndicatorTaCdlSpinningTop(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlSpinningTop.class, s -> cdl(s, CdlPattern.CdlSpinningTop, CdlPattern.CdlSpinningTop.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlStalledPattern指标。Stalled Pattern 停顿形态，三日K线模式，上涨趋势中，第二日长阳线，第三日开盘于前一日收盘价附近，短阳线，预示着上涨结束。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlStalledPattern> getIndicatorTaCdlStalledPattern(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlStalledPattern.class, s -> cdl(s, CdlPattern.CdlStalledPattern, CdlPattern.CdlStalledPattern.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlTakuri指标。Takuri (Dragonfly Doji with very long lower shadow) 探水竿，一日K线模式，大致与蜻蜓十字相同，下影线长度长。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlTakuri> getIndicatorTaCdlTakuri(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlTakuri.class, s -> cdl(s, CdlPattern.CdlTakuri, CdlPattern.CdlTakuri.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlTasukiGap指标。Tasuki Gap 跳空并列阴阳线，三日K线模式，分上涨和下跌，以上升为例，前两日阳线，第二日跳空，第三日阴线，收盘价于缺口中，上升趋势持续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlTasukiGap> getIndicatorTaCdlTasukiGap(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlTasukiGap.class, s -> cdl(s, CdlPattern.CdlTasukiGap, CdlPattern.CdlTasukiGap.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlThrusting指标。Thrusting Pattern 插入，二日K线模式，与颈上线类似，下跌趋势中，第一日长阴线，第二日开盘价跳空，收盘价略低于前一日实体中部，与颈上线相比实体较长，预示着趋势持续。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlThrusting> getIndicatorTaCdlThrusting(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlThrusting.class, s -> cdl(s, CdlPattern.CdlThrusting, CdlPattern.CdlThrusting.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlTristar指标。Tristar Pattern 三星，三日K线模式，由三个十字组成，第二日十字必须高于或者低于第一日和第三日，预示着反转。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlTristar> getIndicatorTaCdlTristar(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlTristar.class, s -> cdl(s, CdlPattern.CdlTristar, CdlPattern.CdlTristar.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlUnique3River指标。Unique 3 River 奇特三河床，三日K线模式，下跌趋势中，第一日长阴线，第二日为锤头，最低价创新低，第三日开盘价低于第二日收盘价，收阳线，收盘价不高于第二日收盘价，预示着反转，第二日下影线越长可能性越大。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlUnique3River> getIndicatorTaCdlUnique3River(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlUnique3River.class, s -> cdl(s, CdlPattern.CdlUnique3River, CdlPattern.CdlUnique3River.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlUpsideGap2Crows指标。Upside Gap Two Crows 向上跳空的两只乌鸦，三日K线模式，第一日阳线，第二日跳空以高于第一日最高价开盘，收阴线，第三日开盘价高于第二日，收阴线，与第一日比仍有缺口。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlUpsideGap2Crows> getIndicatorTaCdlUpsideGap2Crows(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlUpsideGap2Crows.class, s -> cdl(s, CdlPattern.CdlUpsideGap2Crows, CdlPattern.CdlUpsideGap2Crows.getPenetration()));
+    }
+
+    /**
+     * 形态识别-CdlXSideGap3Methods指标。Upside/Downside Gap Three Methods 上升/下降跳空三法，五日K线模式，以上升跳空三法为例，上涨趋势中，第一日长阳线，第二日短阳线，第三日跳空阳线，第四日阴线，开盘价与收盘价于前两日实体内，第五日长阳线，收盘价高于第一日收盘价，预示股价上升。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaCdlXSideGap3Methods> getIndicatorTaCdlXSideGap3Methods(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaCdlXSideGap3Methods.class, s -> cdl(s, CdlPattern.CdlXSideGap3Methods, CdlPattern.CdlXSideGap3Methods.getPenetration()));
+    }
+
+    /**
+     * 向上取整数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaCeil> getIndicatorTaCeil(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCeil.class, s -> TaLib.map(s.get(num(input)), Math::ceil));
+    }
+
+    /**
+     * CMO指标的名称：Chande Momentum Oscillator（CMO，钱德动量振荡器）。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaCmo> getIndicatorTaCmo(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaCmo.class, s -> TaLib.cmo(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * Correl指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input3      移动平均线周期
+     */
+    public List<DataIndicatorTaCorrel> getIndicatorTaCorrel(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return single(bars, DataIndicatorTaCorrel.class, s -> TaLib.correl(s.get(num(input1)), s.get(num(input2)), num(input3)));
+    }
+
+    /**
+     * 余弦函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaCos> getIndicatorTaCos(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCos.class, s -> TaLib.map(s.get(num(input)), Math::cos));
+    }
+
+    /**
+     * 双曲正弦函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaCosh> getIndicatorTaCosh(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaCosh.class, s -> TaLib.map(s.get(num(input)), Math::cosh));
+    }
+
+    /**
+     * DEMA指标是一种双指数移动平均线，全称为Double Exponential Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaDema> getIndicatorTaDema(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaDema.class, s -> TaLib.dema(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 向量减法运算。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaDiv> getIndicatorTaDiv(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaDiv.class, s -> TaLib.map(s.get(num(input1)), s.get(num(input2)), (a, b) -> a / b));
+    }
+
+    /**
+     * 动向指标(DMI)，英文名称是Directional Movement Index。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaDx> getIndicatorTaDx(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaDx.class, s -> TaLib.dx(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * EMA指标是指数移动平均线，全称为Exponential Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaEma> getIndicatorTaEma(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaEma.class, s -> TaLib.ema(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 指数曲线。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaExp> getIndicatorTaExp(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaExp.class, s -> TaLib.map(s.get(num(input)), Math::exp));
+    }
+
+    /**
+     * 向下取整数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaFloor> getIndicatorTaFloor(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaFloor.class, s -> TaLib.map(s.get(num(input)), Math::floor));
+    }
+
+    /**
+     * Dominant Cycle Period 希尔伯特变换-主导周期。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaHtDcPeriod> getIndicatorTaHtDcPeriod(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaHtDcPeriod.class, s -> TaLib.htDcPeriod(s.get(num(input))));
+    }
+
+    /**
+     * Dominant Cycle Phase 希尔伯特变换-主导循环阶段。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaHtDcPhase> getIndicatorTaHtDcPhase(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaHtDcPhase.class, s -> TaLib.htDcPhase(s.get(num(input))));
+    }
+
+    /**
+     * Phasor Components 希尔伯特变换-希尔伯特变换相量分量。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaHtPhasor> getIndicatorTaHtPhasor(List<DataStockKLine> bars, String input) {
+        return multi(bars, DataIndicatorTaHtPhasor.class, s -> TaLib.htPhasor(s.get(num(input))));
+    }
+
+    /**
+     * SineWave 希尔伯特变换-正弦波。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaHtSine> getIndicatorTaHtSine(List<DataStockKLine> bars, String input) {
+        return multi(bars, DataIndicatorTaHtSine.class, s -> TaLib.htSine(s.get(num(input))));
+    }
+
+    /**
+     * Trend vs Cycle Mode 希尔伯特变换-趋势与周期模式。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaHtTrendMode> getIndicatorTaHtTrendMode(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaHtTrendMode.class, s -> TaLib.htTrendMode(s.get(num(input))));
+    }
+
+    /**
+     * HTTRENDLINE称为趋势线，英文名称为HTTRENDLINE。该指标是一种基于趋势线的技术分析工具。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaHtTrendline> getIndicatorTaHtTrendline(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaHtTrendline.class, s -> TaLib.htTrendline(s.get(num(input))));
+    }
+
+    /**
+     * KAMA是考夫曼自适应移动平均线，全称为Kaufman Adaptive Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaKama> getIndicatorTaKama(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaKama.class, s -> TaLib.kama(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * LinearReg指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaLinearReg> getIndicatorTaLinearReg(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaLinearReg.class, s -> TaLib.linearReg(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * LinearRegAngle指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaLinearRegAngle> getIndicatorTaLinearRegAngle(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaLinearRegAngle.class, s -> TaLib.linearRegAngle(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * LinearRegIntercept指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaLinearRegIntercept> getIndicatorTaLinearRegIntercept(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaLinearRegIntercept.class, s -> TaLib.linearRegIntercept(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * LinearRegSlope指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaLinearRegSlope> getIndicatorTaLinearRegSlope(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaLinearRegSlope.class, s -> TaLib.linearRegSlope(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 自然对数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaLn> getIndicatorTaLn(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaLn.class, s -> TaLib.map(s.get(num(input)), Math::log));
+    }
+
+    /**
+     * 对数函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaLog10> getIndicatorTaLog10(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaLog10.class, s -> TaLib.map(s.get(num(input)), Math::log10));
+    }
+
+    /**
+     * MACD指标的中文名称为移动平均线收敛/发散指标，英文名称为Moving Average Convergence Divergence。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      快速移动平均线周期
+     * @param input3      慢速移动平均线周期
+     * @param input4      信号移动平均线周期
+     */
+    public List<DataIndicatorTaMacd> getIndicatorTaMacd(List<DataStockKLine> bars, String input1, String input2, String input3, String input4) {
+        return multi(bars, DataIndicatorTaMacd.class, s -> TaLib.macd(s.get(num(input1)), num(input2), num(input3), num(input4)));
+    }
+
+    /**
+     * MACDEXT指标的中文名称是MACD扩展，英文名称是MACD Extended。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      快速移动平均线周期
+     * @param input3      快速移动平均线类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     * @param input4      慢速移动平均线周期
+     * @param input5      慢速移动平均线类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     * @param input6      信号移动平均线周期
+     * @param input7      信号移动平均线类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaMacdExt> getIndicatorTaMacdExt(List<DataStockKLine> bars, String input1, String input2, String input3, String input4, String input5, String input6, String input7) {
+        return multi(bars, DataIndicatorTaMacdExt.class, s -> TaLib.macdExt(s.get(num(input1)), num(input2), MaType.of(num(input3)), num(input4), MaType.of(num(input5)), num(input6), MaType.of(num(input7))));
+    }
+
+    /**
+     * MACDFIX指标的中文名称为移动平均收敛/背离指标，英文名称为Moving Average Convergence Divergence Fix。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      信号移动平均线周期
+     */
+    public List<DataIndicatorTaMacdFix> getIndicatorTaMacdFix(List<DataStockKLine> bars, String input1, String input2) {
+        return multi(bars, DataIndicatorTaMacdFix.class, s -> TaLib.macdFix(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * MAMA是MESA自适应移动平均线，全称为MESA Adaptive Moving Average。它是根据价格的移动平均线和自适应移动平均线来计算的，它的设计初衷是能够更好地适应不同市场的变化。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      快速限制，例如0.5
+     * @param input3      慢速限制，例如0.05
+     */
+    public List<DataIndicatorTaMama> getIndicatorTaMama(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return multi(bars, DataIndicatorTaMama.class, s -> TaLib.mama(s.get(num(input1)), dbl(input2), dbl(input3)));
+    }
+
+    /**
+     * 周期内最大值。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMax> getIndicatorTaMax(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaMax.class, s -> TaLib.max(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 周期内最大值的索引。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMaxIndex> getIndicatorTaMaxIndex(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaMaxIndex.class, s -> TaLib.maxIndex(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 称为中位数价格指标，Median Price Indicator。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaMedPrice> getIndicatorTaMedPrice(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaMedPrice.class, s -> TaLib.medPrice(s.getHigh(), s.getLow()));
+    }
+
+    /**
+     * MFI指标的中文名称是资金流量指标，英文名称是Money Flow Index。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaMfi> getIndicatorTaMfi(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaMfi.class, s -> TaLib.mfi(s.getHigh(), s.getLow(), s.getClose(), s.getCjl(), num(input)));
+    }
+
+    /**
+     * MIDPOINT是一种基于价格的技术指标，用于衡量价格趋势的中点。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMidPoint> getIndicatorTaMidPoint(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaMidPoint.class, s -> TaLib.midPoint(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * MIDPRICE指标是一种技术分析工具，用于计算一段时间内的市场中间价。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaMidPrice> getIndicatorTaMidPrice(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaMidPrice.class, s -> TaLib.midPrice(s.getHigh(), s.getLow(), num(input)));
+    }
+
+    /**
+     * 周期内最小值。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMin> getIndicatorTaMin(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaMin.class, s -> TaLib.min(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 周期内最小值的索引。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMinIndex> getIndicatorTaMinIndex(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaMinIndex.class, s -> TaLib.minIndex(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 周期内最小值和最大值。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMinMax> getIndicatorTaMinMax(List<DataStockKLine> bars, String input1, String input2) {
+        return multi(bars, DataIndicatorTaMinMax.class, s -> new double[][]{TaLib.min(s.get(num(input1)), num(input2)), TaLib.max(s.get(num(input1)), num(input2))});
+    }
+
+    /**
+     * 周期内最小值和最大值索引。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMinMaxIndex> getIndicatorTaMinMaxIndex(List<DataStockKLine> bars, String input1, String input2) {
+        return multi(bars, DataIndicatorTaMinMaxIndex.class, s -> new double[][]{TaLib.minIndex(s.get(num(input1)), num(input2)), TaLib.maxIndex(s.get(num(input1)), num(input2))});
+    }
+
+    /**
+     * MINUSDI指标中文名称为负向动向指标，英文名称为Negative Directional Indicator。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaMinusDI> getIndicatorTaMinusDI(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaMinusDI.class, s -> TaLib.minusDI(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * MINUSDM指标的中文名称为负方向运动指标，英文名称为Minus Directional Movement Indicator。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaMinusDM> getIndicatorTaMinusDM(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaMinusDM.class, s -> TaLib.minusDM(s.getHigh(), s.getLow(), num(input)));
+    }
+
+    /**
+     * MOM金融指标的中文名称为动量指标，英文名称为Momentum Indicator。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaMom> getIndicatorTaMom(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaMom.class, s -> TaLib.mom(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * MOVINGAVERAGE金融指标的中文名称为移动平均线，英文名称为Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     * @param input3      移动平均线类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaMovingAverage> getIndicatorTaMovingAverage(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return single(bars, DataIndicatorTaMovingAverage.class, s -> TaLib.ma(s.get(num(input1)), num(input2), MaType.of(num(input3))));
+    }
+
+    /**
+     * 向量乘法运算。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaMult> getIndicatorTaMult(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaMult.class, s -> TaLib.map(s.get(num(input1)), s.get(num(input2)), (a, b) -> a * b));
+    }
+
+    /**
+     * NATR称为归一化真实波动幅度，英文名称为Normalized Average True Range。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaNatr> getIndicatorTaNatr(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaNatr.class, s -> TaLib.natr(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * OBV指标（On-Balance Volume）是一种量能指标，用于衡量成交量的变化趋势和预测价格趋势的强弱。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaObv> getIndicatorTaObv(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaObv.class, s -> TaLib.obv(s.get(num(input)), s.getCjl()));
+    }
+
+    /**
+     * 正向移动方向指标，英文名称是Positive Directional Indicator。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaPlusDI> getIndicatorTaPlusDI(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaPlusDI.class, s -> TaLib.plusDI(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * 正向动向变动指标，英文名称是Positive Directional Movement。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaPlusDM> getIndicatorTaPlusDM(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaPlusDM.class, s -> TaLib.plusDM(s.getHigh(), s.getLow(), num(input)));
+    }
+
+    /**
+     * 价格振荡百分比指标，英文名称为Percentage Price Oscillator。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      快速移动平均线周期
+     * @param input3      慢速移动平均线周期
+     * @param input4      移动平均线类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaPpo> getIndicatorTaPpo(List<DataStockKLine> bars, String input1, String input2, String input3, String input4) {
+        return single(bars, DataIndicatorTaPpo.class, s -> TaLib.ppo(s.get(num(input1)), num(input2), num(input3), MaType.of(num(input4))));
+    }
+
+    /**
+     * ROC金融指标的中文名称是变动率，英文名称是Rate of Change，ROC指标是一种衡量价格变动速度的技。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaRoc> getIndicatorTaRoc(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaRoc.class, s -> TaLib.roc(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * ROCP指标的中文名称为变化率指标，英文名称为Rate of Change Percentage。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaRocP> getIndicatorTaRocP(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaRocP.class, s -> TaLib.rocp(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * ROCR金融指标是指Rate of Change Ratio，其中文名称是变动率比率，英文名称是Rate of Change Ratio。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaRocR> getIndicatorTaRocR(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaRocR.class, s -> TaLib.rocr(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * ROCR100金融指标的中文名称为价格变动率，英文名称为Rate of Change Ratio 100，指标介绍为衡量价格在一定时间内的变动幅度，以百分比表示。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaRocR100> getIndicatorTaRocR100(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaRocR100.class, s -> TaLib.rocr100(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * RSI指标是相对强弱指标，全称为Relative Strength Index。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaRsi> getIndicatorTaRsi(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaRsi.class, s -> TaLib.rsi(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * SAR称为抛物线指标，英文名称为Parabolic SAR (Stop and Reverse)。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      加速因子
+     * @param input2      最大值
+     */
+    public List<DataIndicatorTaSar> getIndicatorTaSar(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaSar.class, s -> TaLib.sar(s.getHigh(), s.getLow(), dbl(input1), dbl(input2)));
+    }
+
+    /**
+     * SAREXT称为拓展停损点指标，英文名称为SAREXT (Extended Stop and Reverse Indicator)。多头时为正值，空头时为负值。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      起始值
+     * @param input2      反转偏移量
+     * @param input3      多头初始加速因子
+     * @param input4      多头加速因子
+     * @param input5      多头最大加速因子
+     * @param input6      空头初始加速因子
+     * @param input7      空头加速因子
+     * @param input8      空头最大加速因子
+     */
+    public List<DataIndicatorTaSarExt> getIndicatorTaSarExt(List<DataStockKLine> bars, String input1, String input2, String input3, String input4, String input5, String input6, String input7, String input8) {
+        return single(bars, DataIndicatorTaSarExt.class, s -> TaLib.sarExt(s.getHigh(), s.getLow(), dbl(input1), dbl(input2),
+                dbl(input3), dbl(input4), dbl(input5), dbl(input6), dbl(input7), dbl(input8)));
+    }
+
+    /**
+     * 正弦函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaSin> getIndicatorTaSin(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaSin.class, s -> TaLib.map(s.get(num(input)), Math::sin));
+    }
+
+    /**
+     * 双曲正弦函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaSinh> getIndicatorTaSinh(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaSinh.class, s -> TaLib.map(s.get(num(input)), Math::sinh));
+    }
+
+    /**
+     * SMA指标是简单移动平均线，全称为Simple Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaSma> getIndicatorTaSma(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaSma.class, s -> TaLib.sma(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 非负实数的平方根。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaSqrt> getIndicatorTaSqrt(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaSqrt.class, s -> TaLib.map(s.get(num(input)), Math::sqrt));
+    }
+
+    /**
+     * StdDev指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     * @param input3      标准差倍数
+     */
+    public List<DataIndicatorTaStdDev> getIndicatorTaStdDev(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return single(bars, DataIndicatorTaStdDev.class, s -> TaLib.stdDev(s.get(num(input1)), num(input2), dbl(input3)));
+    }
+
+    /**
+     * STOCH是随机指标（KDJ指标），英文名称是Stochastic Oscillator。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      快速移动平均线K周期
+     * @param input2      慢速移动平均线K周期
+     * @param input3      慢速移动平均线K类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     * @param input4      慢速移动平均线D周期
+     * @param input5      慢速移动平均线D类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaStoch> getIndicatorTaStoch(List<DataStockKLine> bars, String input1, String input2, String input3, String input4, String input5) {
+        return multi(bars, DataIndicatorTaStoch.class, s -> TaLib.stoch(s.getHigh(), s.getLow(), s.getClose(), num(input1), num(input2), MaType.of(num(input3)), num(input4), MaType.of(num(input5))));
+    }
+
+    /**
+     * STOCHF是随机振荡指标（Stochastic Fast）。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      快速移动平均线K周期
+     * @param input2      慢速移动平均线D周期
+     * @param input3      慢速移动平均线D类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaStochF> getIndicatorTaStochF(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return multi(bars, DataIndicatorTaStochF.class, s -> TaLib.stochF(s.getHigh(), s.getLow(), s.getClose(), num(input1), num(input2), MaType.of(num(input3))));
+    }
+
+    /**
+     * 随机相对强弱指标，Stochastic Relative Strength Index (STOCHRSI)。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     * @param input3      快速移动平均线K周期
+     * @param input4      慢速移动平均线D周期
+     * @param input5      慢速移动平均线D类型，取值范围：1|SMA-简单移动平均线；2|EMA-指数移动平均线；3|WMA-加权移动平均线；4|DEMA-双指数移动平均线；5|TEMA-三重指数移动平均线；6|TRIMA-三重移动平均线；7|KAMA-考夫曼自适应移动平均线；8|MAMA-自适应移动平均线；9|T3-三重移动平均线
+     */
+    public List<DataIndicatorTaStochRsi> getIndicatorTaStochRsi(List<DataStockKLine> bars, String input1, String input2, String input3, String input4, String input5) {
+        return multi(bars, DataIndicatorTaStochRsi.class, s -> TaLib.stochRsi(s.get(num(input1)), num(input2), num(input3), num(input4), MaType.of(num(input5))));
+    }
+
+    /**
+     * 向量除法运算。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaSub> getIndicatorTaSub(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaSub.class, s -> TaLib.map(s.get(num(input1)), s.get(num(input2)), (a, b) -> a - b));
+    }
+
+    /**
+     * 周期内求和。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaSum> getIndicatorTaSum(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaSum.class, s -> TaLib.sum(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * T3是三重移动平均线，全称是Triple Exponential Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     * @param input3      va系数
+     */
+    public List<DataIndicatorTaT3> getIndicatorTaT3(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return single(bars, DataIndicatorTaT3.class, s -> TaLib.t3(s.get(num(input1)), num(input2), dbl(input3)));
+    }
+
+    /**
+     * 正切函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaTan> getIndicatorTaTan(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaTan.class, s -> TaLib.map(s.get(num(input)), Math::tan));
+    }
+
+    /**
+     * 双曲正切函数。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public List<DataIndicatorTaTanh> getIndicatorTaTanh(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaTanh.class, s -> TaLib.map(s.get(num(input)), Math::tanh));
+    }
+
+    /**
+     * TEMA是三重指数移动平均线，全程为Triple Exponential Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaTema> getIndicatorTaTema(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaTema.class, s -> TaLib.tema(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * TRIMA是三重指数平均线，全称为Triangular Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaTrima> getIndicatorTaTrima(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaTrima.class, s -> TaLib.trima(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * TRIX金融指标的中文名称是三重指数平滑平均线，英文名称是Triple Exponential Moving Average (TRIX)。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaTrix> getIndicatorTaTrix(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaTrix.class, s -> TaLib.trix(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * 称为真实波幅，英文名称为True Range。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaTrueRange> getIndicatorTaTrueRange(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaTrueRange.class, s -> TaLib.trueRange(s.getHigh(), s.getLow(), s.getClose()));
+    }
+
+    /**
+     * Tsf指标。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaTsf> getIndicatorTaTsf(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaTsf.class, s -> TaLib.tsf(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * TYPPRICE是一种计算股票或其他金融资产的典型价格的方法。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaTypPrice> getIndicatorTaTypPrice(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaTypPrice.class, s -> TaLib.typPrice(s.getHigh(), s.getLow(), s.getClose()));
+    }
+
+    /**
+     * ULTOSC称为综合摆动指标，英文名称：Ultimate Oscillator (ULTOSC)。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      移动平均线周期1
+     * @param input2      移动平均线周期2
+     * @param input3      移动平均线周期3
+     */
+    public List<DataIndicatorTaUltOsc> getIndicatorTaUltOsc(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return single(bars, DataIndicatorTaUltOsc.class, s -> TaLib.ultOsc(s.getHigh(), s.getLow(), s.getClose(), num(input1), num(input2), num(input3)));
+    }
+
+    /**
+     * 方差。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     * @param input3      标准差倍数
+     */
+    public List<DataIndicatorTaVariance> getIndicatorTaVariance(List<DataStockKLine> bars, String input1, String input2, String input3) {
+        return single(bars, DataIndicatorTaVariance.class, s -> TaLib.variance(s.get(num(input1)), num(input2)));
+    }
+
+    /**
+     * WCLPRICE指标称为加权收盘价，英文名称为Weighted Close Price。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     */
+    public List<DataIndicatorTaWclPrice> getIndicatorTaWclPrice(List<DataStockKLine> bars) {
+        return single(bars, DataIndicatorTaWclPrice.class, s -> TaLib.wclPrice(s.getHigh(), s.getLow(), s.getClose()));
+    }
+
+    /**
+     * WILLR指标的中文名称为威廉指标(WR)，英文名称为Williams' %R(W%R)。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input       移动平均线周期
+     */
+    public List<DataIndicatorTaWillR> getIndicatorTaWillR(List<DataStockKLine> bars, String input) {
+        return single(bars, DataIndicatorTaWillR.class, s -> TaLib.willR(s.getHigh(), s.getLow(), s.getClose(), num(input)));
+    }
+
+    /**
+     * WMA指标是一种移动平均线指标，全称为Weighted Moving Average。
+     * 
+     * @param bars        K线数据，可以是getDayKLine等接口返回的多只股票K线
+     * @param input1      数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     * @param input2      移动平均线周期
+     */
+    public List<DataIndicatorTaWma> getIndicatorTaWma(List<DataStockKLine> bars, String input1, String input2) {
+        return single(bars, DataIndicatorTaWma.class, s -> TaLib.wma(s.get(num(input1)), num(input2)));
+    }
+
+    private static <T> List<T> single(List<DataStockKLine> bars, Class<T> type, Function<PriceSeries, double[]> indicator) {
+        return multi(bars, type, series -> new double[][]{indicator.apply(series)});
+    }
+
+    private static <T> List<T> multi(List<DataStockKLine> bars, Class<T> type, Function<PriceSeries, double[][]> indicator) {
+        List<T> result = new ArrayList<>(bars.size());
+        for (PriceSeries series : PriceSeries.of(bars)) {
+            result.addAll(IndicatorBeans.fill(type, series, indicator.apply(series)));
+        }
+        return result;
+    }
+
+    private static double[] cdl(PriceSeries series, CdlPattern pattern, double penetration) {
+        Candles candles = new Candles(series.getOpen(), series.getHigh(), series.getLow(), series.getClose());
+        double[] out = new double[candles.size()];
+        for (int i = 0; i < out.length; i++) {
+            int value = candles.evaluate(pattern, i, penetration);
+            out[i] = i < pattern.getLookback() ? Double.NaN : value;
+        }
+        return out;
+    }
+
+    private static int num(String input) {
+        return Integer.parseInt(input.trim());
+    }
+
+    private static double dbl(String input) {
+        return Double.parseDouble(input.trim());
+    }
+}
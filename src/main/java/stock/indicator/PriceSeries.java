@@ -0,0 +1,100 @@
+package stock.indicator;
+
+import lombok.Getter;
+import stock.bean.DataStockKLine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单只股票的K线序列，按列存放为double数组，供TaLib直接计算
+ */
+@Getter
+public class PriceSeries {
+    //股票代码
+    private final String code;
+    //原始K线，按交易时间升序
+    private final List<DataStockKLine> bars;
+    //开盘价
+    private final double[] open;
+    //收盘价
+    private final double[] close;
+    //最高价
+    private final double[] high;
+    //最低价
+    private final double[] low;
+    //成交量
+    private final double[] cjl;
+    //成交额
+    private final double[] cje;
+
+    public PriceSeries(String code, List<DataStockKLine> bars) {
+        this.code = code;
+        this.bars = bars;
+        int size = bars.size();
+        this.open = new double[size];
+        this.close = new double[size];
+        this.high = new double[size];
+        this.low = new double[size];
+        this.cjl = new double[size];
+        this.cje = new double[size];
+        for (int i = 0; i < size; i++) {
+            DataStockKLine bar = bars.get(i);
+            open[i] = bar.getOpen();
+            close[i] = bar.getClose();
+            high[i] = bar.getHigh();
+            low[i] = bar.getLow();
+            cjl[i] = bar.getCjl();
+            cje[i] = bar.getCje();
+        }
+    }
+
+    /**
+     * 按getDayKLine等接口返回的K线构建序列，多只股票的K线按代码分组，组内按交易时间排序
+     */
+    public static List<PriceSeries> of(Collection<DataStockKLine> bars) {
+        Map<String, List<DataStockKLine>> groups = new LinkedHashMap<>();
+        for (DataStockKLine bar : bars) {
+            groups.computeIfAbsent(bar.getCode(), code -> new ArrayList<>()).add(bar);
+        }
+        List<PriceSeries> result = new ArrayList<>(groups.size());
+        for (Map.Entry<String, List<DataStockKLine>> entry : groups.entrySet()) {
+            List<DataStockKLine> list = entry.getValue();
+            list.sort(Comparator.comparing(DataStockKLine::getTdate));
+            result.add(new PriceSeries(entry.getKey(), list));
+        }
+        return result;
+    }
+
+    public int size() {
+        return bars.size();
+    }
+
+    /**
+     * 按数据标签取列
+     *
+     * @param label 数据标签，取值范围：1|open-开盘价；2|close-收盘价；3|high-最高价；4|low-最低价；5|cjl-成交量；6|cje-成交额
+     */
+    public double[] get(int label) {
+        switch (label) {
+            case 1:
+                return open;
+            case 2:
+                return close;
+            case 3:
+                return high;
+            case 4:
+                return low;
+            case 5:
+                return cjl;
+            case 6:
+                return cje;
+            default:
+                throw new IllegalArgumentException("不支持的数据标签：" + label);
+        }
+    }
+}
@@ -0,0 +1,1311 @@
+package stock.indicator;
+
+import constant.MaType;
+import stock.indicator.stream.HilbertTransform;
+import stock.indicator.stream.Mama;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 本地技术指标计算，算法与getIndicatorTa*接口使用的TA-Lib保持一致。
+ * 输入输出均为double数组，输出数组与输入等长，数据不足（指标的回看期内）的位置为NaN。
+ * 输入序列开头的NaN会被跳过，因此指标可以直接串联计算，例如ema(ema(x, n), n)。
+ */
+public final class TaLib {
+
+    private TaLib() {
+    }
+
+    /* ---------------------------------------- 移动平均线 ---------------------------------------- */
+
+    public static double[] sma(double[] x, int n) {
+        double[] out = nan(x.length);
+        int b = begin(x);
+        double sum = 0;
+        for (int i = b; i < x.length; i++) {
+            sum += x[i];
+            if (i - b >= n) {
+                sum -= x[i - n];
+            }
+            if (i - b >= n - 1) {
+                out[i] = sum / n;
+            }
+        }
+        return out;
+    }
+
+    public static double[] ema(double[] x, int n) {
+        return ema(x, n, 2.0 / (n + 1));
+    }
+
+    /**
+     * 以前n个值的简单平均作为初值的指数移动平均，k为平滑系数
+     */
+    public static double[] ema(double[] x, int n, double k) {
+        int b = begin(x);
+        return emaFrom(x, n, k, b + n - 1);
+    }
+
+    /**
+     * 指数移动平均，以x[seed-n+1..seed]的简单平均作为seed位置的初值
+     */
+    private static double[] emaFrom(double[] x, int n, double k, int seed) {
+        double[] out = nan(x.length);
+        if (seed >= x.length || seed - n + 1 < 0) {
+            return out;
+        }
+        double sum = 0;
+        for (int i = seed - n + 1; i <= seed; i++) {
+            sum += x[i];
+        }
+        double prev = sum / n;
+        out[seed] = prev;
+        for (int i = seed + 1; i < x.length; i++) {
+            prev += k * (x[i] - prev);
+            out[i] = prev;
+        }
+        return out;
+    }
+
+    public static double[] wma(double[] x, int n) {
+        double[] out = nan(x.length);
+        int b = begin(x);
+        double divider = n * (n + 1) / 2.0;
+        double sum = 0;
+        double weighted = 0;
+        for (int i = b; i < x.length; i++) {
+            if (i - b < n) {
+                weighted += (i - b + 1) * x[i];
+                sum += x[i];
+            } else {
+                weighted += n * x[i] - sum;
+                sum += x[i] - x[i - n];
+            }
+            if (i - b >= n - 1) {
+                out[i] = weighted / divider;
+            }
+        }
+        return out;
+    }
+
+    public static double[] dema(double[] x, int n) {
+        double[] e1 = ema(x, n);
+        double[] e2 = ema(e1, n);
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            out[i] = 2 * e1[i] - e2[i];
+        }
+        return out;
+    }
+
+    public static double[] tema(double[] x, int n) {
+        double[] e1 = ema(x, n);
+        double[] e2 = ema(e1, n);
+        double[] e3 = ema(e2, n);
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            out[i] = 3 * e1[i] - 3 * e2[i] + e3[i];
+        }
+        return out;
+    }
+
+    public static double[] trima(double[] x, int n) {
+        int n1 = n % 2 == 1 ? (n + 1) / 2 : n / 2;
+        int n2 = n % 2 == 1 ? n1 : n1 + 1;
+        return sma(sma(x, n1), n2);
+    }
+
+    public static double[] kama(double[] x, int n) {
+        double[] out = nan(x.length);
+        int b = begin(x);
+        if (b + n >= x.length) {
+            return out;
+        }
+        double fastest = 2.0 / (2 + 1);
+        double slowest = 2.0 / (30 + 1);
+        double volatility = 0;
+        for (int i = b + 1; i <= b + n; i++) {
+            volatility += Math.abs(x[i] - x[i - 1]);
+        }
+        double prev = x[b + n - 1];
+        for (int i = b + n; i < x.length; i++) {
+            if (i > b + n) {
+                volatility += Math.abs(x[i] - x[i - 1]) - Math.abs(x[i - n] - x[i - n - 1]);
+            }
+            double direction = Math.abs(x[i] - x[i - n]);
+            double er = volatility <= 0 ? 1 : direction / volatility;
+            double sc = er * (fastest - slowest) + slowest;
+            prev += sc * sc * (x[i] - prev);
+            out[i] = prev;
+        }
+        return out;
+    }
+
+    public static double[] t3(double[] x, int n, double v) {
+        double[] e1 = ema(x, n);
+        double[] e2 = ema(e1, n);
+        double[] e3 = ema(e2, n);
+        double[] e4 = ema(e3, n);
+        double[] e5 = ema(e4, n);
+        double[] e6 = ema(e5, n);
+        double c1 = -v * v * v;
+        double c2 = 3 * v * v + 3 * v * v * v;
+        double c3 = -6 * v * v - 3 * v - 3 * v * v * v;
+        double c4 = 1 + 3 * v + v * v * v + 3 * v * v;
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            out[i] = c1 * e6[i] + c2 * e5[i] + c3 * e4[i] + c4 * e3[i];
+        }
+        return out;
+    }
+
+    /**
+     * @return [MAMA, FAMA]
+     */
+    public static double[][] mama(double[] x, double fastLimit, double slowLimit) {
+        double[] mama = nan(x.length);
+        double[] fama = nan(x.length);
+        Mama average = new Mama(fastLimit, slowLimit);
+        for (int i = begin(x); i < x.length; i++) {
+            mama[i] = average.update(x[i]);
+            fama[i] = average.fama();
+        }
+        return new double[][]{mama, fama};
+    }
+
+    public static double[] ma(double[] x, int n, MaType type) {
+        if (n == 1) {
+            return x.clone();
+        }
+        switch (type) {
+            case SMA:
+                return sma(x, n);
+            case EMA:
+                return ema(x, n);
+            case WMA:
+                return wma(x, n);
+            case DEMA:
+                return dema(x, n);
+            case TEMA:
+                return tema(x, n);
+            case TRIMA:
+                return trima(x, n);
+            case KAMA:
+                return kama(x, n);
+            case MAMA:
+                return mama(x, 0.5, 0.05)[0];
+            case T3:
+                return t3(x, n, 0.7);
+            default:
+                throw new IllegalArgumentException("不支持的移动平均线类型：" + type);
+        }
+    }
+
+    /* ---------------------------------------- 动量指标 ---------------------------------------- */
+
+    /**
+     * @return [DIF, DEA, MACD柱]，MACD柱 = (DIF - DEA) * 2
+     */
+    public static double[][] macd(double[] x, int fast, int slow, int signal) {
+        if (slow < fast) {
+            int temp = slow;
+            slow = fast;
+            fast = temp;
+        }
+        int seed = begin(x) + slow - 1;
+        double[] slowEma = emaFrom(x, slow, 2.0 / (slow + 1), seed);
+        double[] fastEma = emaFrom(x, fast, 2.0 / (fast + 1), seed);
+        return macdSignal(fastEma, slowEma, ema(diff(fastEma, slowEma), signal));
+    }
+
+    public static double[][] macdFix(double[] x, int signal) {
+        int seed = begin(x) + 26 - 1;
+        double[] slowEma = emaFrom(x, 26, 0.075, seed);
+        double[] fastEma = emaFrom(x, 12, 0.15, seed);
+        return macdSignal(fastEma, slowEma, ema(diff(fastEma, slowEma), signal));
+    }
+
+    public static double[][] macdExt(double[] x, int fast, MaType fastType, int slow, MaType slowType, int signal, MaType signalType) {
+        double[] fastMa = ma(x, fast, fastType);
+        double[] slowMa = ma(x, slow, slowType);
+        double[] dif = diff(fastMa, slowMa);
+        return macdSignal(fastMa, slowMa, ma(mask(dif, Math.max(begin(fastMa), begin(slowMa))), signal, signalType));
+    }
+
+    private static double[][] macdSignal(double[] fastMa, double[] slowMa, double[] dea) {
+        double[] dif = diff(fastMa, slowMa);
+        double[] bar = nan(dif.length);
+        for (int i = 0; i < dif.length; i++) {
+            bar[i] = (dif[i] - dea[i]) * 2;
+        }
+        return align(dif, dea, bar);
+    }
+
+    public static double[] rsi(double[] x, int n) {
+        return wilderOscillator(x, n, false);
+    }
+
+    public static double[] cmo(double[] x, int n) {
+        return wilderOscillator(x, n, true);
+    }
+
+    private static double[] wilderOscillator(double[] x, int n, boolean cmo) {
+        double[] out = nan(x.length);
+        int b = begin(x);
+        if (b + n >= x.length) {
+            return out;
+        }
+        double gain = 0;
+        double loss = 0;
+        for (int i = b + 1; i <= b + n; i++) {
+            double change = x[i] - x[i - 1];
+            if (change > 0) {
+                gain += change;
+            } else {
+                loss -= change;
+            }
+        }
+        gain /= n;
+        loss /= n;
+        out[b + n] = oscillator(gain, loss, cmo);
+        for (int i = b + n + 1; i < x.length; i++) {
+            double change = x[i] - x[i - 1];
+            gain = (gain * (n - 1) + Math.max(change, 0)) / n;
+            loss = (loss * (n - 1) + Math.max(-change, 0)) / n;
+            out[i] = oscillator(gain, loss, cmo);
+        }
+        return out;
+    }
+
+    private static double oscillator(double gain, double loss, boolean cmo) {
+        double total = gain + loss;
+        if (total == 0) {
+            return 0;
+        }
+        return cmo ? 100 * (gain - loss) / total : 100 * gain / total;
+    }
+
+    public static double[] mom(double[] x, int n) {
+        return lag(x, n, (current, previous) -> current - previous);
+    }
+
+    public static double[] roc(double[] x, int n) {
+        return lag(x, n, (current, previous) -> previous == 0 ? 0 : (current / previous - 1) * 100);
+    }
+
+    public static double[] rocp(double[] x, int n) {
+        return lag(x, n, (current, previous) -> previous == 0 ? 0 : (current - previous) / previous);
+    }
+
+    public static double[] rocr(double[] x, int n) {
+        return lag(x, n, (current, previous) -> previous == 0 ? 0 : current / previous);
+    }
+
+    public static double[] rocr100(double[] x, int n) {
+        return lag(x, n, (current, previous) -> previous == 0 ? 0 : current / previous * 100);
+    }
+
+    private static double[] lag(double[] x, int n, DoubleBinaryOperator operator) {
+        double[] out = nan(x.length);
+        for (int i = begin(x) + n; i < x.length; i++) {
+            out[i] = operator.applyAsDouble(x[i], x[i - n]);
+        }
+        return out;
+    }
+
+    public static double[] apo(double[] x, int fast, int slow, MaType type) {
+        return diff(ma(x, fast, type), ma(x, slow, type));
+    }
+
+    public static double[] ppo(double[] x, int fast, int slow, MaType type) {
+        double[] fastMa = ma(x, fast, type);
+        double[] slowMa = ma(x, slow, type);
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            if (!Double.isNaN(fastMa[i]) && !Double.isNaN(slowMa[i])) {
+                out[i] = slowMa[i] == 0 ? 0 : (fastMa[i] - slowMa[i]) / slowMa[i] * 100;
+            }
+        }
+        return out;
+    }
+
+    public static double[] trix(double[] x, int n) {
+        double[] e3 = ema(ema(ema(x, n), n), n);
+        double[] out = rocp(e3, 1);
+        for (int i = 0; i < out.length; i++) {
+            out[i] *= 100;
+        }
+        return out;
+    }
+
+    public static double[] bop(double[] open, double[] high, double[] low, double[] close) {
+        double[] out = nan(close.length);
+        for (int i = 0; i < close.length; i++) {
+            double range = high[i] - low[i];
+            out[i] = range <= 0 ? 0 : (close[i] - open[i]) / range;
+        }
+        return out;
+    }
+
+    /**
+     * 平均偏差Σ|tp - mean| / n按均值拆成两部分：不大于均值的为mean * 个数 - 和，大于均值的为和 - mean * 个数。
+     * 窗口内的值按大小排序保存，均值以下部分的个数与和随窗口滑动增量调整，只需处理跨过均值的少数值，整体一次遍历完成
+     */
+    public static double[] cci(double[] high, double[] low, double[] close, int n) {
+        double[] tp = typPrice(high, low, close);
+        double[] out = nan(close.length);
+        int b = begin(tp);
+        //多留一个位置，先插入新值再移出旧值，求和顺序与sma一致
+        double[] sorted = new double[n + 1];
+        int size = 0;
+        double sum = 0;
+        //sorted中不大于mean的个数与和
+        double mean = Double.NEGATIVE_INFINITY;
+        int below = 0;
+        double belowSum = 0;
+        for (int i = b; i < tp.length; i++) {
+            int index = upperBound(sorted, size, tp[i]);
+            System.arraycopy(sorted, index, sorted, index + 1, size++ - index);
+            sorted[index] = tp[i];
+            sum += tp[i];
+            if (tp[i] <= mean) {
+                below++;
+                belowSum += tp[i];
+            }
+            if (size > n) {
+                double evicted = tp[i - n];
+                index = upperBound(sorted, size, evicted) - 1;
+                System.arraycopy(sorted, index + 1, sorted, index, --size - index);
+                sum -= evicted;
+                if (evicted <= mean) {
+                    below--;
+                    belowSum -= evicted;
+                }
+            }
+            if (size < n) {
+                continue;
+            }
+            mean = sum / n;
+            int k = upperBound(sorted, size, mean);
+            for (; below < k; below++) {
+                belowSum += sorted[below];
+            }
+            for (; below > k; below--) {
+                belowSum -= sorted[below - 1];
+            }
+            double deviation = (mean * below - belowSum + (sum - belowSum) - mean * (n - below)) / n;
+            //窗口内的值全部相同时，累加误差不应被当作偏差
+            out[i] = deviation <= 1e-12 * Math.abs(mean) ? 0 : (tp[i] - mean) / (0.015 * deviation);
+        }
+        return out;
+    }
+
+    /**
+     * sorted的前size个值中不大于value的个数
+     */
+    private static int upperBound(double[] sorted, int size, double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public static double[] willR(double[] high, double[] low, double[] close, int n) {
+        double[] highest = max(high, n);
+        double[] lowest = min(low, n);
+        double[] out = nan(close.length);
+        for (int i = n - 1; i < close.length; i++) {
+            double range = highest[i] - lowest[i];
+            out[i] = range == 0 ? 0 : (highest[i] - close[i]) / range * -100;
+        }
+        return out;
+    }
+
+    public static double[] mfi(double[] high, double[] low, double[] close, double[] volume, int n) {
+        double[] tp = typPrice(high, low, close);
+        double[] out = nan(close.length);
+        double positive = 0;
+        double negative = 0;
+        double[] positiveFlow = new double[close.length];
+        double[] negativeFlow = new double[close.length];
+        for (int i = 1; i < close.length; i++) {
+            double flow = tp[i] * volume[i];
+            if (tp[i] > tp[i - 1]) {
+                positiveFlow[i] = flow;
+            } else if (tp[i] < tp[i - 1]) {
+                negativeFlow[i] = flow;
+            }
+            positive += positiveFlow[i];
+            negative += negativeFlow[i];
+            if (i > n) {
+                positive -= positiveFlow[i - n];
+                negative -= negativeFlow[i - n];
+            }
+            if (i >= n) {
+                double total = positive + negative;
+                out[i] = total < 1 ? 0 : 100 * positive / total;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return [K, D]
+     */
+    public static double[][] stoch(double[] high, double[] low, double[] close, int fastK, int slowK, MaType slowKType, int slowD, MaType slowDType) {
+        double[] k = ma(rawK(high, low, close, fastK), slowK, slowKType);
+        return align(k, ma(k, slowD, slowDType));
+    }
+
+    /**
+     * @return [K, D]
+     */
+    public static double[][] stochF(double[] high, double[] low, double[] close, int fastK, int fastD, MaType fastDType) {
+        double[] k = rawK(high, low, close, fastK);
+        return align(k, ma(k, fastD, fastDType));
+    }
+
+    /**
+     * @return [K, D]
+     */
+    public static double[][] stochRsi(double[] x, int n, int fastK, int fastD, MaType fastDType) {
+        double[] rsi = rsi(x, n);
+        return stochF(rsi, rsi, rsi, fastK, fastD, fastDType);
+    }
+
+    private static double[] rawK(double[] high, double[] low, double[] close, int n) {
+        double[] highest = max(high, n);
+        double[] lowest = min(low, n);
+        double[] out = nan(close.length);
+        for (int i = 0; i < close.length; i++) {
+            if (!Double.isNaN(highest[i]) && !Double.isNaN(lowest[i])) {
+                double range = highest[i] - lowest[i];
+                out[i] = range == 0 ? 0 : (close[i] - lowest[i]) / range * 100;
+            }
+        }
+        return out;
+    }
+
+    public static double[] ultOsc(double[] high, double[] low, double[] close, int n1, int n2, int n3) {
+        int[] periods = {n1, n2, n3};
+        Arrays.sort(periods);
+        double[] bp = nan(close.length);
+        double[] tr = nan(close.length);
+        for (int i = 1; i < close.length; i++) {
+            double trueLow = Math.min(low[i], close[i - 1]);
+            bp[i] = close[i] - trueLow;
+            tr[i] = Math.max(high[i], close[i - 1]) - trueLow;
+        }
+        double[][] averages = new double[3][];
+        for (int p = 0; p < 3; p++) {
+            double[] bpSum = sum(bp, periods[p]);
+            double[] trSum = sum(tr, periods[p]);
+            averages[p] = nan(close.length);
+            for (int i = 0; i < close.length; i++) {
+                averages[p][i] = trSum[i] == 0 ? 0 : bpSum[i] / trSum[i];
+            }
+        }
+        double[] out = nan(close.length);
+        for (int i = periods[2]; i < close.length; i++) {
+            out[i] = 100 * (4 * averages[0][i] + 2 * averages[1][i] + averages[2][i]) / 7;
+        }
+        return out;
+    }
+
+    /**
+     * @return [AROON DOWN, AROON UP]
+     */
+    public static double[][] aroon(double[] high, double[] low, int n) {
+        double[] down = nan(high.length);
+        double[] up = nan(high.length);
+        for (int i = n; i < high.length; i++) {
+            int highest = i - n;
+            int lowest = i - n;
+            for (int j = i - n + 1; j <= i; j++) {
+                if (high[j] >= high[highest]) {
+                    highest = j;
+                }
+                if (low[j] <= low[lowest]) {
+                    lowest = j;
+                }
+            }
+            up[i] = 100.0 * (n - (i - highest)) / n;
+            down[i] = 100.0 * (n - (i - lowest)) / n;
+        }
+        return new double[][]{down, up};
+    }
+
+    public static double[] aroonOsc(double[] high, double[] low, int n) {
+        double[][] aroon = aroon(high, low, n);
+        return diff(aroon[1], aroon[0]);
+    }
+
+    /* ---------------------------------------- 方向指标 ---------------------------------------- */
+
+    public static double[] plusDM(double[] high, double[] low, int n) {
+        return smoothedDM(high, low, n, true);
+    }
+
+    public static double[] minusDM(double[] high, double[] low, int n) {
+        return smoothedDM(high, low, n, false);
+    }
+
+    private static double[] smoothedDM(double[] high, double[] low, int n, boolean plus) {
+        double[] dm = dm(high, low, plus);
+        double[] out = nan(high.length);
+        if (n <= 1) {
+            System.arraycopy(dm, 1, out, 1, Math.max(0, high.length - 1));
+            return out;
+        }
+        double sum = 0;
+        for (int i = 1; i < high.length; i++) {
+            if (i < n) {
+                sum += dm[i];
+                if (i == n - 1) {
+                    out[i] = sum;
+                }
+            } else {
+                sum = sum - sum / n + dm[i];
+                out[i] = sum;
+            }
+        }
+        return out;
+    }
+
+    public static double[] plusDI(double[] high, double[] low, double[] close, int n) {
+        return directional(high, low, close, n)[0];
+    }
+
+    public static double[] minusDI(double[] high, double[] low, double[] close, int n) {
+        return directional(high, low, close, n)[1];
+    }
+
+    public static double[] dx(double[] high, double[] low, double[] close, int n) {
+        return directional(high, low, close, n)[2];
+    }
+
+    public static double[] adx(double[] high, double[] low, double[] close, int n) {
+        double[] dx = dx(high, low, close, n);
+        double[] out = nan(close.length);
+        int first = 2 * n - 1;
+        if (first >= close.length) {
+            return out;
+        }
+        double prev = 0;
+        for (int i = n; i <= first; i++) {
+            prev += dx[i];
+        }
+        prev /= n;
+        out[first] = prev;
+        for (int i = first + 1; i < close.length; i++) {
+            prev = (prev * (n - 1) + dx[i]) / n;
+            out[i] = prev;
+        }
+        return out;
+    }
+
+    public static double[] adxr(double[] high, double[] low, double[] close, int n) {
+        double[] adx = adx(high, low, close, n);
+        double[] out = nan(close.length);
+        for (int i = 3 * n - 2; i < close.length; i++) {
+            out[i] = (adx[i] + adx[i - (n - 1)]) / 2;
+        }
+        return out;
+    }
+
+    /**
+     * @return [+DI, -DI, DX]
+     */
+    private static double[][] directional(double[] high, double[] low, double[] close, int n) {
+        double[] plus = dm(high, low, true);
+        double[] minus = dm(high, low, false);
+        double[] tr = trueRange(high, low, close);
+        double[] plusDI = nan(close.length);
+        double[] minusDI = nan(close.length);
+        double[] dx = nan(close.length);
+        double plusSum = 0;
+        double minusSum = 0;
+        double trSum = 0;
+        for (int i = 1; i < close.length; i++) {
+            if (i < n) {
+                plusSum += plus[i];
+                minusSum += minus[i];
+                trSum += tr[i];
+                continue;
+            }
+            plusSum = plusSum - plusSum / n + plus[i];
+            minusSum = minusSum - minusSum / n + minus[i];
+            trSum = trSum - trSum / n + tr[i];
+            if (trSum != 0) {
+                plusDI[i] = 100 * plusSum / trSum;
+                minusDI[i] = 100 * minusSum / trSum;
+                double total = plusDI[i] + minusDI[i];
+                dx[i] = total == 0 ? 0 : 100 * Math.abs(plusDI[i] - minusDI[i]) / total;
+            } else {
+                plusDI[i] = 0;
+                minusDI[i] = 0;
+                dx[i] = 0;
+            }
+        }
+        return new double[][]{plusDI, minusDI, dx};
+    }
+
+    private static double[] dm(double[] high, double[] low, boolean plus) {
+        double[] out = new double[high.length];
+        for (int i = 1; i < high.length; i++) {
+            double up = high[i] - high[i - 1];
+            double down = low[i - 1] - low[i];
+            if (plus) {
+                out[i] = up > 0 && up > down ? up : 0;
+            } else {
+                out[i] = down > 0 && down > up ? down : 0;
+            }
+        }
+        return out;
+    }
+
+    public static double[] sar(double[] high, double[] low, double acceleration, double maximum) {
+        double[] out = nan(high.length);
+        if (high.length < 2) {
+            return out;
+        }
+        double af = Math.min(acceleration, maximum);
+        double up = high[1] - high[0];
+        double down = low[0] - low[1];
+        boolean isLong = !(down > 0 && down > up);
+        double ep;
+        double sar;
+        if (isLong) {
+            ep = high[1];
+            sar = low[0];
+        } else {
+            ep = low[1];
+            sar = high[0];
+        }
+        double newHigh = high[1];
+        double newLow = low[1];
+        for (int today = 1; today < high.length; today++) {
+            double prevLow = newLow;
+            double prevHigh = newHigh;
+            newLow = low[today];
+            newHigh = high[today];
+            if (isLong) {
+                if (newLow <= sar) {
+                    isLong = false;
+                    sar = Math.max(ep, Math.max(prevHigh, newHigh));
+                    out[today] = sar;
+                    af = Math.min(acceleration, maximum);
+                    ep = newLow;
+                    sar = Math.max(sar + af * (ep - sar), Math.max(prevHigh, newHigh));
+                } else {
+                    out[today] = sar;
+                    if (newHigh > ep) {
+                        ep = newHigh;
+                        af = Math.min(af + acceleration, maximum);
+                    }
+                    sar = Math.min(sar + af * (ep - sar), Math.min(prevLow, newLow));
+                }
+            } else {
+                if (newHigh >= sar) {
+                    isLong = true;
+                    sar = Math.min(ep, Math.min(prevLow, newLow));
+                    out[today] = sar;
+                    af = Math.min(acceleration, maximum);
+                    ep = newHigh;
+                    sar = Math.min(sar + af * (ep - sar), Math.min(prevLow, newLow));
+                } else {
+                    out[today] = sar;
+                    if (newLow < ep) {
+                        ep = newLow;
+                        af = Math.min(af + acceleration, maximum);
+                    }
+                    sar = Math.max(sar + af * (ep - sar), Math.max(prevHigh, newHigh));
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 扩展的抛物线指标，多头与空头分别使用各自的加速因子，反转时可按比例偏移。多头时输出正值，空头时输出负值
+     *
+     * @param startValue      起始值，0表示根据前两根K线自动判断方向，大于0表示以该值为停损点开始做多，小于0表示以其绝对值为停损点开始做空
+     * @param offsetOnReverse 反转时停损点的偏移比例
+     */
+    public static double[] sarExt(double[] high, double[] low, double startValue, double offsetOnReverse,
+                                  double afInitLong, double afLong, double afMaxLong,
+                                  double afInitShort, double afShort, double afMaxShort) {
+        double[] out = nan(high.length);
+        if (high.length < 2) {
+            return out;
+        }
+        afInitLong = Math.min(afInitLong, afMaxLong);
+        afLong = Math.min(afLong, afMaxLong);
+        afInitShort = Math.min(afInitShort, afMaxShort);
+        afShort = Math.min(afShort, afMaxShort);
+        double accelerationLong = afInitLong;
+        double accelerationShort = afInitShort;
+        boolean isLong;
+        if (startValue == 0) {
+            double up = high[1] - high[0];
+            double down = low[0] - low[1];
+            isLong = !(down > 0 && down > up);
+        } else {
+            isLong = startValue > 0;
+        }
+        double ep = isLong ? high[1] : low[1];
+        double sar;
+        if (startValue == 0) {
+            sar = isLong ? low[0] : high[0];
+        } else {
+            sar = Math.abs(startValue);
+        }
+        double newHigh = high[1];
+        double newLow = low[1];
+        for (int today = 1; today < high.length; today++) {
+            double prevLow = newLow;
+            double prevHigh = newHigh;
+            newLow = low[today];
+            newHigh = high[today];
+            if (isLong) {
+                if (newLow <= sar) {
+                    isLong = false;
+                    sar = Math.max(ep, Math.max(prevHigh, newHigh));
+                    sar += sar * offsetOnReverse;
+                    out[today] = -sar;
+                    accelerationShort = afInitShort;
+                    ep = newLow;
+                    sar = Math.max(sar + accelerationShort * (ep - sar), Math.max(prevHigh, newHigh));
+                } else {
+                    out[today] = sar;
+                    if (newHigh > ep) {
+                        ep = newHigh;
+                        accelerationLong = Math.min(accelerationLong + afLong, afMaxLong);
+                    }
+                    sar = Math.min(sar + accelerationLong * (ep - sar), Math.min(prevLow, newLow));
+                }
+            } else {
+                if (newHigh >= sar) {
+                    isLong = true;
+                    sar = Math.min(ep, Math.min(prevLow, newLow));
+                    sar -= sar * offsetOnReverse;
+                    out[today] = sar;
+                    accelerationLong = afInitLong;
+                    ep = newHigh;
+                    sar = Math.min(sar + accelerationLong * (ep - sar), Math.min(prevLow, newLow));
+                } else {
+                    out[today] = -sar;
+                    if (newLow < ep) {
+                        ep = newLow;
+                        accelerationShort = Math.min(accelerationShort + afShort, afMaxShort);
+                    }
+                    sar = Math.max(sar + accelerationShort * (ep - sar), Math.max(prevHigh, newHigh));
+                }
+            }
+        }
+        return out;
+    }
+
+    /* ---------------------------------------- 周期指标 ---------------------------------------- */
+
+    public static double[] htDcPeriod(double[] x) {
+        return hilbert(x, HilbertTransform.SHORT_LOOKBACK, HilbertTransform::smoothPeriod, null)[0];
+    }
+
+    public static double[] htDcPhase(double[] x) {
+        return hilbert(x, HilbertTransform.LONG_LOOKBACK, HilbertTransform::dcPhase, null)[0];
+    }
+
+    /**
+     * @return [同相分量, 正交分量]
+     */
+    public static double[][] htPhasor(double[] x) {
+        return hilbert(x, HilbertTransform.SHORT_LOOKBACK, HilbertTransform::inPhase, HilbertTransform::quadrature);
+    }
+
+    /**
+     * @return [正弦波, 超前正弦波]
+     */
+    public static double[][] htSine(double[] x) {
+        return hilbert(x, HilbertTransform.LONG_LOOKBACK, HilbertTransform::sine, HilbertTransform::leadSine);
+    }
+
+    /**
+     * @return 1为趋势，0为周期
+     */
+    public static double[] htTrendMode(double[] x) {
+        return hilbert(x, HilbertTransform.LONG_LOOKBACK, HilbertTransform::trendMode, null)[0];
+    }
+
+    public static double[] htTrendline(double[] x) {
+        return hilbert(x, HilbertTransform.LONG_LOOKBACK, HilbertTransform::trendline, null)[0];
+    }
+
+    private static double[][] hilbert(double[] x, int lookback, ToDoubleFunction<HilbertTransform> first, ToDoubleFunction<HilbertTransform> second) {
+        double[] out1 = nan(x.length);
+        double[] out2 = nan(x.length);
+        HilbertTransform transform = new HilbertTransform(lookback);
+        for (int i = begin(x); i < x.length; i++) {
+            transform.update(x[i]);
+            if (transform.ready()) {
+                out1[i] = first.applyAsDouble(transform);
+                if (second != null) {
+                    out2[i] = second.applyAsDouble(transform);
+                }
+            }
+        }
+        return new double[][]{out1, out2};
+    }
+
+    /* ---------------------------------------- 成交量指标 ---------------------------------------- */
+
+    public static double[] obv(double[] x, double[] volume) {
+        double[] out = nan(x.length);
+        if (x.length == 0) {
+            return out;
+        }
+        double prev = volume[0];
+        out[0] = prev;
+        for (int i = 1; i < x.length; i++) {
+            if (x[i] > x[i - 1]) {
+                prev += volume[i];
+            } else if (x[i] < x[i - 1]) {
+                prev -= volume[i];
+            }
+            out[i] = prev;
+        }
+        return out;
+    }
+
+    public static double[] ad(double[] high, double[] low, double[] close, double[] volume) {
+        double[] out = nan(close.length);
+        double ad = 0;
+        for (int i = 0; i < close.length; i++) {
+            double range = high[i] - low[i];
+            if (range > 0) {
+                ad += ((close[i] - low[i]) - (high[i] - close[i])) / range * volume[i];
+            }
+            out[i] = ad;
+        }
+        return out;
+    }
+
+    public static double[] adOsc(double[] high, double[] low, double[] close, double[] volume, int fast, int slow) {
+        double[] ad = ad(high, low, close, volume);
+        double[] out = nan(close.length);
+        if (close.length == 0) {
+            return out;
+        }
+        double fastK = 2.0 / (fast + 1);
+        double slowK = 2.0 / (slow + 1);
+        double fastEma = ad[0];
+        double slowEma = ad[0];
+        int lookback = Math.max(fast, slow) - 1;
+        for (int i = 1; i < close.length; i++) {
+            fastEma += fastK * (ad[i] - fastEma);
+            slowEma += slowK * (ad[i] - slowEma);
+            if (i >= lookback) {
+                out[i] = fastEma - slowEma;
+            }
+        }
+        return out;
+    }
+
+    /* ---------------------------------------- 波动率指标 ---------------------------------------- */
+
+    public static double[] trueRange(double[] high, double[] low, double[] close) {
+        double[] out = nan(close.length);
+        for (int i = 1; i < close.length; i++) {
+            out[i] = Math.max(high[i] - low[i], Math.max(Math.abs(high[i] - close[i - 1]), Math.abs(low[i] - close[i - 1])));
+        }
+        return out;
+    }
+
+    public static double[] atr(double[] high, double[] low, double[] close, int n) {
+        double[] tr = trueRange(high, low, close);
+        double[] out = nan(close.length);
+        if (n <= 1) {
+            return tr;
+        }
+        if (n >= close.length) {
+            return out;
+        }
+        double prev = 0;
+        for (int i = 1; i <= n; i++) {
+            prev += tr[i];
+        }
+        prev /= n;
+        out[n] = prev;
+        for (int i = n + 1; i < close.length; i++) {
+            prev = (prev * (n - 1) + tr[i]) / n;
+            out[i] = prev;
+        }
+        return out;
+    }
+
+    public static double[] natr(double[] high, double[] low, double[] close, int n) {
+        double[] out = atr(high, low, close, n);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = close[i] == 0 ? 0 : out[i] / close[i] * 100;
+        }
+        return out;
+    }
+
+    /**
+     * @return [上轨, 中轨, 下轨]
+     */
+    public static double[][] bbands(double[] x, int n, double up, double down, MaType type) {
+        double[] middle = ma(x, n, type);
+        double[] std = stdDev(x, n, 1);
+        double[] upper = nan(x.length);
+        double[] lower = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            upper[i] = middle[i] + up * std[i];
+            lower[i] = middle[i] - down * std[i];
+        }
+        return align(upper, middle, lower);
+    }
+
+    public static double[] variance(double[] x, int n) {
+        double[] out = nan(x.length);
+        int b = begin(x);
+        double sum = 0;
+        double squares = 0;
+        for (int i = b; i < x.length; i++) {
+            sum += x[i];
+            squares += x[i] * x[i];
+            if (i - b >= n) {
+                sum -= x[i - n];
+                squares -= x[i - n] * x[i - n];
+            }
+            if (i - b >= n - 1) {
+                double mean = sum / n;
+                out[i] = Math.max(0, squares / n - mean * mean);
+            }
+        }
+        return out;
+    }
+
+    public static double[] stdDev(double[] x, int n, double nbDev) {
+        double[] out = variance(x, n);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = Math.sqrt(out[i]) * nbDev;
+        }
+        return out;
+    }
+
+    /* ---------------------------------------- 价格变换 ---------------------------------------- */
+
+    public static double[] avgPrice(double[] open, double[] high, double[] low, double[] close) {
+        double[] out = new double[close.length];
+        for (int i = 0; i < close.length; i++) {
+            out[i] = (open[i] + high[i] + low[i] + close[i]) / 4;
+        }
+        return out;
+    }
+
+    public static double[] medPrice(double[] high, double[] low) {
+        double[] out = new double[high.length];
+        for (int i = 0; i < high.length; i++) {
+            out[i] = (high[i] + low[i]) / 2;
+        }
+        return out;
+    }
+
+    public static double[] typPrice(double[] high, double[] low, double[] close) {
+        double[] out = new double[close.length];
+        for (int i = 0; i < close.length; i++) {
+            out[i] = (high[i] + low[i] + close[i]) / 3;
+        }
+        return out;
+    }
+
+    public static double[] wclPrice(double[] high, double[] low, double[] close) {
+        double[] out = new double[close.length];
+        for (int i = 0; i < close.length; i++) {
+            out[i] = (high[i] + low[i] + 2 * close[i]) / 4;
+        }
+        return out;
+    }
+
+    /* ---------------------------------------- 统计函数 ---------------------------------------- */
+
+    public static double[] sum(double[] x, int n) {
+        double[] out = sma(x, n);
+        for (int i = 0; i < out.length; i++) {
+            out[i] *= n;
+        }
+        return out;
+    }
+
+    public static double[] max(double[] x, int n) {
+        return extremeValue(x, n, true);
+    }
+
+    public static double[] min(double[] x, int n) {
+        return extremeValue(x, n, false);
+    }
+
+    public static double[] maxIndex(double[] x, int n) {
+        return extremeIndex(x, n, true);
+    }
+
+    public static double[] minIndex(double[] x, int n) {
+        return extremeIndex(x, n, false);
+    }
+
+    private static double[] extremeValue(double[] x, int n, boolean max) {
+        double[] index = extremeIndex(x, n, max);
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            if (!Double.isNaN(index[i])) {
+                out[i] = x[(int) index[i]];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 滑动窗口内最大（小）值的下标，单调队列实现，O(n)
+     */
+    private static double[] extremeIndex(double[] x, int n, boolean max) {
+        double[] out = nan(x.length);
+        int b = begin(x);
+        int[] deque = new int[x.length];
+        int head = 0;
+        int tail = 0;
+        for (int i = b; i < x.length; i++) {
+            while (tail > head && (max ? x[deque[tail - 1]] <= x[i] : x[deque[tail - 1]] >= x[i])) {
+                tail--;
+            }
+            deque[tail++] = i;
+            if (deque[head] <= i - n) {
+                head++;
+            }
+            if (i - b >= n - 1) {
+                out[i] = deque[head];
+            }
+        }
+        return out;
+    }
+
+    public static double[] midPoint(double[] x, int n) {
+        double[] highest = max(x, n);
+        double[] lowest = min(x, n);
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            out[i] = (highest[i] + lowest[i]) / 2;
+        }
+        return out;
+    }
+
+    public static double[] midPrice(double[] high, double[] low, int n) {
+        double[] highest = max(high, n);
+        double[] lowest = min(low, n);
+        double[] out = nan(high.length);
+        for (int i = 0; i < high.length; i++) {
+            out[i] = (highest[i] + lowest[i]) / 2;
+        }
+        return out;
+    }
+
+    /**
+     * 线性回归，返回[斜率, 截距]，截距为窗口内第一个点处的值
+     */
+    private static double[][] regression(double[] x, int n) {
+        double[] slope = nan(x.length);
+        double[] intercept = nan(x.length);
+        int b = begin(x);
+        double sumX = n * (n - 1) / 2.0;
+        double sumXX = n * (n - 1) * (2 * n - 1) / 6.0;
+        double divisor = n * sumXX - sumX * sumX;
+        double sumY = 0;
+        double sumXY = 0;
+        for (int i = b; i < x.length; i++) {
+            if (i - b < n) {
+                sumXY += (i - b) * x[i];
+                sumY += x[i];
+            } else {
+                double out = x[i - n];
+                sumXY = sumXY - (sumY - out) + (n - 1) * x[i];
+                sumY = sumY - out + x[i];
+            }
+            if (i - b >= n - 1) {
+                double m = divisor == 0 ? 0 : (n * sumXY - sumX * sumY) / divisor;
+                slope[i] = m;
+                intercept[i] = (sumY - m * sumX) / n;
+            }
+        }
+        return new double[][]{slope, intercept};
+    }
+
+    public static double[] linearReg(double[] x, int n) {
+        double[][] regression = regression(x, n);
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            out[i] = regression[1][i] + regression[0][i] * (n - 1);
+        }
+        return out;
+    }
+
+    public static double[] linearRegSlope(double[] x, int n) {
+        return regression(x, n)[0];
+    }
+
+    public static double[] linearRegIntercept(double[] x, int n) {
+        return regression(x, n)[1];
+    }
+
+    public static double[] linearRegAngle(double[] x, int n) {
+        double[] out = regression(x, n)[0];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = Math.atan(out[i]) * 180 / Math.PI;
+        }
+        return out;
+    }
+
+    public static double[] tsf(double[] x, int n) {
+        double[][] regression = regression(x, n);
+        double[] out = nan(x.length);
+        for (int i = 0; i < x.length; i++) {
+            out[i] = regression[1][i] + regression[0][i] * n;
+        }
+        return out;
+    }
+
+    /**
+     * x相对于y的贝塔系数，基于收益率计算
+     */
+    public static double[] beta(double[] x, double[] y, int n) {
+        double[] out = nan(x.length);
+        double sx = 0;
+        double sy = 0;
+        double sxx = 0;
+        double sxy = 0;
+        double[] rx = new double[x.length];
+        double[] ry = new double[x.length];
+        for (int i = 1; i < x.length; i++) {
+            rx[i] = x[i - 1] == 0 ? 0 : (x[i] - x[i - 1]) / x[i - 1];
+            ry[i] = y[i - 1] == 0 ? 0 : (y[i] - y[i - 1]) / y[i - 1];
+            sx += rx[i];
+            sy += ry[i];
+            sxx += rx[i] * rx[i];
+            sxy += rx[i] * ry[i];
+            if (i > n) {
+                sx -= rx[i - n];
+                sy -= ry[i - n];
+                sxx -= rx[i - n] * rx[i - n];
+                sxy -= rx[i - n] * ry[i - n];
+            }
+            if (i >= n) {
+                double divisor = n * sxx - sx * sx;
+                out[i] = divisor == 0 ? 0 : (n * sxy - sx * sy) / divisor;
+            }
+        }
+        return out;
+    }
+
+    public static double[] correl(double[] x, double[] y, int n) {
+        double[] out = nan(x.length);
+        double sx = 0;
+        double sy = 0;
+        double sxx = 0;
+        double syy = 0;
+        double sxy = 0;
+        for (int i = 0; i < x.length; i++) {
+            sx += x[i];
+            sy += y[i];
+            sxx += x[i] * x[i];
+            syy += y[i] * y[i];
+            sxy += x[i] * y[i];
+            if (i >= n) {
+                sx -= x[i - n];
+                sy -= y[i - n];
+                sxx -= x[i - n] * x[i - n];
+                syy -= y[i - n] * y[i - n];
+                sxy -= x[i - n] * y[i - n];
+            }
+            if (i >= n - 1) {
+                double divisor = (sxx - sx * sx / n) * (syy - sy * sy / n);
+                out[i] = divisor <= 0 ? 0 : (sxy - sx * sy / n) / Math.sqrt(divisor);
+            }
+        }
+        return out;
+    }
+
+    /* ---------------------------------------- 数学变换与运算 ---------------------------------------- */
+
+    public static double[] map(double[] x, DoubleUnaryOperator operator) {
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = operator.applyAsDouble(x[i]);
+        }
+        return out;
+    }
+
+    public static double[] map(double[] x, double[] y, DoubleBinaryOperator operator) {
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = operator.applyAsDouble(x[i], y[i]);
+        }
+        return out;
+    }
+
+    /* ---------------------------------------- 工具方法 ---------------------------------------- */
+
+    static double[] nan(int length) {
+        double[] out = new double[length];
+        Arrays.fill(out, Double.NaN);
+        return out;
+    }
+
+    /**
+     * 第一个非NaN值的下标，全部为NaN时返回数组长度
+     */
+    static int begin(double[] x) {
+        int i = 0;
+        while (i < x.length && Double.isNaN(x[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static double[] diff(double[] x, double[] y) {
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = x[i] - y[i];
+        }
+        return out;
+    }
+
+    private static double[] mask(double[] x, int begin) {
+        for (int i = 0; i < Math.min(begin, x.length); i++) {
+            x[i] = Double.NaN;
+        }
+        return x;
+    }
+
+    /**
+     * 多个输出对齐到同一个起始位置，与TA-Lib多输出指标的行为一致
+     */
+    private static double[][] align(double[]... outputs) {
+        int begin = 0;
+        for (double[] output : outputs) {
+            begin = Math.max(begin, begin(output));
+        }
+        for (double[] output : outputs) {
+            mask(output, begin);
+        }
+        return outputs;
+    }
+}
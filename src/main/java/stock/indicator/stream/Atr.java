@@ -0,0 +1,46 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 平均真实波幅，威尔德平滑
+ */
+public class Atr implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private int count;
+    private double prevClose;
+    private double sum;
+    private double value = Double.NaN;
+
+    public Atr(int period) {
+        this.period = period;
+    }
+
+    /**
+     * 追加一根K线
+     *
+     * @return 最新的ATR值，数据不足时返回NaN
+     */
+    public double update(double high, double low, double close) {
+        if (count > 0) {
+            double tr = Math.max(high - low, Math.max(Math.abs(high - prevClose), Math.abs(low - prevClose)));
+            if (period <= 1) {
+                value = tr;
+            } else if (count < period) {
+                sum += tr;
+            } else if (count == period) {
+                value = (sum + tr) / period;
+            } else {
+                value = (value * (period - 1) + tr) / period;
+            }
+        }
+        prevClose = close;
+        count++;
+        return value;
+    }
+
+    public double value() {
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package stock.indicator.stream;
+
+import constant.MaType;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 布林带，上下轨与中轨对齐输出
+ */
+public class Bbands implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final double up;
+    private final double down;
+    private final MovingAverage ma;
+    private final StdDev stdDev;
+    //上轨
+    @Getter
+    private double upper = Double.NaN;
+    //中轨
+    @Getter
+    private double middle = Double.NaN;
+    //下轨
+    @Getter
+    private double lower = Double.NaN;
+
+    public Bbands(int period, double up, double down, MaType type) {
+        this.up = up;
+        this.down = down;
+        this.ma = MovingAverage.of(type, period);
+        this.stdDev = new StdDev(period, 1);
+    }
+
+    /**
+     * 追加一个值
+     *
+     * @return 最新的中轨值，数据不足时返回NaN
+     */
+    public double update(double x) {
+        double m = ma.update(x);
+        double std = stdDev.update(x);
+        if (!Double.isNaN(m) && !Double.isNaN(std)) {
+            middle = m;
+            upper = m + up * std;
+            lower = m - down * std;
+        }
+        return middle;
+    }
+}
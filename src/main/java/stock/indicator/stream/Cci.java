@@ -0,0 +1,96 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 顺势指标，窗口内的值另按大小排序保存，平均偏差按均值拆成两部分增量计算，每次更新只需二分查找和移动数组
+ */
+public class Cci implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private final Window window;
+    //窗口内的值按大小排序，多留一个位置用于先插入再移出
+    private final double[] sorted;
+    private int size;
+    private double sum;
+    //sorted中不大于mean的个数与和
+    private double mean = Double.NEGATIVE_INFINITY;
+    private int below;
+    private double belowSum;
+    private double value = Double.NaN;
+
+    public Cci(int period) {
+        this.period = period;
+        this.window = new Window(period);
+        this.sorted = new double[period + 1];
+    }
+
+    /**
+     * 追加一根K线
+     *
+     * @return 最新的CCI值，数据不足时返回NaN
+     */
+    public double update(double high, double low, double close) {
+        double tp = (high + low + close) / 3;
+        double evicted = window.push(tp);
+        insert(tp);
+        sum += tp;
+        if (!Double.isNaN(evicted)) {
+            remove(evicted);
+            sum -= evicted;
+        }
+        if (!window.isFull()) {
+            return value;
+        }
+        mean = sum / period;
+        int k = upperBound(mean);
+        for (; below < k; below++) {
+            belowSum += sorted[below];
+        }
+        for (; below > k; below--) {
+            belowSum -= sorted[below - 1];
+        }
+        double deviation = (mean * below - belowSum + (sum - belowSum) - mean * (period - below)) / period;
+        //窗口内的值全部相同时，累加误差不应被当作偏差
+        value = deviation <= 1e-12 * Math.abs(mean) ? 0 : (tp - mean) / (0.015 * deviation);
+        return value;
+    }
+
+    public double value() {
+        return value;
+    }
+
+    private void insert(double tp) {
+        int index = upperBound(tp);
+        System.arraycopy(sorted, index, sorted, index + 1, size++ - index);
+        sorted[index] = tp;
+        if (tp <= mean) {
+            below++;
+            belowSum += tp;
+        }
+    }
+
+    private void remove(double tp) {
+        int index = upperBound(tp) - 1;
+        System.arraycopy(sorted, index + 1, sorted, index, --size - index);
+        if (tp <= mean) {
+            below--;
+            belowSum -= tp;
+        }
+    }
+
+    //sorted中不大于value的个数
+    private int upperBound(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,30 @@
+package stock.indicator.stream;
+
+/**
+ * 双指数移动平均线，DEMA = 2 * EMA - EMA(EMA)
+ */
+public class Dema implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private final Ema ema1;
+    private final Ema ema2;
+    private double value = Double.NaN;
+
+    public Dema(int period) {
+        this.ema1 = new Ema(period);
+        this.ema2 = new Ema(period);
+    }
+
+    @Override
+    public double update(double x) {
+        double e1 = ema1.update(x);
+        if (!Double.isNaN(e1)) {
+            value = 2 * e1 - ema2.update(e1);
+        }
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
@@ -0,0 +1,41 @@
+package stock.indicator.stream;
+
+/**
+ * 指数移动平均线，以前period个值的简单平均作为初值
+ */
+public class Ema implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private final double k;
+    private int count;
+    private double sum;
+    private double value = Double.NaN;
+
+    public Ema(int period) {
+        this(period, 2.0 / (period + 1));
+    }
+
+    public Ema(int period, double k) {
+        this.period = period;
+        this.k = k;
+    }
+
+    @Override
+    public double update(double x) {
+        if (count < period) {
+            sum += x;
+            count++;
+            if (count == period) {
+                value = sum / period;
+            }
+        } else {
+            value += k * (x - value);
+        }
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
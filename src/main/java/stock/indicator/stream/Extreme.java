@@ -0,0 +1,50 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 滑动窗口最大（小）值，单调队列实现，均摊O(1)
+ */
+class Extreme implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private final boolean max;
+    private final long[] indexes;
+    private final double[] values;
+    private int head;
+    private int size;
+    private long count;
+
+    Extreme(int period, boolean max) {
+        this.period = period;
+        this.max = max;
+        this.indexes = new long[period];
+        this.values = new double[period];
+    }
+
+    /**
+     * 追加一个值
+     *
+     * @return 窗口内的最大（小）值，不足一个周期时返回NaN
+     */
+    double update(double value) {
+        while (size > 0) {
+            double last = values[(head + size - 1) % period];
+            if (max ? last <= value : last >= value) {
+                size--;
+            } else {
+                break;
+            }
+        }
+        if (size > 0 && indexes[head] <= count - period) {
+            head = (head + 1) % period;
+            size--;
+        }
+        int tail = (head + size) % period;
+        indexes[tail] = count;
+        values[tail] = value;
+        size++;
+        count++;
+        return count >= period ? values[head] : Double.NaN;
+    }
+}
@@ -0,0 +1,336 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 希尔伯特变换，逐个追加价格，计算主导周期、主导周期相位、同相/正交分量、正弦波、趋势线与趋势模式，算法与TA-Lib的HT_*系列指标一致。
+ * 价格先经过4周期加权移动平均平滑，预热的长度由回看期决定，预热长度不同，结果也略有不同：
+ * HT_DCPERIOD、HT_PHASOR、MAMA的回看期为32，HT_DCPHASE、HT_SINE、HT_TRENDLINE、HT_TRENDMODE的回看期为63。
+ */
+public class HilbertTransform implements Serializable {
+    private static final long serialVersionUID = 1L;
+    public static final int SHORT_LOOKBACK = 32;
+    public static final int LONG_LOOKBACK = 63;
+    private static final double RAD2DEG = 180.0 / Math.PI;
+    private static final double DEG2RAD = Math.PI / 180.0;
+    private static final int SMOOTH_PRICE_SIZE = 50;
+
+    private final int lookback;
+    //开始希尔伯特变换的位置，此前只计算加权移动平均
+    private final int warmup;
+    //已追加的值的数量
+    private int count;
+    //最近的价格，用于加权移动平均与趋势线
+    private final Window prices = new Window(SMOOTH_PRICE_SIZE);
+    private double wmaSub;
+    private double wmaSum;
+    private double trailingValue;
+
+    private final Filter detrender = new Filter();
+    private final Filter q1 = new Filter();
+    private final Filter ji = new Filter();
+    private final Filter jq = new Filter();
+    private int hilbertIndex;
+    private double i1OddPrev2;
+    private double i1OddPrev3;
+    private double i1EvenPrev2;
+    private double i1EvenPrev3;
+    private double prevI2;
+    private double prevQ2;
+    private double re;
+    private double im;
+    private double period;
+    private double smoothPeriod;
+    private double inPhase;
+    private double quadrature;
+    private double phase;
+
+    //平滑后的价格，环形数组，与TA-Lib一致未填满的位置为0
+    private final double[] smoothPrice = new double[SMOOTH_PRICE_SIZE];
+    private int smoothPriceIndex;
+    private double dcPhase;
+    private double prevDcPhase;
+    private double sine;
+    private double prevSine;
+    private double leadSine;
+    private double prevLeadSine;
+    private double trend1;
+    private double trend2;
+    private double trend3;
+    private double trendline;
+    private int daysInTrend;
+    private int trendMode;
+
+    /**
+     * @param lookback 回看期，取值为SHORT_LOOKBACK或LONG_LOOKBACK
+     */
+    public HilbertTransform(int lookback) {
+        if (lookback != SHORT_LOOKBACK && lookback != LONG_LOOKBACK) {
+            throw new IllegalArgumentException("希尔伯特变换的回看期只能为32或63：" + lookback);
+        }
+        this.lookback = lookback;
+        this.warmup = lookback == SHORT_LOOKBACK ? 12 : 37;
+    }
+
+    /**
+     * 追加一个价格
+     *
+     * @return 是否执行了一次希尔伯特变换，预热期内返回false
+     */
+    public boolean update(double x) {
+        int today = count++;
+        prices.push(x);
+        if (today < 3) {
+            wmaSub += x;
+            wmaSum += x * (today + 1);
+            return false;
+        }
+        wmaSub += x - trailingValue;
+        wmaSum += x * 4;
+        trailingValue = prices.get(prices.size() - 4);
+        double smoothed = wmaSum * 0.1;
+        wmaSum -= wmaSub;
+        if (today < warmup) {
+            return false;
+        }
+        smoothPrice[smoothPriceIndex] = smoothed;
+        transform(today, smoothed);
+        cycle();
+        trend();
+        if (++smoothPriceIndex == SMOOTH_PRICE_SIZE) {
+            smoothPriceIndex = 0;
+        }
+        return true;
+    }
+
+    /**
+     * 计算同相/正交分量与主导周期，奇数位置与偶数位置分别使用各自的滤波器状态
+     */
+    private void transform(int today, double smoothed) {
+        double adjustedPrevPeriod = 0.075 * period + 0.54;
+        double q2;
+        double i2;
+        if (today % 2 == 0) {
+            double detrended = detrender.even(smoothed, hilbertIndex, adjustedPrevPeriod);
+            quadrature = q1.even(detrended, hilbertIndex, adjustedPrevPeriod);
+            double jiValue = ji.even(i1EvenPrev3, hilbertIndex, adjustedPrevPeriod);
+            double jqValue = jq.even(quadrature, hilbertIndex, adjustedPrevPeriod);
+            if (++hilbertIndex == 3) {
+                hilbertIndex = 0;
+            }
+            inPhase = i1EvenPrev3;
+            q2 = 0.2 * (quadrature + jiValue) + 0.8 * prevQ2;
+            i2 = 0.2 * (inPhase - jqValue) + 0.8 * prevI2;
+            i1OddPrev3 = i1OddPrev2;
+            i1OddPrev2 = detrended;
+        } else {
+            double detrended = detrender.odd(smoothed, hilbertIndex, adjustedPrevPeriod);
+            quadrature = q1.odd(detrended, hilbertIndex, adjustedPrevPeriod);
+            double jiValue = ji.odd(i1OddPrev3, hilbertIndex, adjustedPrevPeriod);
+            double jqValue = jq.odd(quadrature, hilbertIndex, adjustedPrevPeriod);
+            inPhase = i1OddPrev3;
+            q2 = 0.2 * (quadrature + jiValue) + 0.8 * prevQ2;
+            i2 = 0.2 * (inPhase - jqValue) + 0.8 * prevI2;
+            i1EvenPrev3 = i1EvenPrev2;
+            i1EvenPrev2 = detrended;
+        }
+        phase = inPhase != 0 ? Math.atan(quadrature / inPhase) * RAD2DEG : 0;
+        re = 0.2 * (i2 * prevI2 + q2 * prevQ2) + 0.8 * re;
+        im = 0.2 * (i2 * prevQ2 - q2 * prevI2) + 0.8 * im;
+        prevQ2 = q2;
+        prevI2 = i2;
+        double prevPeriod = period;
+        if (im != 0 && re != 0) {
+            period = 360.0 / (Math.atan(im / re) * RAD2DEG);
+        }
+        period = Math.min(period, 1.5 * prevPeriod);
+        period = Math.max(period, 0.67 * prevPeriod);
+        period = Math.min(Math.max(period, 6), 50);
+        period = 0.2 * period + 0.8 * prevPeriod;
+        smoothPeriod = 0.33 * period + 0.67 * smoothPeriod;
+    }
+
+    /**
+     * 计算主导周期相位与正弦波
+     */
+    private void cycle() {
+        prevDcPhase = dcPhase;
+        int dcPeriod = (int) (smoothPeriod + 0.5);
+        double realPart = 0;
+        double imagPart = 0;
+        int index = smoothPriceIndex;
+        for (int i = 0; i < dcPeriod; i++) {
+            double angle = i * 2 * Math.PI / dcPeriod;
+            realPart += Math.sin(angle) * smoothPrice[index];
+            imagPart += Math.cos(angle) * smoothPrice[index];
+            index = index == 0 ? SMOOTH_PRICE_SIZE - 1 : index - 1;
+        }
+        double abs = Math.abs(imagPart);
+        if (abs > 0) {
+            dcPhase = Math.atan(realPart / imagPart) * RAD2DEG;
+        } else if (abs <= 0.01) {
+            if (realPart < 0) {
+                dcPhase -= 90;
+            } else if (realPart > 0) {
+                dcPhase += 90;
+            }
+        }
+        dcPhase += 90;
+        //补偿加权移动平均的一根K线的滞后
+        dcPhase += 360 / smoothPeriod;
+        if (imagPart < 0) {
+            dcPhase += 180;
+        }
+        if (dcPhase > 315) {
+            dcPhase -= 360;
+        }
+        prevSine = sine;
+        prevLeadSine = leadSine;
+        sine = Math.sin(dcPhase * DEG2RAD);
+        leadSine = Math.sin((dcPhase + 45) * DEG2RAD);
+    }
+
+    /**
+     * 计算趋势线与趋势模式
+     */
+    private void trend() {
+        int dcPeriod = Math.min((int) (smoothPeriod + 0.5), prices.size());
+        double average = 0;
+        for (int i = 0; i < dcPeriod; i++) {
+            average += prices.get(prices.size() - 1 - i);
+        }
+        if (dcPeriod > 0) {
+            average /= dcPeriod;
+        }
+        trendline = (4 * average + 3 * trend1 + 2 * trend2 + trend3) / 10;
+        trend3 = trend2;
+        trend2 = trend1;
+        trend1 = average;
+
+        trendMode = 1;
+        if ((sine > leadSine && prevSine <= prevLeadSine) || (sine < leadSine && prevSine >= prevLeadSine)) {
+            daysInTrend = 0;
+            trendMode = 0;
+        }
+        daysInTrend++;
+        if (daysInTrend < 0.5 * smoothPeriod) {
+            trendMode = 0;
+        }
+        double delta = dcPhase - prevDcPhase;
+        if (smoothPeriod != 0 && delta > 0.67 * 360 / smoothPeriod && delta < 1.5 * 360 / smoothPeriod) {
+            trendMode = 0;
+        }
+        double price = smoothPrice[smoothPriceIndex];
+        if (trendline != 0 && Math.abs((price - trendline) / trendline) >= 0.015) {
+            trendMode = 1;
+        }
+    }
+
+    /**
+     * 是否已超过回看期，超过之后各项结果与TA-Lib的输出一致
+     */
+    public boolean ready() {
+        return count > lookback;
+    }
+
+    /**
+     * @return 平滑后的主导周期，HT_DCPERIOD
+     */
+    public double smoothPeriod() {
+        return smoothPeriod;
+    }
+
+    /**
+     * @return 主导周期相位，HT_DCPHASE
+     */
+    public double dcPhase() {
+        return dcPhase;
+    }
+
+    /**
+     * @return 同相分量，HT_PHASOR的第一个输出
+     */
+    public double inPhase() {
+        return inPhase;
+    }
+
+    /**
+     * @return 正交分量，HT_PHASOR的第二个输出
+     */
+    public double quadrature() {
+        return quadrature;
+    }
+
+    /**
+     * @return 同相/正交分量的相位（角度），MAMA据此计算自适应系数
+     */
+    public double phase() {
+        return phase;
+    }
+
+    /**
+     * @return 正弦波，HT_SINE的第一个输出
+     */
+    public double sine() {
+        return sine;
+    }
+
+    /**
+     * @return 超前45度的正弦波，HT_SINE的第二个输出
+     */
+    public double leadSine() {
+        return leadSine;
+    }
+
+    /**
+     * @return 瞬时趋势线，HT_TRENDLINE
+     */
+    public double trendline() {
+        return trendline;
+    }
+
+    /**
+     * @return 趋势模式，1为趋势，0为周期，HT_TRENDMODE
+     */
+    public int trendMode() {
+        return trendMode;
+    }
+
+    /**
+     * 希尔伯特变换的FIR滤波器，奇数位置与偶数位置各保存一组状态
+     */
+    private static final class Filter implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private static final double A = 0.0962;
+        private static final double B = 0.5769;
+
+        private final double[] odd = new double[3];
+        private final double[] even = new double[3];
+        private double prevOdd;
+        private double prevEven;
+        private double prevInputOdd;
+        private double prevInputEven;
+
+        double even(double input, int index, double adjustedPrevPeriod) {
+            double temp = A * input;
+            double value = temp - even[index];
+            even[index] = temp;
+            value -= prevEven;
+            prevEven = B * prevInputEven;
+            value += prevEven;
+            prevInputEven = input;
+            return value * adjustedPrevPeriod;
+        }
+
+        double odd(double input, int index, double adjustedPrevPeriod) {
+            double temp = A * input;
+            double value = temp - odd[index];
+            odd[index] = temp;
+            value -= prevOdd;
+            prevOdd = B * prevInputOdd;
+            value += prevOdd;
+            prevInputOdd = input;
+            return value * adjustedPrevPeriod;
+        }
+    }
+}
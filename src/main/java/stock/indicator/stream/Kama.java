@@ -0,0 +1,52 @@
+package stock.indicator.stream;
+
+/**
+ * 考夫曼自适应移动平均线，快速周期2，慢速周期30
+ */
+public class Kama implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private static final double FASTEST = 2.0 / (2 + 1);
+    private static final double SLOWEST = 2.0 / (30 + 1);
+
+    private final int period;
+    //最近period+2个值，用于计算方向与波动
+    private final Window window;
+    private double volatility;
+    private double value = Double.NaN;
+
+    public Kama(int period) {
+        this.period = period;
+        this.window = new Window(period + 2);
+    }
+
+    @Override
+    public double update(double x) {
+        int size = window.size();
+        if (size > 0) {
+            volatility += Math.abs(x - window.get(size - 1));
+        }
+        if (size == period + 1) {
+            volatility -= Math.abs(window.get(0) - window.get(1));
+        } else if (size == period + 2) {
+            volatility -= Math.abs(window.get(1) - window.get(2));
+        }
+        window.push(x);
+        size = window.size();
+        if (size < period + 1) {
+            return value;
+        }
+        double first = window.get(size - 1 - period);
+        if (Double.isNaN(value)) {
+            value = window.get(size - 2);
+        }
+        double er = volatility <= 0 ? 1 : Math.abs(x - first) / volatility;
+        double sc = er * (FASTEST - SLOWEST) + SLOWEST;
+        value += sc * sc * (x - value);
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
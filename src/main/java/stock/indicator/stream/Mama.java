@@ -0,0 +1,56 @@
+package stock.indicator.stream;
+
+/**
+ * MESA自适应移动平均线，根据希尔伯特变换得到的相位变化率调整平滑系数，value()为MAMA，fama()为跟随的FAMA。
+ * 作为移动平均线类型（8|MAMA）使用时，快速限制取0.5，慢速限制取0.05，与TA-Lib一致，周期参数不起作用
+ */
+public class Mama implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+
+    private final double fastLimit;
+    private final double slowLimit;
+    private final HilbertTransform transform = new HilbertTransform(HilbertTransform.SHORT_LOOKBACK);
+    private double mama;
+    private double fama;
+    private double prevPhase;
+    private double value = Double.NaN;
+    private double famaValue = Double.NaN;
+
+    public Mama() {
+        this(0.5, 0.05);
+    }
+
+    public Mama(double fastLimit, double slowLimit) {
+        this.fastLimit = fastLimit;
+        this.slowLimit = slowLimit;
+    }
+
+    @Override
+    public double update(double x) {
+        if (!transform.update(x)) {
+            return value;
+        }
+        double delta = Math.max(prevPhase - transform.phase(), 1);
+        prevPhase = transform.phase();
+        double alpha = delta > 1 ? Math.max(fastLimit / delta, slowLimit) : fastLimit;
+        mama = alpha * x + (1 - alpha) * mama;
+        fama = 0.5 * alpha * mama + (1 - 0.5 * alpha) * fama;
+        if (transform.ready()) {
+            value = mama;
+            famaValue = fama;
+        }
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+
+    /**
+     * @return 最近一次计算的FAMA
+     */
+    public double fama() {
+        return famaValue;
+    }
+}
@@ -0,0 +1,57 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 资金流量指标
+ */
+public class Mfi implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private final Window positive;
+    private final Window negative;
+    private int count;
+    private double prev;
+    private double positiveSum;
+    private double negativeSum;
+    private double value = Double.NaN;
+
+    public Mfi(int period) {
+        this.period = period;
+        this.positive = new Window(period);
+        this.negative = new Window(period);
+    }
+
+    /**
+     * 追加一根K线
+     *
+     * @return 最新的MFI值，数据不足时返回NaN
+     */
+    public double update(double high, double low, double close, double volume) {
+        double tp = (high + low + close) / 3;
+        if (count > 0) {
+            double flow = tp * volume;
+            double up = tp > prev ? flow : 0;
+            double down = tp < prev ? flow : 0;
+            positiveSum += up;
+            negativeSum += down;
+            double evictedUp = positive.push(up);
+            double evictedDown = negative.push(down);
+            if (!Double.isNaN(evictedUp)) {
+                positiveSum -= evictedUp;
+                negativeSum -= evictedDown;
+            }
+            if (count >= period) {
+                double total = positiveSum + negativeSum;
+                value = total < 1 ? 0 : 100 * positiveSum / total;
+            }
+        }
+        prev = tp;
+        count++;
+        return value;
+    }
+
+    public double value() {
+        return value;
+    }
+}
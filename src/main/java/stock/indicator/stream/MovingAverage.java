@@ -0,0 +1,51 @@
+package stock.indicator.stream;
+
+import constant.MaType;
+
+import java.io.Serializable;
+
+/**
+ * 增量计算的移动平均线，每追加一个值的计算量为O(1)，结果与TaLib的批量计算一致
+ */
+public interface MovingAverage extends Serializable {
+
+    /**
+     * 追加一个值
+     *
+     * @return 最新的移动平均值，数据不足一个回看期时返回NaN
+     */
+    double update(double value);
+
+    /**
+     * @return 最近一次计算的移动平均值
+     */
+    double value();
+
+    static MovingAverage of(MaType type, int period) {
+        if (period == 1) {
+            return new Sma(1);
+        }
+        switch (type) {
+            case SMA:
+                return new Sma(period);
+            case EMA:
+                return new Ema(period);
+            case WMA:
+                return new Wma(period);
+            case DEMA:
+                return new Dema(period);
+            case TEMA:
+                return new Tema(period);
+            case TRIMA:
+                return new Trima(period);
+            case KAMA:
+                return new Kama(period);
+            case MAMA:
+                return new Mama();
+            case T3:
+                return new T3(period, 0.7);
+            default:
+                throw new IllegalArgumentException("不支持的移动平均线类型：" + type);
+        }
+    }
+}
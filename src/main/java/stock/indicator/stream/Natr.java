@@ -0,0 +1,33 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 归一化平均真实波幅，NATR = ATR / 收盘价 * 100
+ */
+public class Natr implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final Atr atr;
+    private double value = Double.NaN;
+
+    public Natr(int period) {
+        this.atr = new Atr(period);
+    }
+
+    /**
+     * 追加一根K线
+     *
+     * @return 最新的NATR值，数据不足时返回NaN
+     */
+    public double update(double high, double low, double close) {
+        double a = atr.update(high, low, close);
+        if (!Double.isNaN(a)) {
+            value = close == 0 ? 0 : a / close * 100;
+        }
+        return value;
+    }
+
+    public double value() {
+        return value;
+    }
+}
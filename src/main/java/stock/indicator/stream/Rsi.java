@@ -0,0 +1,56 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 相对强弱指标，威尔德平滑
+ */
+public class Rsi implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private int count;
+    private double prev;
+    private double gain;
+    private double loss;
+    private double value = Double.NaN;
+
+    public Rsi(int period) {
+        this.period = period;
+    }
+
+    /**
+     * 追加一个收盘价
+     *
+     * @return 最新的RSI值，数据不足时返回NaN
+     */
+    public double update(double x) {
+        if (count > 0) {
+            double change = x - prev;
+            if (count <= period) {
+                gain += Math.max(change, 0);
+                loss += Math.max(-change, 0);
+                if (count == period) {
+                    gain /= period;
+                    loss /= period;
+                    value = rsi();
+                }
+            } else {
+                gain = (gain * (period - 1) + Math.max(change, 0)) / period;
+                loss = (loss * (period - 1) + Math.max(-change, 0)) / period;
+                value = rsi();
+            }
+        }
+        prev = x;
+        count++;
+        return value;
+    }
+
+    public double value() {
+        return value;
+    }
+
+    private double rsi() {
+        double total = gain + loss;
+        return total == 0 ? 0 : 100 * gain / total;
+    }
+}
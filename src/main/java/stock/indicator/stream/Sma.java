@@ -0,0 +1,33 @@
+package stock.indicator.stream;
+
+/**
+ * 简单移动平均线
+ */
+public class Sma implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private final Window window;
+    private double sum;
+    private double value = Double.NaN;
+
+    public Sma(int period) {
+        this.period = period;
+        this.window = new Window(period);
+    }
+
+    @Override
+    public double update(double x) {
+        double evicted = window.push(x);
+        sum += x;
+        if (!Double.isNaN(evicted)) {
+            sum -= evicted;
+        }
+        value = window.isFull() ? sum / period : Double.NaN;
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
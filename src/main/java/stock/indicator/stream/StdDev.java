@@ -0,0 +1,46 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 总体标准差
+ */
+public class StdDev implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private final double nbDev;
+    private final Window window;
+    private double sum;
+    private double squares;
+    private double value = Double.NaN;
+
+    public StdDev(int period, double nbDev) {
+        this.period = period;
+        this.nbDev = nbDev;
+        this.window = new Window(period);
+    }
+
+    /**
+     * 追加一个值
+     *
+     * @return 最新的标准差乘以nbDev，数据不足时返回NaN
+     */
+    public double update(double x) {
+        double evicted = window.push(x);
+        sum += x;
+        squares += x * x;
+        if (!Double.isNaN(evicted)) {
+            sum -= evicted;
+            squares -= evicted * evicted;
+        }
+        if (window.isFull()) {
+            double mean = sum / period;
+            value = Math.sqrt(Math.max(0, squares / period - mean * mean)) * nbDev;
+        }
+        return value;
+    }
+
+    public double value() {
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package stock.indicator.stream;
+
+import constant.MaType;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 随机指标KD，J = 3 * K - 2 * D
+ */
+public class Stoch implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final Extreme highest;
+    private final Extreme lowest;
+    private final MovingAverage slowK;
+    private final MovingAverage slowD;
+    //K指标值，与D指标值对齐，数据不足时为NaN
+    @Getter
+    private double k = Double.NaN;
+    //D指标值
+    @Getter
+    private double d = Double.NaN;
+
+    public Stoch(int fastK, int slowK, MaType slowKType, int slowD, MaType slowDType) {
+        this.highest = new Extreme(fastK, true);
+        this.lowest = new Extreme(fastK, false);
+        this.slowK = MovingAverage.of(slowKType, slowK);
+        this.slowD = MovingAverage.of(slowDType, slowD);
+    }
+
+    /**
+     * 追加一根K线
+     *
+     * @return 最新的K值，数据不足时返回NaN
+     */
+    public double update(double high, double low, double close) {
+        double hh = highest.update(high);
+        double ll = lowest.update(low);
+        if (Double.isNaN(hh)) {
+            return k;
+        }
+        double range = hh - ll;
+        double sk = slowK.update(range == 0 ? 0 : (close - ll) / range * 100);
+        if (Double.isNaN(sk)) {
+            return k;
+        }
+        double sd = slowD.update(sk);
+        if (!Double.isNaN(sd)) {
+            k = sk;
+            d = sd;
+        }
+        return k;
+    }
+}
@@ -0,0 +1,45 @@
+package stock.indicator.stream;
+
+/**
+ * T3移动平均线，六次指数平滑的加权组合
+ */
+public class T3 implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private final Ema[] emas = new Ema[6];
+    private final double[] e = new double[6];
+    private final double c1;
+    private final double c2;
+    private final double c3;
+    private final double c4;
+    private double value = Double.NaN;
+
+    public T3(int period, double vFactor) {
+        for (int i = 0; i < emas.length; i++) {
+            emas[i] = new Ema(period);
+        }
+        double v = vFactor;
+        this.c1 = -v * v * v;
+        this.c2 = 3 * v * v + 3 * v * v * v;
+        this.c3 = -6 * v * v - 3 * v - 3 * v * v * v;
+        this.c4 = 1 + 3 * v + v * v * v + 3 * v * v;
+    }
+
+    @Override
+    public double update(double x) {
+        double input = x;
+        for (int i = 0; i < emas.length; i++) {
+            e[i] = emas[i].update(input);
+            if (Double.isNaN(e[i])) {
+                return value;
+            }
+            input = e[i];
+        }
+        value = c1 * e[5] + c2 * e[4] + c3 * e[3] + c4 * e[2];
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
@@ -0,0 +1,37 @@
+package stock.indicator.stream;
+
+/**
+ * 三重指数移动平均线，TEMA = 3 * EMA - 3 * EMA(EMA) + EMA(EMA(EMA))
+ */
+public class Tema implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private final Ema ema1;
+    private final Ema ema2;
+    private final Ema ema3;
+    private double value = Double.NaN;
+
+    public Tema(int period) {
+        this.ema1 = new Ema(period);
+        this.ema2 = new Ema(period);
+        this.ema3 = new Ema(period);
+    }
+
+    @Override
+    public double update(double x) {
+        double e1 = ema1.update(x);
+        if (Double.isNaN(e1)) {
+            return value;
+        }
+        double e2 = ema2.update(e1);
+        if (Double.isNaN(e2)) {
+            return value;
+        }
+        value = 3 * e1 - 3 * e2 + ema3.update(e2);
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
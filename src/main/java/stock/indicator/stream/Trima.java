@@ -0,0 +1,32 @@
+package stock.indicator.stream;
+
+/**
+ * 三角移动平均线，两次简单移动平均
+ */
+public class Trima implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private final Sma sma1;
+    private final Sma sma2;
+    private double value = Double.NaN;
+
+    public Trima(int period) {
+        int n1 = period % 2 == 1 ? (period + 1) / 2 : period / 2;
+        int n2 = period % 2 == 1 ? n1 : n1 + 1;
+        this.sma1 = new Sma(n1);
+        this.sma2 = new Sma(n2);
+    }
+
+    @Override
+    public double update(double x) {
+        double s1 = sma1.update(x);
+        if (!Double.isNaN(s1)) {
+            value = sma2.update(s1);
+        }
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
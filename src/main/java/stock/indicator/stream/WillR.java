@@ -0,0 +1,37 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 威廉指标
+ */
+public class WillR implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final Extreme highest;
+    private final Extreme lowest;
+    private double value = Double.NaN;
+
+    public WillR(int period) {
+        this.highest = new Extreme(period, true);
+        this.lowest = new Extreme(period, false);
+    }
+
+    /**
+     * 追加一根K线
+     *
+     * @return 最新的WR值，数据不足时返回NaN
+     */
+    public double update(double high, double low, double close) {
+        double hh = highest.update(high);
+        double ll = lowest.update(low);
+        if (!Double.isNaN(hh)) {
+            double range = hh - ll;
+            value = range == 0 ? 0 : (hh - close) / range * -100;
+        }
+        return value;
+    }
+
+    public double value() {
+        return value;
+    }
+}
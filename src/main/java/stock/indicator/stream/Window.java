@@ -0,0 +1,50 @@
+package stock.indicator.stream;
+
+import java.io.Serializable;
+
+/**
+ * 定长滑动窗口，环形数组实现
+ */
+class Window implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final double[] values;
+    private int start;
+    private int size;
+
+    Window(int capacity) {
+        this.values = new double[capacity];
+    }
+
+    /**
+     * 追加一个值
+     *
+     * @return 被移出窗口的值，窗口未满时返回NaN
+     */
+    double push(double value) {
+        double evicted = Double.NaN;
+        if (size == values.length) {
+            evicted = values[start];
+            values[start] = value;
+            start = (start + 1) % values.length;
+        } else {
+            values[(start + size) % values.length] = value;
+            size++;
+        }
+        return evicted;
+    }
+
+    /**
+     * 按从旧到新的顺序取值
+     */
+    double get(int index) {
+        return values[(start + index) % values.length];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == values.length;
+    }
+}
@@ -0,0 +1,39 @@
+package stock.indicator.stream;
+
+/**
+ * 加权移动平均线
+ */
+public class Wma implements MovingAverage {
+    private static final long serialVersionUID = 1L;
+    private final int period;
+    private final double divider;
+    private final Window window;
+    private double sum;
+    private double weighted;
+    private double value = Double.NaN;
+
+    public Wma(int period) {
+        this.period = period;
+        this.divider = period * (period + 1) / 2.0;
+        this.window = new Window(period);
+    }
+
+    @Override
+    public double update(double x) {
+        if (window.isFull()) {
+            weighted += period * x - sum;
+            sum += x - window.push(x);
+        } else {
+            window.push(x);
+            weighted += window.size() * x;
+            sum += x;
+        }
+        value = window.isFull() ? weighted / divider : Double.NaN;
+        return value;
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
@@ -0,0 +1,217 @@
+package stock.spider;
+
+import client.HttpClientRest;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import constant.PanKouField;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import stock.bean.DataStockPanKou;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 高频轮询新浪盘口数据（SpiderApi.getPanKou），只向订阅者推送与上一次相比发生变化的字段。
+ * <p>
+ * 股票按batchSize分批，每批一个请求；返回的字节由SinaQuoteParser直接解析到每只股票固定的DataStockPanKou中，
+ * 不解码整个响应、不做正则匹配、不拆分字符串，内容不变的字段不创建对象。
+ * 回调在轮询线程中执行，传入的DataStockPanKou会在下一次轮询时被覆盖，需要保留时应自行拷贝。
+ * <p>
+ * 用法：new PanKouPoller(codes, 1000).addListener((quote, changed) -> ...).start()
+ */
+@Getter
+public class PanKouPoller implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(PanKouPoller.class);
+    //价格、数量字段的数量，序号为1~29
+    private static final int VALUES = 30;
+
+    //轮询间隔（毫秒）
+    private final long interval;
+    //每个请求的股票数量
+    private int batchSize = 500;
+    @Getter(AccessLevel.NONE)
+    private final List<Slot> slots = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Slot> index = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    //仅在轮询线程中使用
+    @Getter(AccessLevel.NONE)
+    private final SinaQuoteParser parser = new SinaQuoteParser();
+    @Getter(AccessLevel.NONE)
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param codes    股票代码，新浪格式，例如sz000001、sh600000
+     * @param interval 轮询间隔（毫秒）
+     */
+    public PanKouPoller(List<String> codes, long interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("轮询间隔必须大于0：" + interval);
+        }
+        this.interval = interval;
+        for (String code : codes) {
+            if (code != null && !code.trim().isEmpty() && !index.containsKey(code.trim())) {
+                Slot slot = new Slot(code.trim(), slots.size());
+                slots.add(slot);
+                index.put(slot.code, slot);
+            }
+        }
+    }
+
+    public PanKouPoller batchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+        return this;
+    }
+
+    public PanKouPoller addListener(Listener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 最近一次轮询得到的盘口，尚未收到数据时返回null。返回的对象会被后续轮询覆盖
+     */
+    public DataStockPanKou get(String code) {
+        Slot slot = index.get(code);
+        return slot == null || slot.quote.getTdate() == null ? null : slot.quote;
+    }
+
+    /**
+     * 开始按固定间隔轮询，上一次轮询结束后才开始计时
+     */
+    public synchronized PanKouPoller start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("waizao-pankou-%d").setDaemon(true).build());
+            scheduler.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 轮询一次全部股票，单个批次失败时记录日志并继续下一批次。start之后由轮询线程调用，不应再手动调用
+     */
+    public void poll() {
+        for (int from = 0; from < slots.size(); from += batchSize) {
+            int to = Math.min(slots.size(), from + batchSize);
+            try {
+                byte[] result = HttpClientRest.intance.getBytes(url(from, to), SpiderApi.HEADERS);
+                scan(result, from, to);
+            } catch (IOException e) {
+                log.warn("盘口轮询失败：{}~{}", slots.get(from).code, slots.get(to - 1).code, e);
+            } catch (RuntimeException e) {
+                log.error("盘口数据处理失败：{}~{}", slots.get(from).code, slots.get(to - 1).code, e);
+            }
+        }
+    }
+
+    private String url(int from, int to) {
+        StringBuilder url = new StringBuilder("https://hq.sinajs.cn/rn=").append(System.currentTimeMillis()).append("&list=");
+        for (int i = from; i < to; i++) {
+            url.append(i > from ? "," : "").append(slots.get(i).code);
+        }
+        return url.toString();
+    }
+
+    /**
+     * 扫描一个批次的返回结果，结果按请求顺序返回，代码与预期不一致时按代码查找
+     */
+    void scan(byte[] result, int from, int to) {
+        parser.reset(result, 0, result.length);
+        int expected = from;
+        while (parser.next()) {
+            Slot slot = expected < to ? slots.get(expected) : null;
+            if (slot == null || !parser.isCode(slot.code)) {
+                slot = index.get(parser.code());
+            }
+            if (slot == null) {
+                continue;
+            }
+            expected = slot.position + 1;
+            long changed = slot.update(parser);
+            if (changed != 0) {
+                for (Listener listener : listeners) {
+                    listener.onChange(slot.quote, changed);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param quote   最新盘口，只在回调期间有效
+         * @param changed 发生变化的字段，第PanKouField.getIndex()位为1表示该字段变化，可用PanKouField.in判断
+         */
+        void onChange(DataStockPanKou quote, long changed);
+    }
+
+    /**
+     * 单只股票的盘口，数值字段另存一份基本类型数组用于比较
+     */
+    private static class Slot {
+        private final String code;
+        //在slots中的位置
+        private final int position;
+        private final DataStockPanKou quote = new DataStockPanKou();
+        private final float[] values = new float[VALUES];
+
+        Slot(String code, int position) {
+            this.code = code;
+            this.position = position;
+            quote.setCode(code);
+        }
+
+        /**
+         * 按当前行情更新盘口，字段不完整时（例如停牌或代码无效返回空字符串）不更新
+         *
+         * @return 变化的字段
+         */
+        long update(SinaQuoteParser parser) {
+            if (!parser.isValid()) {
+                return 0;
+            }
+            long changed = 0;
+            boolean first = quote.getTdate() == null;
+            String name = parser.name();
+            if (!name.equals(quote.getName())) {
+                quote.setName(name);
+                changed |= 1L << PanKouField.NAME.getIndex();
+            }
+            for (int field = 1; field < VALUES; field++) {
+                float value = parser.getFloat(field);
+                if (first || Float.floatToIntBits(value) != Float.floatToIntBits(values[field])) {
+                    values[field] = value;
+                    SinaQuoteParser.set(quote, field, value);
+                    changed |= 1L << field;
+                }
+            }
+            if (!parser.isTdate(quote.getTdate())) {
+                quote.setTdate(parser.tdate());
+                changed |= 1L << PanKouField.TDATE.getIndex();
+            }
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package stock.spider;
+
+import stock.bean.DataStockPanKou;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 新浪行情（hq.sinajs.cn）返回数据的解析器，直接读取GBK编码的字节，按逗号位置定位字段，数值字段原地解析，不创建子字符串。
+ * 股票名称经过按字节内容查找的缓存，同一名称只解码一次；交易时间与已有值相同时不重新创建。
+ * <p>
+ * 完全不分配对象的读取方式为read(float[])取数值字段，date()、time()取整数形式的交易时间，isCode判断代码。
+ * read(DataStockPanKou)在交易时间变化时会创建新的tdate字符串，盘中每次行情更新时间都会变化，每条行情分配一个字符串。
+ * <p>
+ * 每条行情的格式：var hq_str_sz000001="名称,开盘价,昨收价,现价,...,日期,时间,...";，字段序号与PanKouField一致。
+ * 用法：parser.reset(bytes, 0, bytes.length); while (parser.next()) { if (parser.isValid()) parser.read(quote); }
+ * 非线程安全，每个线程使用各自的实例。
+ */
+public class SinaQuoteParser {
+    public static final Charset GBK = Charset.forName("GBK");
+    private static final byte[] PREFIX = "hq_str_".getBytes(StandardCharsets.US_ASCII);
+    //解析一条行情至少需要的字段数量：名称、29个数值字段、日期、时间
+    private static final int MIN_FIELDS = 32;
+    //名称缓存的初始与最大槽位数量，必须为2的幂，超过最大数量的一半时清空
+    private static final int NAMES = 1024;
+    private static final int MAX_NAMES = 1 << 16;
+    private static final double[] POWERS = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+
+    private byte[] data;
+    private int position;
+    private int limit;
+    //当前行情的代码位置[codeStart, codeEnd)
+    private int codeStart;
+    private int codeEnd;
+    //当前行情各字段的起始位置与字段数量，引号内容结束于end
+    private final int[] starts = new int[40];
+    private int count;
+    private int end;
+    //名称缓存，开放寻址，按字节内容查找
+    private byte[][] nameBytes = new byte[NAMES][];
+    private String[] names = new String[NAMES];
+    private int nameCount;
+
+    public SinaQuoteParser reset(byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+        this.count = 0;
+        return this;
+    }
+
+    /**
+     * 移动到下一条行情
+     *
+     * @return 没有更多行情时返回false
+     */
+    public boolean next() {
+        count = 0;
+        int prefix = indexOf(position);
+        if (prefix < 0) {
+            position = limit;
+            return false;
+        }
+        codeStart = prefix + PREFIX.length;
+        codeEnd = indexOf((byte) '=', codeStart);
+        int open = codeEnd < 0 ? -1 : indexOf((byte) '"', codeEnd);
+        int close = open < 0 ? -1 : indexOf((byte) '"', open + 1);
+        if (close < 0) {
+            position = limit;
+            return false;
+        }
+        starts[count++] = open + 1;
+        for (int i = open + 1; i < close && count < starts.length; i++) {
+            if (data[i] == ',') {
+                starts[count++] = i + 1;
+            }
+        }
+        end = close;
+        position = close + 1;
+        return true;
+    }
+
+    /**
+     * 当前行情的字段是否完整，停牌或代码无效时新浪返回空字符串
+     */
+    public boolean isValid() {
+        return count >= MIN_FIELDS;
+    }
+
+    /**
+     * 当前行情的字段数量
+     */
+    public int fields() {
+        return count;
+    }
+
+    /**
+     * 当前行情的代码是否为code，不创建对象
+     */
+    public boolean isCode(String code) {
+        if (code.length() != codeEnd - codeStart) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            if (data[codeStart + i] != code.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String code() {
+        return new String(data, codeStart, codeEnd - codeStart, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 第field个字段的数值，空字段或格式错误时返回NaN
+     */
+    public float getFloat(int field) {
+        return parseFloat(data, starts[field], fieldEnd(field));
+    }
+
+    /**
+     * 股票名称，名称的字节内容与缓存中相同时返回缓存的字符串
+     */
+    public String name() {
+        int from = starts[0];
+        int to = fieldEnd(0);
+        int mask = nameBytes.length - 1;
+        int slot = hash(data, from, to) & mask;
+        for (byte[] cached = nameBytes[slot]; cached != null; cached = nameBytes[slot]) {
+            if (equals(cached, from, to)) {
+                return names[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        byte[] bytes = new byte[to - from];
+        System.arraycopy(data, from, bytes, 0, bytes.length);
+        String name = new String(bytes, GBK);
+        if (++nameCount * 2 > nameBytes.length) {
+            resizeNames();
+            return name(bytes, name);
+        }
+        names[slot] = name;
+        nameBytes[slot] = bytes;
+        return name;
+    }
+
+    //插入一个不在缓存中的名称
+    private String name(byte[] bytes, String name) {
+        int mask = nameBytes.length - 1;
+        int slot = hash(bytes, 0, bytes.length) & mask;
+        while (nameBytes[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        names[slot] = name;
+        nameBytes[slot] = bytes;
+        return name;
+    }
+
+    //容量翻倍，已达到最大容量时清空
+    private void resizeNames() {
+        byte[][] oldBytes = nameBytes;
+        String[] oldNames = names;
+        int capacity = oldBytes.length < MAX_NAMES ? oldBytes.length * 2 : oldBytes.length;
+        nameBytes = new byte[capacity][];
+        names = new String[capacity];
+        nameCount = 1;
+        if (capacity == oldBytes.length) {
+            return;
+        }
+        for (int i = 0; i < oldBytes.length; i++) {
+            if (oldBytes[i] != null) {
+                name(oldBytes[i], oldNames[i]);
+                nameCount++;
+            }
+        }
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 交易时间（日期 时间）是否与tdate相同，不创建对象
+     */
+    public boolean isTdate(String tdate) {
+        int date = starts[30];
+        int dateEnd = fieldEnd(30);
+        int time = starts[31];
+        int timeEnd = fieldEnd(31);
+        if (tdate == null || tdate.length() != dateEnd - date + 1 + timeEnd - time || tdate.charAt(dateEnd - date) != ' ') {
+            return false;
+        }
+        for (int i = date; i < dateEnd; i++) {
+            if (data[i] != tdate.charAt(i - date)) {
+                return false;
+            }
+        }
+        for (int i = time, offset = dateEnd - date + 1 - time; i < timeEnd; i++) {
+            if (data[i] != tdate.charAt(i + offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 交易时间，格式为yyyy-MM-dd HH:mm:ss，每次调用创建新的字符串；不需要字符串时使用date()、time()
+     */
+    public String tdate() {
+        int date = starts[30];
+        int dateEnd = fieldEnd(30);
+        int time = starts[31];
+        int timeEnd = fieldEnd(31);
+        char[] chars = new char[dateEnd - date + 1 + timeEnd - time];
+        int k = 0;
+        for (int i = date; i < dateEnd; i++) {
+            chars[k++] = (char) data[i];
+        }
+        chars[k++] = ' ';
+        for (int i = time; i < timeEnd; i++) {
+            chars[k++] = (char) data[i];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 交易日期，以yyyyMMdd形式的整数表示
+     */
+    public int date() {
+        return digits(starts[30], fieldEnd(30));
+    }
+
+    /**
+     * 交易时间，以HHmmss形式的整数表示
+     */
+    public int time() {
+        return digits(starts[31], fieldEnd(31));
+    }
+
+    /**
+     * 将当前行情写入quote，代码不变；名称与交易时间内容不变时保留原对象，交易时间变化时创建新的tdate字符串
+     *
+     * @return 字段不完整时返回false，quote不变
+     */
+    public boolean read(DataStockPanKou quote) {
+        if (!isValid()) {
+            return false;
+        }
+        quote.setName(name());
+        for (int field = 1; field < 30; field++) {
+            set(quote, field, getFloat(field));
+        }
+        if (!isTdate(quote.getTdate())) {
+            quote.setTdate(tdate());
+        }
+        return true;
+    }
+
+    /**
+     * 将当前行情的数值字段写入values，values[i]为第i个字段（1~29），其余位置不变。不分配任何对象，
+     * 与date()、time()配合即可得到完整的行情
+     *
+     * @return 字段不完整时返回false，values不变
+     */
+    public boolean read(float[] values) {
+        if (!isValid()) {
+            return false;
+        }
+        for (int field = 1; field < 30; field++) {
+            values[field] = getFloat(field);
+        }
+        return true;
+    }
+
+    static void set(DataStockPanKou quote, int field, float value) {
+        switch (field) {
+            case 1: quote.setOpen(value); break;
+            case 2: quote.setYclose(value); break;
+            case 3: quote.setPrice(value); break;
+            case 4: quote.setHigh(value); break;
+            case 5: quote.setLow(value); break;
+            case 6: quote.setBid(value); break;
+            case 7: quote.setAsk(value); break;
+            case 8: quote.setV(value); break;
+            case 9: quote.setE(value); break;
+            case 10: quote.setB1v(value); break;
+            case 11: quote.setB1p(value); break;
+            case 12: quote.setB2v(value); break;
+            case 13: quote.setB2p(value); break;
+            case 14: quote.setB3v(value); break;
+            case 15: quote.setB3p(value); break;
+            case 16: quote.setB4v(value); break;
+            case 17: quote.setB4p(value); break;
+            case 18: quote.setB5v(value); break;
+            case 19: quote.setB5p(value); break;
+            case 20: quote.setS1v(value); break;
+            case 21: quote.setS1p(value); break;
+            case 22: quote.setS2v(value); break;
+            case 23: quote.setS2p(value); break;
+            case 24: quote.setS3v(value); break;
+            case 25: quote.setS3p(value); break;
+            case 26: quote.setS4v(value); break;
+            case 27: quote.setS4p(value); break;
+            case 28: quote.setS5v(value); break;
+            case 29: quote.setS5p(value); break;
+            default: throw new IllegalArgumentException("不是数值字段：" + field);
+        }
+    }
+
+    /**
+     * 解析[from, to)中的十进制小数，不创建对象；空字段或格式错误时返回NaN
+     */
+    static float parseFloat(byte[] data, int from, int to) {
+        if (from >= to) {
+            return Float.NaN;
+        }
+        boolean negative = data[from] == '-';
+        int i = negative || data[from] == '+' ? from + 1 : from;
+        long mantissa = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            byte c = data[i];
+            if (c >= '0' && c <= '9') {
+                //超过18位有效数字时舍去低位
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits += mantissa == 0 ? 0 : 1;
+                    scale += fraction ? 1 : 0;
+                } else if (!fraction) {
+                    scale--;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                return Float.NaN;
+            }
+        }
+        double value = scale >= 0 ? mantissa / POWERS[Math.min(scale, POWERS.length - 1)] : mantissa * POWERS[Math.min(-scale, POWERS.length - 1)];
+        return (float) (negative ? -value : value);
+    }
+
+    private int fieldEnd(int field) {
+        return field + 1 < count ? starts[field + 1] - 1 : end;
+    }
+
+    //[from, to)中的数字，忽略分隔符
+    private int digits(int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            if (data[i] >= '0' && data[i] <= '9') {
+                value = value * 10 + (data[i] - '0');
+            }
+        }
+        return value;
+    }
+
+    private boolean equals(byte[] cached, int from, int to) {
+        if (cached.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < cached.length; i++) {
+            if (cached[i] != data[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(int from) {
+        for (int i = from, last = limit - PREFIX.length; i <= last; i++) {
+            if (data[i] == PREFIX[0] && data[i + 1] == PREFIX[1] && data[i + 2] == PREFIX[2] && data[i + 3] == PREFIX[3]
+                    && data[i + 4] == PREFIX[4] && data[i + 5] == PREFIX[5] && data[i + 6] == PREFIX[6]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOf(byte value, int from) {
+        for (int i = from; i < limit; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,77 @@
+package stock.store;
+
+import lombok.Getter;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * 单个股票的K线列视图，从KLineStore读取时各列直接映射自本地文件，不拷贝数据；复权、周期转换等计算结果存放在堆内。
+ * date列：日线、周线、月线为epoch day（自1970-01-01起的天数），分钟线为epoch minute（按北京时间计算的自1970-01-01 00:00起的分钟数）。
+ */
+@Getter
+public class KLineColumns {
+    //资产类型，参考StockApi.getDayKLine
+    private final int type;
+    private final String code;
+    private final int ktype;
+    private final int fq;
+    private final int size;
+    private final IntBuffer date;
+    private final FloatBuffer open;
+    private final FloatBuffer close;
+    private final FloatBuffer high;
+    private final FloatBuffer low;
+    private final FloatBuffer cjl;
+    private final FloatBuffer cje;
+    private final FloatBuffer zf;
+    private final FloatBuffer zdf;
+    private final FloatBuffer zde;
+    private final FloatBuffer hsl;
+
+    /**
+     * @param columns 依次为KLineStore.FLOAT_COLUMNS中的各列
+     */
+    public KLineColumns(int type, String code, int ktype, int fq, int size, IntBuffer date, FloatBuffer[] columns) {
+        this.type = type;
+        this.code = code;
+        this.ktype = ktype;
+        this.fq = fq;
+        this.size = size;
+        this.date = date;
+        this.open = columns[0];
+        this.close = columns[1];
+        this.high = columns[2];
+        this.low = columns[3];
+        this.cjl = columns[4];
+        this.cje = columns[5];
+        this.zf = columns[6];
+        this.zdf = columns[7];
+        this.zde = columns[8];
+        this.hsl = columns[9];
+    }
+
+    /**
+     * 二分查找日期所在的下标，不存在时返回-(插入位置)-1
+     */
+    public int indexOf(int dateValue) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = date.get(mid);
+            if (value < dateValue) {
+                low = mid + 1;
+            } else if (value > dateValue) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    public int lastDate() {
+        return size == 0 ? Integer.MIN_VALUE : date.get(size - 1);
+    }
+}
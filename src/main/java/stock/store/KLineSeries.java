@@ -0,0 +1,278 @@
+package stock.store;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.AccessLevel;
+import lombok.Getter;
+import stock.DoubleAdapter;
+import stock.ExportTool;
+import stock.StringPool;
+import stock.bean.DataStockKLine;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * K线的列式结果，按列存放为连续的int/float缓冲区，替代List&lt;DataStockKLine&gt;用于数值计算。
+ * 可以存放在堆内（各列可通过array()、arrayOffset()直接访问底层数组），也可以存放在堆外直接内存中；切片共享底层数据，不拷贝。
+ * date列的取值与KLineStore一致，参考KLineStore.toDate。
+ */
+@Getter
+public class KLineSeries {
+    public static final String[] COLUMNS = {"open", "close", "high", "low", "cjl", "cje", "hsl"};
+    //返回结果中的字段名称到列序号的映射，期货行情的开盘价、最新价、最高价、最低价字段名称不同
+    private static final Map<String, Integer> FIELDS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            FIELDS.put(COLUMNS[i], i);
+        }
+        FIELDS.put("jk", 0);
+        FIELDS.put("zxj", 1);
+        FIELDS.put("zg", 2);
+        FIELDS.put("zd", 3);
+    }
+
+    //K线类别
+    private final int ktype;
+    //K线数量
+    private final int size;
+    //股票代码，多只股票的结果逐行存放
+    @Getter(AccessLevel.NONE)
+    private final String[] codes;
+    //codes中第一行的位置
+    @Getter(AccessLevel.NONE)
+    private final int offset;
+    private final IntBuffer date;
+    private final FloatBuffer open;
+    private final FloatBuffer close;
+    private final FloatBuffer high;
+    private final FloatBuffer low;
+    private final FloatBuffer cjl;
+    private final FloatBuffer cje;
+    private final FloatBuffer hsl;
+
+    private KLineSeries(int ktype, int size, String[] codes, int offset, IntBuffer date, FloatBuffer[] columns) {
+        this.ktype = ktype;
+        this.size = size;
+        this.codes = codes;
+        this.offset = offset;
+        this.date = date;
+        this.open = columns[0];
+        this.close = columns[1];
+        this.high = columns[2];
+        this.low = columns[3];
+        this.cjl = columns[4];
+        this.cje = columns[5];
+        this.hsl = columns[6];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getCode(int index) {
+        return codes[offset + index];
+    }
+
+    public int getDate(int index) {
+        return date.get(index);
+    }
+
+    public String getTdate(int index) {
+        return KLineStore.toTdate(date.get(index), ktype);
+    }
+
+    /**
+     * 是否存放在堆外直接内存中
+     */
+    public boolean isDirect() {
+        return date.isDirect();
+    }
+
+    /**
+     * 截取[from, to)范围内的K线，与原对象共享数据
+     */
+    public KLineSeries slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", size: " + size);
+        }
+        FloatBuffer[] columns = columns();
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = slice(columns[i], from, to);
+        }
+        return new KLineSeries(ktype, to - from, codes, offset + from, slice(date, from, to), columns);
+    }
+
+    /**
+     * 按股票代码拆分为多个切片，不拷贝数据，要求同一股票的K线连续存放（接口返回结果即是如此）
+     */
+    public List<KLineSeries> bySymbol() {
+        List<KLineSeries> result = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i == size || !getCode(i).equals(getCode(from))) {
+                result.add(slice(from, i));
+                from = i;
+            }
+        }
+        return result;
+    }
+
+    private FloatBuffer[] columns() {
+        return new FloatBuffer[]{open, close, high, low, cjl, cje, hsl};
+    }
+
+    private static IntBuffer slice(IntBuffer buffer, int from, int to) {
+        IntBuffer copy = buffer.duplicate();
+        copy.limit(to).position(from);
+        return copy.slice();
+    }
+
+    private static FloatBuffer slice(FloatBuffer buffer, int from, int to) {
+        FloatBuffer copy = buffer.duplicate();
+        copy.limit(to).position(from);
+        return copy.slice();
+    }
+
+    public static KLineSeries read(String data, int ktype, boolean direct) {
+        return read(new StringReader(data), ktype, direct);
+    }
+
+    /**
+     * 流式解析getDayKLine等接口的返回结果，直接写入列中，不创建DataStockKLine对象，缺失或为空的数值记为NaN
+     *
+     * @param data   返回结果，Json格式
+     * @param ktype  K线类别，用于解析交易时间，分钟线、小时线取值小于101即可
+     * @param direct 是否存放在堆外直接内存中
+     */
+    public static KLineSeries read(Reader data, int ktype, boolean direct) {
+        Builder builder = new Builder(ktype);
+        try (JsonReader reader = new JsonReader(data)) {
+            if (ExportTool.seekData(reader) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    builder.read(reader);
+                }
+                reader.endArray();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.build(direct);
+    }
+
+    /**
+     * 将已解析的K线转换为列式结果
+     */
+    public static KLineSeries of(List<DataStockKLine> bars, int ktype, boolean direct) {
+        Builder builder = new Builder(ktype);
+        for (DataStockKLine bar : bars) {
+            float[] row = builder.row;
+            row[0] = bar.getOpen();
+            row[1] = bar.getClose();
+            row[2] = bar.getHigh();
+            row[3] = bar.getLow();
+            row[4] = bar.getCjl();
+            row[5] = bar.getCje();
+            row[6] = bar.getHsl();
+            builder.add(bar.getCode(), bar.getTdate());
+        }
+        return builder.build(direct);
+    }
+
+    private static class Builder {
+        private final int ktype;
+        //同一交易时间在全市场结果中重复出现，只解析一次
+        private final Map<String, Integer> dates = new HashMap<>();
+        private final StringPool pool = StringPool.current();
+        private int size;
+        private String[] codes = new String[64];
+        private int[] date = new int[64];
+        private float[][] columns = new float[COLUMNS.length][64];
+        private final float[] row = new float[COLUMNS.length];
+
+        Builder(int ktype) {
+            this.ktype = ktype;
+        }
+
+        void read(JsonReader reader) throws IOException {
+            String code = null;
+            String tdate = null;
+            Arrays.fill(row, Float.NaN);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                Integer column = FIELDS.get(name);
+                if (column != null) {
+                    row[column] = (float) (reader.peek() == JsonToken.NUMBER ? reader.nextDouble() : DoubleAdapter.parse(reader.nextString()));
+                } else if ("code".equals(name)) {
+                    code = reader.nextString();
+                } else if ("tdate".equals(name)) {
+                    tdate = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            add(code, tdate);
+        }
+
+        //当前行的数值取自row
+        void add(String code, String tdate) {
+            if (size == date.length) {
+                int capacity = size << 1;
+                codes = Arrays.copyOf(codes, capacity);
+                date = Arrays.copyOf(date, capacity);
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = Arrays.copyOf(columns[i], capacity);
+                }
+            }
+            codes[size] = pool.intern(code);
+            date[size] = tdate == null ? 0 : dates.computeIfAbsent(tdate, key -> KLineStore.toDate(key, ktype));
+            for (int i = 0; i < columns.length; i++) {
+                columns[i][size] = row[i];
+            }
+            size++;
+        }
+
+        KLineSeries build(boolean direct) {
+            FloatBuffer[] buffers = new FloatBuffer[COLUMNS.length];
+            IntBuffer dateBuffer;
+            if (direct) {
+                //所有列放在同一块直接内存中，按列依次存放
+                ByteBuffer block = ByteBuffer.allocateDirect(Math.max(1, size) * 4 * (COLUMNS.length + 1)).order(ByteOrder.nativeOrder());
+                dateBuffer = block.asIntBuffer();
+                dateBuffer.put(date, 0, size);
+                dateBuffer = slice(dateBuffer, 0, size);
+                for (int i = 0; i < buffers.length; i++) {
+                    block.position(size * 4 * (i + 1));
+                    FloatBuffer buffer = block.slice().order(ByteOrder.nativeOrder()).asFloatBuffer();
+                    buffer.put(columns[i], 0, size);
+                    buffers[i] = slice(buffer, 0, size);
+                }
+            } else {
+                dateBuffer = IntBuffer.wrap(Arrays.copyOf(date, size));
+                for (int i = 0; i < buffers.length; i++) {
+                    buffers[i] = FloatBuffer.wrap(Arrays.copyOf(columns[i], size));
+                }
+            }
+            return new KLineSeries(ktype, size, Arrays.copyOf(codes, size), 0, dateBuffer, buffers);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package stock.store;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import stock.bean.DataStockKLine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * K线列式存储。每个（资产类型、K线类别、复权类型、股票代码）一个目录，每个字段一个文件，
+ * date为int列，其余为float列，小端序连续存储，读取时通过内存映射直接访问，不创建DataStockKLine对象。
+ * 不同资产类型的代码可能相同（例如沪深京A股000001与沪深指数000001），因此按资产类型分开保存。
+ * <p>
+ * 目录结构：root/{type}/{ktype}_{fq}/{code}/{date|open|close|...}.col，每个资产类型的股票代码字典保存在root/{type}/symbols.txt。
+ */
+@Getter
+public class KLineStore {
+    public static final String[] FLOAT_COLUMNS = {"open", "close", "high", "low", "cjl", "cje", "zf", "zdf", "zde", "hsl"};
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final File root;
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, SymbolDictionary> dictionaries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public KLineStore(File root) {
+        this.root = root;
+    }
+
+    /**
+     * 资产类型的股票代码字典，首次访问时从本地文件加载
+     */
+    public SymbolDictionary dictionary(int type) throws IOException {
+        synchronized (dictionaries) {
+            SymbolDictionary dictionary = dictionaries.get(type);
+            if (dictionary == null) {
+                dictionary = new SymbolDictionary(new File(new File(root, String.valueOf(type)), "symbols.txt"));
+                dictionaries.put(type, dictionary);
+            }
+            return dictionary;
+        }
+    }
+
+    /**
+     * 追加K线，只写入日期晚于已有最后一条的数据，bars需按日期升序排列
+     *
+     * @return 实际写入的条数
+     */
+    public int append(int type, String code, int ktype, int fq, List<DataStockKLine> bars) throws IOException {
+        if (bars.isEmpty()) {
+            return 0;
+        }
+        lock.writeLock().lock();
+        try {
+            dictionary(type).id(code, bars.get(0).getName());
+            File dir = dir(type, code, ktype, fq);
+            Files.createDirectories(dir.toPath());
+            KLineColumns existing = read(type, code, ktype, fq);
+            int rows = existing.getSize();
+            int last = existing.lastDate();
+            int count = 0;
+            for (DataStockKLine bar : bars) {
+                if (toDate(bar.getTdate(), ktype) > last) {
+                    count++;
+                }
+            }
+            if (count == 0) {
+                return 0;
+            }
+            ByteBuffer dates = ByteBuffer.allocate(count * 4).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer[] columns = new ByteBuffer[FLOAT_COLUMNS.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = ByteBuffer.allocate(count * 4).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            int previous = last;
+            for (DataStockKLine bar : bars) {
+                int date = toDate(bar.getTdate(), ktype);
+                if (date <= previous) {
+                    continue;
+                }
+                previous = date;
+                dates.putInt(date);
+                columns[0].putFloat(bar.getOpen());
+                columns[1].putFloat(bar.getClose());
+                columns[2].putFloat(bar.getHigh());
+                columns[3].putFloat(bar.getLow());
+                columns[4].putFloat(bar.getCjl());
+                columns[5].putFloat(bar.getCje());
+                columns[6].putFloat(bar.getZf());
+                columns[7].putFloat(bar.getZdf());
+                columns[8].putFloat(bar.getZde());
+                columns[9].putFloat(bar.getHsl());
+            }
+            //先写数据列，最后写date列，date列的长度即为有效行数，中途失败不会产生半行数据
+            for (int i = 0; i < columns.length; i++) {
+                write(new File(dir, FLOAT_COLUMNS[i] + ".col"), columns[i], rows);
+            }
+            write(new File(dir, "date.col"), dates, rows);
+            return dates.position() / 4;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 读取单个股票的列视图，股票不存在时返回空视图
+     */
+    public KLineColumns read(int type, String code, int ktype, int fq) throws IOException {
+        lock.readLock().lock();
+        try {
+            File dir = dir(type, code, ktype, fq);
+            File dateFile = new File(dir, "date.col");
+            int size = dateFile.exists() ? (int) (dateFile.length() / 4) : 0;
+            IntBuffer date = map(dateFile, size).asIntBuffer();
+            FloatBuffer[] columns = new FloatBuffer[FLOAT_COLUMNS.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = map(new File(dir, FLOAT_COLUMNS[i] + ".col"), size).asFloatBuffer();
+            }
+            return new KLineColumns(type, code, ktype, fq, size, date, columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 依次读取资产类型的字典中所有股票的列视图
+     */
+    public void scan(int type, int ktype, int fq, Consumer<KLineColumns> consumer) throws IOException {
+        for (String code : dictionary(type).codes()) {
+            KLineColumns columns = read(type, code, ktype, fq);
+            if (columns.getSize() > 0) {
+                consumer.accept(columns);
+            }
+        }
+    }
+
+    /**
+     * 将tdate转换为date列的取值
+     */
+    public static int toDate(String tdate, int ktype) {
+        if (ktype >= 101) {
+            return (int) LocalDate.parse(tdate.substring(0, 10)).toEpochDay();
+        }
+        return (int) (LocalDateTime.parse(tdate.substring(0, 16), MINUTE_FORMAT).toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    /**
+     * 将date列的取值转换为tdate
+     */
+    public static String toTdate(int date, int ktype) {
+        if (ktype >= 101) {
+            return LocalDate.ofEpochDay(date).toString();
+        }
+        return LocalDateTime.ofEpochSecond(date * 60L, 0, ZoneOffset.UTC).format(MINUTE_FORMAT);
+    }
+
+    private File dir(int type, String code, int ktype, int fq) {
+        return new File(new File(new File(root, String.valueOf(type)), ktype + "_" + fq), code);
+    }
+
+    private static ByteBuffer map(File file, int size) throws IOException {
+        if (size == 0 || !file.exists()) {
+            return ByteBuffer.allocate(0).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size * 4L);
+            return buffer.order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private static void write(File file, ByteBuffer data, int rows) throws IOException {
+        data.flip();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            //从有效行数处写入，覆盖上次中途失败时多写入的数据
+            channel.truncate(rows * 4L);
+            channel.position(rows * 4L);
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+    }
+}
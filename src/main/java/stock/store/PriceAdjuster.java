@@ -0,0 +1,206 @@
+package stock.store;
+
+import stock.DoubleAdapter;
+import stock.bean.DataChuQuanChuXi;
+import stock.bean.DataFuQuanYinZi;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地复权。KLineStore只保存不复权K线，本类为每只股票保存除权除息日与除权比例（除权参考价 / 前收盘价），
+ * 读取时按比例即时计算前复权、后复权价格，不再分别请求和存储三份K线。
+ * <p>
+ * 新的除权除息事件到达时，只需根据本地的不复权收盘价计算该次的除权比例并追加，已保存的K线无需重新请求。
+ * 除权比例保存在KLineStore根目录的factors/{type}目录下，每只股票一个文件，每行为除权除息日与除权比例，以制表符分隔。
+ */
+public class PriceAdjuster {
+    private final KLineStore store;
+    private final File root;
+    //键为“资产类型/股票代码”
+    private final Map<String, TreeMap<Integer, Double>> ratios = new ConcurrentHashMap<>();
+
+    public PriceAdjuster(KLineStore store) {
+        this.store = store;
+        this.root = new File(store.getRoot(), "factors");
+    }
+
+    /**
+     * 读取复权后的K线，价格列（开盘价、收盘价、最高价、最低价、涨跌额）按复权比例调整，其余列保持不变
+     *
+     * @param type 资产类型
+     * @param fq   复权类型，取值范围：0|不复权；1|前复权；2|后复权
+     */
+    public KLineColumns read(int type, String code, int ktype, int fq) throws IOException {
+        return adjust(store.read(type, code, ktype, 0), fq);
+    }
+
+    public KLineColumns adjust(KLineColumns raw, int fq) throws IOException {
+        if (fq == 0) {
+            return raw;
+        }
+        if (fq != 1 && fq != 2) {
+            throw new IllegalArgumentException("不支持的复权类型：" + fq);
+        }
+        int size = raw.getSize();
+        double[] factors = factors(raw.getType(), raw.getCode(), raw.getKtype(), raw.getDate(), size, fq);
+        FloatBuffer[] columns = {scale(raw.getOpen(), factors), scale(raw.getClose(), factors), scale(raw.getHigh(), factors),
+                scale(raw.getLow(), factors), raw.getCjl(), raw.getCje(), raw.getZf(), raw.getZdf(), scale(raw.getZde(), factors), raw.getHsl()};
+        return new KLineColumns(raw.getType(), raw.getCode(), raw.getKtype(), fq, size, raw.getDate(), columns);
+    }
+
+    /**
+     * 每根K线的复权系数，复权价格 = 不复权价格 × 系数。
+     * 后复权以第一次除权之前为基准，系数为该K线及之前各次除权比例乘积的倒数；前复权以最新价格为基准，系数为该K线之后各次除权比例的乘积。
+     */
+    public double[] factors(int type, String code, int ktype, IntBuffer date, int size, int fq) throws IOException {
+        TreeMap<Integer, Double> events = ratios(type, code);
+        synchronized (events) {
+            return factors(events, ktype, date, size, fq);
+        }
+    }
+
+    private static double[] factors(TreeMap<Integer, Double> events, int ktype, IntBuffer date, int size, int fq) {
+        double[] factors = new double[size];
+        double total = 1;
+        for (double ratio : events.values()) {
+            total *= ratio;
+        }
+        double cumulative = 1;
+        int i = 0;
+        for (Map.Entry<Integer, Double> event : events.entrySet()) {
+            int start = ktype >= 101 ? event.getKey() : event.getKey() * 1440;
+            for (; i < size && date.get(i) < start; i++) {
+                factors[i] = fq == 2 ? 1 / cumulative : total / cumulative;
+            }
+            cumulative *= event.getValue();
+        }
+        for (; i < size; i++) {
+            factors[i] = fq == 2 ? 1 / cumulative : total / cumulative;
+        }
+        return factors;
+    }
+
+    /**
+     * 根据除权除息数据追加除权比例，除权参考价 =（前收盘价 - 每股派息 + 配股价 × 每股配股）/（1 + 每股送转 + 每股配股），
+     * 前收盘价取本地不复权日线中除权除息日之前的最后一个收盘价。已存在的除权除息日会被覆盖。
+     *
+     * @return 实际追加的事件数量，本地没有除权除息日之前的日线时跳过该事件
+     */
+    public int addEvents(int type, String code, Collection<DataChuQuanChuXi> events) throws IOException {
+        KLineColumns daily = store.read(type, code, 101, 0);
+        int count = 0;
+        synchronized (ratios(type, code)) {
+            TreeMap<Integer, Double> ratios = ratios(type, code);
+            for (DataChuQuanChuXi event : events) {
+                int day = (int) LocalDate.parse(event.getTdate().substring(0, 10)).toEpochDay();
+                int index = daily.indexOf(day);
+                int previous = (index >= 0 ? index : -index - 1) - 1;
+                if (previous < 0) {
+                    continue;
+                }
+                double close = daily.getClose().get(previous);
+                double reference = (close - event.getPxbl() + event.getPgjg() * event.getPgbl()) / (1 + event.getSgbl() + event.getPgbl());
+                if (close > 0 && reference > 0) {
+                    ratios.put(day, reference / close);
+                    count++;
+                }
+            }
+            if (count > 0) {
+                save(type, code, ratios);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 按复权因子设置除权比例，复权因子按“自tdate起生效”解释，相邻两个因子之比即为该日的除权比例。
+     * 后复权因子以1为初始值；前复权因子以第一条为基准。会替换该股票已有的全部除权比例。
+     *
+     * @param fq 复权因子的类型，取值范围：1|前复权；2|后复权
+     */
+    public void setFactors(int type, String code, Collection<DataFuQuanYinZi> factors, int fq) throws IOException {
+        TreeMap<Integer, Double> sorted = new TreeMap<>();
+        for (DataFuQuanYinZi factor : factors) {
+            double value = DoubleAdapter.parse(factor.getFqfactor());
+            if (value > 0) {
+                sorted.put((int) LocalDate.parse(factor.getTdate().substring(0, 10)).toEpochDay(), value);
+            }
+        }
+        TreeMap<Integer, Double> result = new TreeMap<>();
+        double previous = fq == 2 ? 1 : Double.NaN;
+        for (Map.Entry<Integer, Double> entry : sorted.entrySet()) {
+            if (!Double.isNaN(previous) && entry.getValue() != previous) {
+                result.put(entry.getKey(), previous / entry.getValue());
+            }
+            previous = entry.getValue();
+        }
+        synchronized (ratios(type, code)) {
+            TreeMap<Integer, Double> ratios = ratios(type, code);
+            ratios.clear();
+            ratios.putAll(result);
+            save(type, code, ratios);
+        }
+    }
+
+    /**
+     * 除权除息日（epoch day）到除权比例的映射，首次访问时从本地文件加载
+     */
+    private TreeMap<Integer, Double> ratios(int type, String code) throws IOException {
+        String key = type + "/" + code;
+        TreeMap<Integer, Double> cached = ratios.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        TreeMap<Integer, Double> loaded = new TreeMap<>();
+        File file = new File(new File(root, String.valueOf(type)), code + ".txt");
+        if (file.exists()) {
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                String[] parts = line.split("\t");
+                if (parts.length == 2) {
+                    loaded.put((int) LocalDate.parse(parts[0]).toEpochDay(), Double.parseDouble(parts[1]));
+                }
+            }
+        }
+        TreeMap<Integer, Double> previous = ratios.putIfAbsent(key, loaded);
+        return previous == null ? loaded : previous;
+    }
+
+    private void save(int type, String code, TreeMap<Integer, Double> ratios) throws IOException {
+        File dir = new File(root, String.valueOf(type));
+        Files.createDirectories(dir.toPath());
+        File file = new File(dir, code + ".txt");
+        File temp = File.createTempFile(code + ".txt", ".tmp", dir);
+        try (BufferedWriter writer = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<Integer, Double> entry : ratios.entrySet()) {
+                writer.write(LocalDate.ofEpochDay(entry.getKey()).toString());
+                writer.write('\t');
+                writer.write(Double.toString(entry.getValue()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static FloatBuffer scale(FloatBuffer column, double[] factors) {
+        float[] out = new float[factors.length];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (float) (column.get(i) * factors[i]);
+        }
+        return FloatBuffer.wrap(out);
+    }
+}
@@ -0,0 +1,85 @@
+package stock.store;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 股票代码字典，将股票代码映射为从0开始的连续整数id，便于以数组方式处理全市场数据。
+ * 字典只追加不删除，持久化为文本文件，每行一个股票代码与名称，以制表符分隔。
+ */
+public class SymbolDictionary {
+    private final File file;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> codes = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+
+    public SymbolDictionary(File file) throws IOException {
+        this.file = file;
+        if (file.exists()) {
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] parts = line.split("\t", -1);
+                ids.put(parts[0], codes.size());
+                codes.add(parts[0]);
+                names.add(parts.length > 1 ? parts[1] : "");
+            }
+        }
+    }
+
+    /**
+     * 获取股票代码的id，不存在时新增并持久化
+     */
+    public synchronized int id(String code, String name) throws IOException {
+        Integer id = ids.get(code);
+        if (id != null) {
+            return id;
+        }
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(code);
+            writer.write('\t');
+            writer.write(name == null ? "" : name.replace('\t', ' ').replace('\n', ' '));
+            writer.newLine();
+        }
+        id = codes.size();
+        ids.put(code, id);
+        codes.add(code);
+        names.add(name == null ? "" : name);
+        return id;
+    }
+
+    /**
+     * 获取股票代码的id，不存在时返回-1
+     */
+    public synchronized int find(String code) {
+        Integer id = ids.get(code);
+        return id == null ? -1 : id;
+    }
+
+    public synchronized String code(int id) {
+        return codes.get(id);
+    }
+
+    public synchronized String name(int id) {
+        return names.get(id);
+    }
+
+    public synchronized int size() {
+        return codes.size();
+    }
+
+    public synchronized List<String> codes() {
+        return Collections.unmodifiableList(new ArrayList<>(codes));
+    }
+}
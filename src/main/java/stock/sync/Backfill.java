@@ -0,0 +1,311 @@
+package stock.sync;
+
+import client.RetryPolicy;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import constant.MethodType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import stock.BatchResult;
+import stock.api.BatchStockApi;
+import stock.api.StockApi;
+import stock.bean.DataStockKLine;
+import stock.bean.DataStockMinuteKLine;
+import stock.cache.TradingCalendar;
+import stock.store.KLineStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 历史数据回补。将任务拆分为（股票代码批次 × 日期窗口），每个批次按日期从早到晚依次请求，批次之间并发执行，
+ * 请求速率由HttpClientRest上配置的RateLimiter控制，并发数只需足以占满限流额度。
+ * <p>
+ * 每完成一个窗口即在检查点文件中记录该批次已完成的日期与当前窗口大小，中断后重新运行会从检查点继续。
+ * 检查点以（任务标识, 批次）为键，任务标识包含数据集与参数，同一个检查点文件可以记录多个任务，互不影响。
+ * 窗口大小根据上一次返回的数据量自适应调整，使每次请求的返回条数接近targetRows。
+ */
+@Getter
+public class Backfill {
+    private static final Logger log = LoggerFactory.getLogger(Backfill.class);
+    //检查点文件的最小写入间隔（毫秒）
+    private static final long SAVE_INTERVAL = 1000;
+
+    private final File checkpointFile;
+    //同时执行的批次数量
+    private final int parallelism;
+    //每批的股票代码数量
+    private int chunkSize = BatchStockApi.MAX_CODES;
+    //每次请求期望的返回条数
+    private int targetRows = 50000;
+    //第一个窗口的天数
+    private int initialWindowDays = 30;
+    //窗口天数的上限
+    private int maxWindowDays = 3660;
+    //单个窗口请求失败时的重试策略
+    private RetryPolicy retryPolicy = RetryPolicy.custom();
+    //交易日历，设置后跳过不含交易日的窗口
+    private TradingCalendar calendar;
+
+    @Getter(AccessLevel.NONE)
+    private final Properties checkpoint = new Properties();
+    @Getter(AccessLevel.NONE)
+    private long lastSave;
+
+    public Backfill(File checkpointFile, int parallelism) throws IOException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism必须大于0");
+        }
+        this.checkpointFile = checkpointFile;
+        this.parallelism = parallelism;
+        if (checkpointFile.exists()) {
+            try (InputStream in = Files.newInputStream(checkpointFile.toPath())) {
+                checkpoint.load(in);
+            }
+        }
+    }
+
+    public Backfill chunkSize(int chunkSize) {
+        this.chunkSize = Math.max(1, Math.min(BatchStockApi.MAX_CODES, chunkSize));
+        return this;
+    }
+
+    public Backfill targetRows(int targetRows) {
+        this.targetRows = Math.max(1, targetRows);
+        return this;
+    }
+
+    public Backfill initialWindowDays(int days) {
+        this.initialWindowDays = Math.max(1, days);
+        return this;
+    }
+
+    public Backfill maxWindowDays(int days) {
+        this.maxWindowDays = Math.max(1, days);
+        return this;
+    }
+
+    public Backfill retryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    public Backfill calendar(TradingCalendar calendar) {
+        this.calendar = calendar;
+        return this;
+    }
+
+    /**
+     * 回补分线数据，以K线类别1、不复权写入本地存储。
+     * KLineStore只追加晚于已有数据的K线，回补应在EodSync开始写入这些股票之前完成。
+     */
+    public BatchResult<SyncResult> minuteKLine(StockApi stockApi, int type, Collection<String> codes, LocalDate start, LocalDate end, String token, KLineStore store) throws IOException {
+        return run(String.format("minute/%s", type), codes, start, end,
+                (code, from, to) -> stockApi.getMinuteKLine(type, code, from + " 00:00:00", to + " 23:59:59", "all", token, "", MethodType.GET),
+                (code, to, rows) -> appendAll(store, type, 1, 0, rows, EodSync::toKLine, DataStockMinuteKLine::getCode));
+    }
+
+    /**
+     * 回补日线，参数含义参考StockApi.getDayKLine。
+     * 与EodSync.dayKLine相同，只支持不复权（fq=0）、后复权（fq=2）的日线（ktype=101），周线、月线由Resampler从日线合成
+     */
+    public BatchResult<SyncResult> dayKLine(StockApi stockApi, int type, Collection<String> codes, int ktype, int fq, LocalDate start, LocalDate end, String token, KLineStore store) throws IOException {
+        if (ktype != 101 || fq == 1) {
+            throw new IllegalArgumentException("回补只支持不复权或后复权的日线，ktype：" + ktype + "，fq：" + fq);
+        }
+        return run(String.format("day/%s/%s_%s", type, ktype, fq), codes, start, end,
+                (code, from, to) -> stockApi.getDayKLine(type, code, ktype, fq, from.toString(), to.toString(), "all", token, "", MethodType.GET),
+                (code, to, rows) -> appendAll(store, type, ktype, fq, rows, bar -> bar, DataStockKLine::getCode));
+    }
+
+    /**
+     * 通用回补
+     *
+     * @param job     任务标识，与批次一起作为检查点的键，不同的数据集或参数必须使用不同的标识
+     * @param codes   股票代码，不限数量，按chunkSize分批
+     * @param fetcher 请求一个批次在[from, to]内的数据
+     * @param sink    保存一个窗口的数据，可能被多个线程同时调用
+     * @return 每个批次的完成情况，SyncResult的id为批次的股票代码，tdate为已完成的日期，rows为本次运行写入的条数
+     */
+    public <T> BatchResult<SyncResult> run(String job, Collection<String> codes, LocalDate start, LocalDate end, Fetcher<T> fetcher, Sink<T> sink) throws IOException {
+        if (job == null || job.isEmpty()) {
+            throw new IllegalArgumentException("任务标识不能为空");
+        }
+        List<String> chunks = split(codes);
+        List<SyncResult> results = Collections.synchronizedList(new ArrayList<>());
+        List<BatchResult.ChunkError> failures = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder().setNameFormat("waizao-backfill-%d").setDaemon(true).build());
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                executor.execute(() -> {
+                    for (int index = next.getAndIncrement(); index < chunks.size(); index = next.getAndIncrement()) {
+                        String chunk = chunks.get(index);
+                        try {
+                            results.add(backfill(job, chunk, start, end, fetcher, sink));
+                        } catch (Exception e) {
+                            log.error("回补失败：{}", chunk, e);
+                            failures.add(new BatchResult.ChunkError(index, chunk, e));
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                log.debug("回补进度：{}/{}", Math.min(next.get(), chunks.size()), chunks.size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("回补被中断");
+        } finally {
+            save(true);
+        }
+        return new BatchResult<>(new ArrayList<>(results), new ArrayList<>(failures));
+    }
+
+    private <T> SyncResult backfill(String job, String chunk, LocalDate start, LocalDate end, Fetcher<T> fetcher, Sink<T> sink) throws Exception {
+        LocalDate from = start;
+        int window = initialWindowDays;
+        String key = job + "|" + chunk;
+        String state;
+        synchronized (checkpoint) {
+            state = checkpoint.getProperty(key);
+        }
+        if (state != null) {
+            String[] parts = state.split("\\|");
+            LocalDate done = LocalDate.parse(parts[0]);
+            if (!done.isBefore(from)) {
+                from = done.plusDays(1);
+            }
+            window = Integer.parseInt(parts[1]);
+        }
+        int total = 0;
+        while (!from.isAfter(end)) {
+            LocalDate to = from.plusDays(window - 1);
+            if (to.isAfter(end)) {
+                to = end;
+            }
+            boolean closed = calendar != null && calendar.covers(from) && calendar.covers(to) && calendar.count(from, to) == 0;
+            List<T> rows = closed ? Collections.emptyList() : fetch(fetcher, chunk, from, to);
+            sink.accept(chunk, to, rows);
+            total += rows.size();
+            //按本窗口的数据密度调整下一个窗口，单次最多放大或缩小4倍，避免个别空窗口导致跳变
+            long days = to.toEpochDay() - from.toEpochDay() + 1;
+            double perDay = (double) rows.size() / days;
+            long next = perDay <= 0 ? window * 4L : Math.round(targetRows / perDay);
+            window = (int) Math.max(1, Math.min(maxWindowDays, Math.max(window / 4, Math.min(window * 4L, next))));
+            checkpoint(key, to, window);
+            from = to.plusDays(1);
+        }
+        return new SyncResult(chunk, end.toString(), total);
+    }
+
+    private <T> List<T> fetch(Fetcher<T> fetcher, String chunk, LocalDate from, LocalDate to) throws Exception {
+        long begin = System.currentTimeMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<T> rows = fetcher.fetch(chunk, from, to);
+                return rows == null ? Collections.emptyList() : rows;
+            } catch (Exception e) {
+                long delay = retryPolicy.delay(attempt, ThreadLocalRandom.current().nextDouble());
+                boolean expired = retryPolicy.getDeadline() > 0 && System.currentTimeMillis() + delay - begin > retryPolicy.getDeadline();
+                if (attempt >= retryPolicy.getMaxAttempts() || expired || !retryPolicy.getRetryable().test(e)) {
+                    throw e;
+                }
+                log.warn("第{}次请求失败，{}毫秒后重试：{} {}~{}", attempt, delay, chunk, from, to, e);
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    private void checkpoint(String key, LocalDate done, int window) throws IOException {
+        synchronized (checkpoint) {
+            checkpoint.setProperty(key, done + "|" + window);
+        }
+        save(false);
+    }
+
+    private void save(boolean force) throws IOException {
+        synchronized (checkpoint) {
+            long now = System.currentTimeMillis();
+            if (!force && now - lastSave < SAVE_INTERVAL) {
+                return;
+            }
+            lastSave = now;
+            File parent = checkpointFile.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+            File temp = File.createTempFile(checkpointFile.getName(), ".tmp", parent);
+            try (OutputStream out = Files.newOutputStream(temp.toPath())) {
+                checkpoint.store(out, "Backfill checkpoint: job|chunk=done date|window days");
+            } catch (IOException e) {
+                temp.delete();
+                throw e;
+            }
+            Files.move(temp.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private List<String> split(Collection<String> codes) {
+        List<String> chunks = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        for (String code : codes) {
+            if (code == null || code.trim().isEmpty()) {
+                continue;
+            }
+            chunk.add(code.trim());
+            if (chunk.size() == chunkSize) {
+                chunks.add(String.join(",", chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(String.join(",", chunk));
+        }
+        return chunks;
+    }
+
+    private static <T> void appendAll(KLineStore store, int type, int ktype, int fq, List<T> rows, Function<T, DataStockKLine> converter,
+                                      Function<T, String> code) throws IOException {
+        Map<String, List<DataStockKLine>> groups = new LinkedHashMap<>();
+        for (T row : rows) {
+            groups.computeIfAbsent(code.apply(row), key -> new ArrayList<>()).add(converter.apply(row));
+        }
+        for (Map.Entry<String, List<DataStockKLine>> entry : groups.entrySet()) {
+            List<DataStockKLine> bars = entry.getValue();
+            bars.sort(Comparator.comparing(DataStockKLine::getTdate));
+            store.append(type, entry.getKey(), ktype, fq, bars);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Fetcher<T> {
+        List<T> fetch(String codes, LocalDate from, LocalDate to) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Sink<T> {
+        void accept(String codes, LocalDate to, List<T> rows) throws IOException;
+    }
+}
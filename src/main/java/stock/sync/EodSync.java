@@ -0,0 +1,312 @@
+package stock.sync;
+
+import constant.MethodType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import stock.JsonIterator;
+import stock.api.StockApi;
+import stock.bean.DataStockDailyMarketCopy;
+import stock.bean.DataStockHourKLine;
+import stock.bean.DataStockKLine;
+import stock.bean.DataStockMinuteKLine;
+import stock.bean.DataUpdateInfo;
+import stock.cache.TradingCalendar;
+import stock.store.KLineStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * 收盘后全市场增量同步。轮询getUpdateInfo，找出更新时间晚于本地水位的数据集，
+ * 按日期以code=all逐日请求新增的数据并写入KLineStore，写入成功后推进水位。
+ * <p>
+ * 水位保存在KLineStore根目录的watermarks.properties中，首次运行时只同步数据集最近更新的那一天。
+ * 水位落后超过maxCatchUpDays时每次运行只同步最早的maxCatchUpDays天，水位只推进到实际同步过的日期，剩余的日期由后续运行继续补齐。
+ * 周线、月线不单独同步，需要时由Resampler从本地日线合成。
+ * 用法：new EodSync(stockApi, store, token).dayKLine("日线数据的id", 1, 101, 0).minuteKLine("分线数据的id", 1).run()
+ */
+@Getter
+public class EodSync {
+    private static final Logger log = LoggerFactory.getLogger(EodSync.class);
+    private static final String WATERMARK_FILE = "watermarks.properties";
+
+    private final StockApi stockApi;
+    private final KLineStore store;
+    private final String token;
+    @Getter(AccessLevel.NONE)
+    private final List<Dataset> datasets = new ArrayList<>();
+    //水位落后较多时每次运行最多补齐的天数
+    private int maxCatchUpDays = 30;
+    //交易日历，设置后只请求交易日
+    private TradingCalendar calendar;
+
+    public EodSync(StockApi stockApi, KLineStore store, String token) {
+        this.stockApi = stockApi;
+        this.store = store;
+        this.token = token;
+    }
+
+    public EodSync maxCatchUpDays(int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("补齐天数必须大于0：" + days);
+        }
+        this.maxCatchUpDays = days;
+        return this;
+    }
+
+    public EodSync calendar(TradingCalendar calendar) {
+        this.calendar = calendar;
+        return this;
+    }
+
+    /**
+     * 每日行情，收盘后即为当天的日K线，以不复权日线写入本地存储
+     *
+     * @param id   getUpdateInfo中对应的数据标识ID
+     * @param type 资产类型，参考StockApi.getDailyMarket
+     */
+    public EodSync dailyMarket(String id, int type) {
+        datasets.add(new Dataset(id, type, 101, 0, day -> stockApi.iterateDailyMarket(type, "all", day, day, "all", token, "", MethodType.GET),
+                EodSync::toKLine));
+        return this;
+    }
+
+    /**
+     * 日线，参数含义参考StockApi.getDayKLine。
+     * 只支持不复权（fq=0）、后复权（fq=2）的日线（ktype=101）：前复权的历史价格在每次除权除息后整体变化，
+     * 周线、月线在周期结束前每天变化，逐日增量写入都会留下过期的K线。周线、月线由Resampler从日线合成
+     */
+    public EodSync dayKLine(String id, int type, int ktype, int fq) {
+        if (ktype != 101 || fq == 1) {
+            throw new IllegalArgumentException("增量同步只支持不复权或后复权的日线，ktype：" + ktype + "，fq：" + fq);
+        }
+        datasets.add(new Dataset(id, type, ktype, fq, day -> stockApi.iterateDayKLine(type, "all", ktype, fq, day, day, "all", token, "", MethodType.GET),
+                Function.identity()));
+        return this;
+    }
+
+    /**
+     * 时线数据，以不复权写入本地存储，参数含义参考StockApi.getHourKLine
+     */
+    public EodSync hourKLine(String id, int type, int ktype) {
+        datasets.add(new Dataset(id, type, ktype, 0, day -> stockApi.iterateHourKLine(type, "all", ktype, day + " 00:00:00", day + " 23:59:59", "all", token, "", MethodType.GET),
+                EodSync::toKLine));
+        return this;
+    }
+
+    /**
+     * 分线数据，以K线类别1、不复权写入本地存储，参数含义参考StockApi.getMinuteKLine
+     */
+    public EodSync minuteKLine(String id, int type) {
+        datasets.add(new Dataset(id, type, 1, 0, day -> stockApi.iterateMinuteKLine(type, "all", day + " 00:00:00", day + " 23:59:59", "all", token, "", MethodType.GET),
+                EodSync::toKLine));
+        return this;
+    }
+
+    /**
+     * 执行一次同步，只处理更新时间晚于本地水位的数据集
+     *
+     * @return 每个数据集每天的同步结果
+     */
+    public List<SyncResult> run() throws IOException {
+        Map<String, String> updates = new HashMap<>();
+        for (DataUpdateInfo info : stockApi.getUpdateInfo("all", token, "", MethodType.GET)) {
+            updates.put(info.getId(), info.getUpdateDate());
+        }
+        Properties watermarks = loadWatermarks();
+        List<SyncResult> results = new ArrayList<>();
+        for (Dataset dataset : datasets) {
+            String updateDate = updates.get(dataset.id);
+            String watermark = watermarks.getProperty(dataset.id);
+            if (updateDate == null || updateDate.isEmpty() || (watermark != null && updateDate.compareTo(watermark) <= 0)) {
+                continue;
+            }
+            List<LocalDate> days = pending(watermark, updateDate);
+            boolean complete = days.size() <= maxCatchUpDays;
+            if (!complete) {
+                log.warn("数据集{}的水位{}落后{}天，本次只同步到{}，剩余日期在后续运行中补齐", dataset.id, watermark, days.size(), days.get(maxCatchUpDays - 1));
+                days = days.subList(0, maxCatchUpDays);
+            }
+            //水位只推进到实际同步过的日期，同步完全部日期后取数据集的更新时间
+            for (LocalDate day : days) {
+                results.add(new SyncResult(dataset.id, day.toString(), dataset.sync(day.toString())));
+                watermarks.setProperty(dataset.id, day.toString());
+                saveWatermarks(watermarks);
+            }
+            if (complete) {
+                watermarks.setProperty(dataset.id, updateDate);
+                saveWatermarks(watermarks);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 水位之后需要同步的全部日期：水位与更新时间在同一天时重新同步当天，否则从水位的下一天开始
+     */
+    private List<LocalDate> pending(String watermark, String updateDate) {
+        LocalDate to = LocalDate.parse(updateDate.substring(0, 10));
+        LocalDate from = to;
+        if (watermark != null) {
+            LocalDate last = LocalDate.parse(watermark.substring(0, 10));
+            from = last.isBefore(to) ? last.plusDays(1) : to;
+        }
+        return tradingDays(from, to);
+    }
+
+    /**
+     * [from, to]之间可能有数据的日期，设置交易日历时只保留交易日，否则剔除周末
+     */
+    protected List<LocalDate> tradingDays(LocalDate from, LocalDate to) {
+        if (calendar != null && calendar.covers(from) && calendar.covers(to)) {
+            return calendar.tradingDays(from, to);
+        }
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    private Properties loadWatermarks() throws IOException {
+        Properties properties = new Properties();
+        File file = new File(store.getRoot(), WATERMARK_FILE);
+        if (file.exists()) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    private void saveWatermarks(Properties properties) throws IOException {
+        File file = new File(store.getRoot(), WATERMARK_FILE);
+        Files.createDirectories(store.getRoot().toPath());
+        File temp = File.createTempFile(WATERMARK_FILE, ".tmp", store.getRoot());
+        try (OutputStream out = Files.newOutputStream(temp.toPath())) {
+            properties.store(out, "EodSync watermarks");
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static DataStockKLine toKLine(DataStockDailyMarketCopy market) {
+        DataStockKLine bar = new DataStockKLine();
+        bar.setCode(market.getCode());
+        bar.setName(market.getName());
+        bar.setKtype(101);
+        bar.setTdate(market.getTdate());
+        bar.setOpen(market.getJrkpj());
+        bar.setClose(market.getPrice());
+        bar.setHigh(market.getZgj());
+        bar.setLow(market.getZdj());
+        bar.setCjl(market.getCjl());
+        bar.setCje(market.getCje());
+        bar.setZf(market.getZhfu());
+        bar.setZdf(market.getZdfd());
+        bar.setZde(market.getZded());
+        bar.setHsl(market.getHslv());
+        return bar;
+    }
+
+    static DataStockKLine toKLine(DataStockHourKLine hour) {
+        DataStockKLine bar = new DataStockKLine();
+        bar.setCode(hour.getCode());
+        bar.setName(hour.getName());
+        bar.setKtype(hour.getKtype());
+        bar.setTdate(hour.getTdate());
+        bar.setOpen(hour.getOpen());
+        bar.setClose(hour.getClose());
+        bar.setHigh(hour.getHigh());
+        bar.setLow(hour.getLow());
+        bar.setCjl(hour.getCjl());
+        bar.setCje(hour.getCje());
+        bar.setHsl(hour.getHsl());
+        return bar;
+    }
+
+    static DataStockKLine toKLine(DataStockMinuteKLine minute) {
+        DataStockKLine bar = new DataStockKLine();
+        bar.setCode(minute.getCode());
+        bar.setKtype(1);
+        bar.setTdate(minute.getTdate());
+        bar.setOpen(minute.getOpen());
+        bar.setClose(minute.getClose());
+        bar.setHigh(minute.getHigh());
+        bar.setLow(minute.getLow());
+        bar.setCjl(minute.getCjl());
+        bar.setCje(minute.getCje());
+        return bar;
+    }
+
+    @FunctionalInterface
+    private interface Source<T> {
+        JsonIterator<T> open(String day) throws IOException;
+    }
+
+    /**
+     * 单个数据集：按天请求全市场数据，同一股票的K线连续返回，逐只股票写入本地存储
+     */
+    private class Dataset {
+        private final String id;
+        private final int type;
+        private final int ktype;
+        private final int fq;
+        private final Source<?> source;
+        private final Function<Object, DataStockKLine> converter;
+
+        @SuppressWarnings("unchecked")
+        <T> Dataset(String id, int type, int ktype, int fq, Source<T> source, Function<T, DataStockKLine> converter) {
+            this.id = id;
+            this.type = type;
+            this.ktype = ktype;
+            this.fq = fq;
+            this.source = source;
+            this.converter = (Function<Object, DataStockKLine>) converter;
+        }
+
+        int sync(String day) throws IOException {
+            int rows = 0;
+            List<DataStockKLine> bars = new ArrayList<>();
+            try (JsonIterator<?> iterator = source.open(day)) {
+                while (iterator.hasNext()) {
+                    DataStockKLine bar = converter.apply(iterator.next());
+                    if (!bars.isEmpty() && !bars.get(0).getCode().equals(bar.getCode())) {
+                        rows += flush(bars);
+                    }
+                    bars.add(bar);
+                }
+            }
+            return rows + flush(bars);
+        }
+
+        private int flush(List<DataStockKLine> bars) throws IOException {
+            if (bars.isEmpty()) {
+                return 0;
+            }
+            bars.sort(Comparator.comparing(DataStockKLine::getTdate));
+            int rows = store.append(type, bars.get(0).getCode(), ktype, fq, bars);
+            bars.clear();
+            return rows;
+        }
+    }
+}
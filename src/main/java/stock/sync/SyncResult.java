@@ -0,0 +1,20 @@
+package stock.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * 单个数据集单日的同步结果
+ */
+@Data
+@AllArgsConstructor
+public class SyncResult implements Serializable {
+    //数据标识ID，与getUpdateInfo返回的id一致
+    private String id;
+    //同步的交易日期，yyyy-MM-dd格式
+    private String tdate;
+    //写入本地存储的K线条数
+    private int rows;
+}
@@ -0,0 +1,34 @@
+package stock.watch;
+
+/**
+ * 与java.util.concurrent.Flow（JDK 9）相同的发布-订阅接口。项目以Java 8编译，无法直接使用JDK中的Flow，
+ * 接口签名与语义保持一致，升级JDK后可直接替换为java.util.concurrent.Flow。
+ */
+public final class Flow {
+    private Flow() {
+    }
+
+    @FunctionalInterface
+    public interface Publisher<T> {
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    public interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    public interface Subscription {
+        /**
+         * 增加n条需求，n必须大于0
+         */
+        void request(long n);
+
+        void cancel();
+    }
+}
@@ -0,0 +1,468 @@
+package stock.watch;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import constant.MethodType;
+import constant.OverflowType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import stock.api.BatchStockApi;
+import stock.api.StockApi;
+import stock.bean.DataWatchStockTimeKLine;
+import stock.bean.DataWatchStockYiDong;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 自选股实时订阅，将getWatchStockTimeKLine、getWatchStockYiDong按股票代码集合发布为Flow.Publisher。
+ * <p>
+ * 所有订阅共用上游轮询：分时行情每个资产类型一个轮询，请求全部订阅代码的并集（每批50个，代码数量超过allThreshold时改为请求all）；
+ * 盘口异动只有一个轮询，按订阅的代码过滤。新增订阅者只增加本地分发，不增加请求；最后一个订阅取消后轮询停止。
+ * 分时行情只发布交易时间有变化的数据，新订阅者立即收到已有的最新分时行情；盘口异动按（代码、异动类型、交易时间）去重，不重放历史。
+ * 去重只记录有订阅者的代码，某个代码的订阅全部取消后清除其记录，之后重新订阅时会再次收到当前数据。
+ * <p>
+ * 每个订阅有独立的有界缓冲区，数据在executor中按订阅者的request依次发送，不阻塞轮询线程；
+ * 缓冲区已满时按OverflowType丢弃最旧的数据，或按股票代码合并为最新值。
+ * 用法：hub.timeKLine(1, codes, OverflowType.Conflate, 256).subscribe(subscriber)
+ */
+@Getter
+public class WatchHub implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(WatchHub.class);
+    //去重时保留的最近数据数量
+    private static final int SEEN = 1 << 16;
+    //正常结束的标记
+    private static final Throwable COMPLETE = new Throwable("complete", null, false, false) {
+    };
+
+    private final StockApi stockApi;
+    private final String token;
+    //分时行情的轮询间隔（毫秒），接口数据更新周期为1分钟
+    private long timeKLineInterval = 60000;
+    //盘口异动的轮询间隔（毫秒）
+    private long yiDongInterval = 60000;
+    //订阅代码超过该数量时以code=all请求全部数据
+    private int allThreshold = 1000;
+    @Getter(AccessLevel.NONE)
+    private final Executor executor;
+    @Getter(AccessLevel.NONE)
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("waizao-watch-%d").setDaemon(true).build());
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, Feed<DataWatchStockTimeKLine>> timeKLineFeeds = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private Feed<DataWatchStockYiDong> yiDongFeed;
+    @Getter(AccessLevel.NONE)
+    private volatile boolean closed;
+
+    public WatchHub(StockApi stockApi, String token) {
+        this(stockApi, token, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor 向订阅者发送数据的线程池
+     */
+    public WatchHub(StockApi stockApi, String token, Executor executor) {
+        this.stockApi = stockApi;
+        this.token = token;
+        this.executor = executor;
+    }
+
+    /**
+     * 轮询间隔在轮询开始时生效，应在订阅之前设置
+     */
+    public WatchHub timeKLineInterval(long interval) {
+        this.timeKLineInterval = Math.max(1, interval);
+        return this;
+    }
+
+    public WatchHub yiDongInterval(long interval) {
+        this.yiDongInterval = Math.max(1, interval);
+        return this;
+    }
+
+    public WatchHub allThreshold(int allThreshold) {
+        this.allThreshold = allThreshold;
+        return this;
+    }
+
+    /**
+     * 分时行情
+     *
+     * @param type     资产类型，参考StockApi.getWatchStockTimeKLine
+     * @param codes    股票代码
+     * @param overflow 缓冲区已满时的处理方式
+     * @param capacity 每个订阅的缓冲区大小
+     */
+    public Flow.Publisher<DataWatchStockTimeKLine> timeKLine(int type, Collection<String> codes, OverflowType overflow, int capacity) {
+        Set<String> set = codes(codes);
+        if (set.isEmpty()) {
+            throw new IllegalArgumentException("股票代码不能为空");
+        }
+        Feed<DataWatchStockTimeKLine> feed;
+        synchronized (timeKLineFeeds) {
+            feed = timeKLineFeeds.computeIfAbsent(type, key -> new Feed<>("分时行情" + type, timeKLineInterval, true,
+                    all -> timeKLines(type, all), DataWatchStockTimeKLine::getCode, row -> row.getCode() + "|" + row.getTdate()));
+        }
+        return publisher(feed, set, overflow, capacity);
+    }
+
+    /**
+     * 盘口异动
+     *
+     * @param codes 股票代码，为空时订阅全部股票
+     */
+    public Flow.Publisher<DataWatchStockYiDong> yiDong(Collection<String> codes, OverflowType overflow, int capacity) {
+        Feed<DataWatchStockYiDong> feed;
+        synchronized (timeKLineFeeds) {
+            if (yiDongFeed == null) {
+                yiDongFeed = new Feed<>("盘口异动", yiDongInterval, false, all -> stockApi.getWatchStockYiDong("all", token, "", MethodType.GET),
+                        DataWatchStockYiDong::getCode, row -> row.getCode() + "|" + row.getYdtype() + "|" + row.getTdate());
+            }
+            feed = yiDongFeed;
+        }
+        return publisher(feed, codes(codes), overflow, capacity);
+    }
+
+    /**
+     * 停止所有轮询，并向尚未取消的订阅者发送onComplete
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        List<Feed<?>> feeds;
+        synchronized (timeKLineFeeds) {
+            feeds = new ArrayList<>(timeKLineFeeds.values());
+            if (yiDongFeed != null) {
+                feeds.add(yiDongFeed);
+            }
+        }
+        for (Feed<?> feed : feeds) {
+            feed.complete();
+        }
+    }
+
+    private List<DataWatchStockTimeKLine> timeKLines(int type, Set<String> codes) throws IOException {
+        if (codes.size() > allThreshold) {
+            return stockApi.getWatchStockTimeKLine(type, "all", "all", token, "", MethodType.GET);
+        }
+        List<DataWatchStockTimeKLine> rows = new ArrayList<>();
+        for (String chunk : BatchStockApi.split(codes)) {
+            rows.addAll(stockApi.getWatchStockTimeKLine(type, chunk, "all", token, "", MethodType.GET));
+        }
+        return rows;
+    }
+
+    private static Set<String> codes(Collection<String> codes) {
+        Set<String> set = new HashSet<>();
+        if (codes != null) {
+            for (String code : codes) {
+                if (code != null && !code.trim().isEmpty()) {
+                    set.add(code.trim());
+                }
+            }
+        }
+        return Collections.unmodifiableSet(set);
+    }
+
+    private <T> Flow.Publisher<T> publisher(Feed<T> feed, Set<String> codes, OverflowType overflow, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("缓冲区大小必须大于0：" + capacity);
+        }
+        return subscriber -> {
+            Subscription<T> subscription = new Subscription<>(feed, codes, overflow, capacity, subscriber);
+            subscriber.onSubscribe(subscription);
+            if (closed) {
+                subscription.error(new IllegalStateException("WatchHub已关闭"));
+            } else {
+                feed.add(subscription);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Poller<T> {
+        List<T> poll(Set<String> codes) throws IOException;
+    }
+
+    /**
+     * 一个上游轮询，按引用计数维护所有订阅代码的并集
+     */
+    private class Feed<T> {
+        private final String name;
+        private final long interval;
+        //新订阅者是否先收到各代码的最新数据
+        private final boolean replay;
+        private final Poller<T> poller;
+        private final Function<T, String> code;
+        private final Function<T, String> key;
+        private final Map<String, Integer> refs = new HashMap<>();
+        //不限代码（订阅全部股票）的订阅数量
+        private int wildcards;
+        //有代码的引用计数归零后置为true，由轮询线程清理这些代码的去重记录
+        private boolean released;
+        private final List<Subscription<T>> subscriptions = new CopyOnWriteArrayList<>();
+        private final Map<String, T> last = new HashMap<>();
+        //最近发布过的数据及其代码，只记录有订阅者的代码，仅在轮询线程中使用
+        private final Map<String, String> seen = new LinkedHashMap<String, String>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > SEEN;
+            }
+        };
+        private ScheduledFuture<?> task;
+
+        Feed(String name, long interval, boolean replay, Poller<T> poller, Function<T, String> code, Function<T, String> key) {
+            this.name = name;
+            this.interval = interval;
+            this.replay = replay;
+            this.poller = poller;
+            this.code = code;
+            this.key = key;
+        }
+
+        synchronized void add(Subscription<T> subscription) {
+            if (subscription.cancelled) {
+                return;
+            }
+            if (subscription.codes.isEmpty()) {
+                wildcards++;
+            }
+            for (String code : subscription.codes) {
+                refs.merge(code, 1, Integer::sum);
+                T row = replay ? last.get(code) : null;
+                if (row != null) {
+                    subscription.offer(code, row);
+                }
+            }
+            subscriptions.add(subscription);
+            if (task == null && !closed) {
+                task = scheduler.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        synchronized void remove(Subscription<T> subscription) {
+            if (!subscriptions.remove(subscription)) {
+                return;
+            }
+            if (subscription.codes.isEmpty() && --wildcards == 0) {
+                released = true;
+            }
+            for (String code : subscription.codes) {
+                if (refs.computeIfPresent(code, (key, count) -> count > 1 ? count - 1 : null) == null) {
+                    last.remove(code);
+                    released = true;
+                }
+            }
+            if (subscriptions.isEmpty() && task != null) {
+                task.cancel(false);
+                task = null;
+            }
+        }
+
+        void complete() {
+            for (Subscription<T> subscription : subscriptions) {
+                subscription.complete();
+            }
+            subscriptions.clear();
+        }
+
+        private void poll() {
+            Set<String> codes;
+            boolean all;
+            boolean prune;
+            synchronized (this) {
+                codes = new HashSet<>(refs.keySet());
+                all = wildcards > 0;
+                prune = released && !all;
+                released = false;
+            }
+            //不再有订阅者的代码，之后重新订阅时应重新发布
+            if (prune) {
+                seen.values().removeIf(rowCode -> !codes.contains(rowCode));
+            }
+            List<T> rows;
+            try {
+                rows = poller.poll(codes);
+            } catch (IOException | RuntimeException e) {
+                log.warn("{}轮询失败", name, e);
+                return;
+            }
+            for (T row : rows) {
+                String rowCode = code.apply(row);
+                if (rowCode == null || (!all && !codes.contains(rowCode)) || seen.put(key.apply(row), rowCode) != null) {
+                    continue;
+                }
+                if (replay) {
+                    synchronized (this) {
+                        if (refs.containsKey(rowCode)) {
+                            last.put(rowCode, row);
+                        }
+                    }
+                }
+                for (Subscription<T> subscription : subscriptions) {
+                    if (subscription.codes.isEmpty() || subscription.codes.contains(rowCode)) {
+                        subscription.offer(rowCode, row);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 单个订阅：有界缓冲区加需求计数，发送过程在executor中串行执行
+     */
+    private class Subscription<T> implements Flow.Subscription, Runnable {
+        private final Feed<T> feed;
+        private final Set<String> codes;
+        private final OverflowType overflow;
+        private final int capacity;
+        private final Flow.Subscriber<? super T> subscriber;
+        //DropOldest使用队列，Conflate按股票代码保存最新值，保持首次到达的顺序
+        private final ArrayDeque<T> queue = new ArrayDeque<>();
+        private final LinkedHashMap<String, T> latest = new LinkedHashMap<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        //结束信号，非null时发送完onComplete或onError后结束；onComplete在已缓冲的数据全部发送之后发出，onError立即发出
+        private volatile Throwable terminal;
+
+        Subscription(Feed<T> feed, Set<String> codes, OverflowType overflow, int capacity, Flow.Subscriber<? super T> subscriber) {
+            this.feed = feed;
+            this.codes = codes;
+            this.overflow = overflow;
+            this.capacity = capacity;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error(new IllegalArgumentException("request的数量必须大于0：" + n));
+                return;
+            }
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            feed.remove(this);
+            synchronized (this) {
+                queue.clear();
+                latest.clear();
+            }
+        }
+
+        void offer(String code, T item) {
+            synchronized (this) {
+                if (overflow == OverflowType.Conflate) {
+                    latest.put(code, item);
+                    if (latest.size() > capacity) {
+                        Iterator<T> eldest = latest.values().iterator();
+                        eldest.next();
+                        eldest.remove();
+                    }
+                } else {
+                    if (queue.size() >= capacity) {
+                        queue.poll();
+                    }
+                    queue.add(item);
+                }
+            }
+            drain();
+        }
+
+        void complete() {
+            error(COMPLETE);
+        }
+
+        void error(Throwable throwable) {
+            feed.remove(this);
+            terminal = throwable;
+            drain();
+        }
+
+        private synchronized T poll() {
+            if (overflow == OverflowType.Conflate) {
+                Iterator<T> iterator = latest.values().iterator();
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                T item = iterator.next();
+                iterator.remove();
+                return item;
+            }
+            return queue.poll();
+        }
+
+        private synchronized boolean isEmpty() {
+            return overflow == OverflowType.Conflate ? latest.isEmpty() : queue.isEmpty();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int missed = 1; missed != 0; missed = wip.addAndGet(-missed)) {
+                if (cancelled) {
+                    continue;
+                }
+                Throwable signal = terminal;
+                if (signal != null && signal != COMPLETE) {
+                    cancelled = true;
+                    subscriber.onError(signal);
+                    continue;
+                }
+                while (demand.get() > 0 && !cancelled && !failed()) {
+                    T item = poll();
+                    if (item == null) {
+                        break;
+                    }
+                    demand.decrementAndGet();
+                    try {
+                        subscriber.onNext(item);
+                    } catch (RuntimeException e) {
+                        log.error("订阅者处理数据失败，取消订阅", e);
+                        cancel();
+                    }
+                }
+                if (!cancelled && terminal == COMPLETE && isEmpty()) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                }
+            }
+        }
+
+        private boolean failed() {
+            Throwable signal = terminal;
+            return signal != null && signal != COMPLETE;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package stock.spider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import stock.bean.DataStockPanKou;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SinaQuoteParser的耗时与内存分配基准，每次操作解析一个含500只股票的响应。
+ * <p>
+ * 运行main方法会附带GC分析器执行全部基准，并检查不分配对象的读取方式每次操作分配的字节数，超出时抛出异常：
+ * readQuote（名称、时间不变时写入DataStockPanKou）与readValues（read(float[]) + date()/time()）应接近0，
+ * readQuoteTimeChanged每条行情分配一个tdate字符串，作为对照。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SinaQuoteParserBenchmark {
+    private static final int QUOTES = 500;
+    //不分配对象的基准每次操作允许的字节数，容纳JMH自身的误差
+    private static final double MAX_BYTES_PER_OP = 64;
+
+    private final SinaQuoteParser parser = new SinaQuoteParser();
+    private final DataStockPanKou[] quotes = new DataStockPanKou[QUOTES];
+    private final float[] values = new float[30];
+    private byte[] open;
+    private byte[] close;
+    private int round;
+
+    @Setup
+    public void setup() {
+        open = response("14:59:57");
+        close = response("15:00:00");
+        for (int i = 0; i < QUOTES; i++) {
+            quotes[i] = new DataStockPanKou();
+        }
+        //预热名称缓存和tdate
+        readQuote();
+    }
+
+    @Benchmark
+    public DataStockPanKou[] readQuote() {
+        parser.reset(close, 0, close.length);
+        for (int i = 0; parser.next(); i++) {
+            parser.read(quotes[i]);
+        }
+        return quotes;
+    }
+
+    @Benchmark
+    public DataStockPanKou[] readQuoteTimeChanged() {
+        byte[] data = (round++ & 1) == 0 ? open : close;
+        parser.reset(data, 0, data.length);
+        for (int i = 0; parser.next(); i++) {
+            parser.read(quotes[i]);
+        }
+        return quotes;
+    }
+
+    @Benchmark
+    public void readValues(Blackhole blackhole) {
+        parser.reset(close, 0, close.length);
+        while (parser.next()) {
+            if (parser.read(values)) {
+                blackhole.consume(values[3]);
+                blackhole.consume(parser.date());
+                blackhole.consume(parser.time());
+            }
+        }
+    }
+
+    private static byte[] response(String time) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < QUOTES; i++) {
+            String code = String.format("%s%06d", i % 2 == 0 ? "sz" : "sh", i % 2 == 0 ? i : 600000 + i);
+            float price = 10 + i * 0.01f;
+            text.append("var hq_str_").append(code).append("=\"测试股票").append(i).append(',')
+                    .append(price).append(',').append(price - 0.1f).append(',').append(price + 0.05f).append(',')
+                    .append(price + 0.2f).append(',').append(price - 0.2f).append(',')
+                    .append(price + 0.04f).append(',').append(price + 0.05f).append(',')
+                    .append(12345600 + i).append(',').append(130000000.123 + i);
+            for (int level = 0; level < 10; level++) {
+                text.append(',').append(100 * (level + 1)).append(',').append(price + (level < 5 ? -0.01f : 0.01f) * (level % 5));
+            }
+            text.append(",2024-05-10,").append(time).append(",00\";\n");
+        }
+        return text.toString().getBytes(SinaQuoteParser.GBK);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(SinaQuoteParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            if (name.endsWith(".readQuoteTimeChanged")) {
+                continue;
+            }
+            for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+                if (entry.getKey().endsWith("gc.alloc.rate.norm") && entry.getValue().getScore() > MAX_BYTES_PER_OP) {
+                    throw new IllegalStateException(String.format("%s每次操作分配了%.1f字节", name, entry.getValue().getScore()));
+                }
+            }
+        }
+    }
+}